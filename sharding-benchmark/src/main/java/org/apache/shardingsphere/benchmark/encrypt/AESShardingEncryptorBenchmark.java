@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.encrypt;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.core.strategy.encrypt.impl.AESShardingEncryptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for decrypting cells with AES sharding encryptor.
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AESShardingEncryptorBenchmark {
+    
+    @Param({"1000000"})
+    private int cellCount;
+    
+    private AESShardingEncryptor encryptor;
+    
+    private List<String> ciphertexts;
+    
+    /**
+     * Prepare ciphertexts of cells.
+     */
+    @Setup
+    public void setUp() {
+        encryptor = new AESShardingEncryptor();
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "benchmark");
+        encryptor.setProperties(properties);
+        List<Object> plaintexts = new ArrayList<>(cellCount);
+        for (int i = 0; i < cellCount; i++) {
+            plaintexts.add("plaintext_" + i);
+        }
+        ciphertexts = encryptor.batchEncrypt(plaintexts);
+    }
+    
+    /**
+     * Decrypt cell by cell with cipher created for every cell, which is the way before ciphers cached.
+     *
+     * @param blackhole black hole
+     * @throws GeneralSecurityException general security exception
+     */
+    @Benchmark
+    public void decryptEachCellWithoutCachedCipher(final Blackhole blackhole) throws GeneralSecurityException {
+        for (String each : ciphertexts) {
+            Cipher cipher = Cipher.getInstance("AES");
+            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(Arrays.copyOf(DigestUtils.sha1("benchmark"), 16), "AES"));
+            blackhole.consume(new String(cipher.doFinal(Base64.decodeBase64(each))));
+        }
+    }
+    
+    /**
+     * Decrypt cell by cell.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void decryptEachCell(final Blackhole blackhole) {
+        for (String each : ciphertexts) {
+            blackhole.consume(encryptor.decrypt(each));
+        }
+    }
+    
+    /**
+     * Decrypt all cells in batch.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void decryptInBatch(final Blackhole blackhole) {
+        blackhole.consume(encryptor.batchDecrypt(ciphertexts));
+    }
+}
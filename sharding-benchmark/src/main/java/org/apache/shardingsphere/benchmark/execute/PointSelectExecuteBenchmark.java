@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.execute;
+
+import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for executing single shard point select with SQL execute callback.
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PointSelectExecuteBenchmark {
+    
+    private static final String URL = "jdbc:h2:mem:point_select_benchmark;DB_CLOSE_DELAY=-1;MODE=MYSQL";
+    
+    private static final String SQL = "SELECT order_id, user_id, status FROM t_order_0 WHERE order_id = ?";
+    
+    private final DatabaseType databaseType = DatabaseTypes.getActualDatabaseType("H2");
+    
+    private final Map<String, Object> shardingExecuteDataMap = new HashMap<>();
+    
+    private Connection connection;
+    
+    private PreparedStatement preparedStatement;
+    
+    private Collection<StatementExecuteUnit> statementExecuteUnits;
+    
+    private SQLExecuteCallback<Integer> sqlExecuteCallback;
+    
+    /**
+     * Prepare table and statement of single shard.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(URL, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order_0 (order_id INT PRIMARY KEY, user_id INT, status VARCHAR(45))");
+            statement.execute("MERGE INTO t_order_0 VALUES (1, 10, 'init')");
+        }
+        preparedStatement = connection.prepareStatement(SQL);
+        preparedStatement.setInt(1, 1);
+        RouteUnit routeUnit = new RouteUnit("ds_0", new SQLUnit(SQL, Collections.<Object>singletonList(1)));
+        statementExecuteUnits = Collections.singletonList(new StatementExecuteUnit(routeUnit, preparedStatement, ConnectionMode.MEMORY_STRICTLY));
+        sqlExecuteCallback = new SQLExecuteCallback<Integer>(databaseType, true) {
+            
+            @Override
+            protected Integer executeSQL(final RouteUnit routeUnit, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                try (ResultSet resultSet = ((PreparedStatement) statement).executeQuery()) {
+                    return resultSet.next() ? resultSet.getInt(2) : 0;
+                }
+            }
+        };
+    }
+    
+    /**
+     * Close statement and connection.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        preparedStatement.close();
+        connection.close();
+    }
+    
+    /**
+     * Execute point select with SQL execute callback.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void executeWithCallback(final Blackhole blackhole) throws SQLException {
+        blackhole.consume(sqlExecuteCallback.execute(statementExecuteUnits, true, shardingExecuteDataMap));
+    }
+    
+    /**
+     * Execute point select with JDBC only, as baseline of callback overhead.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void executeWithJDBC(final Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            blackhole.consume(resultSet.next() ? resultSet.getInt(2) : 0);
+        }
+    }
+    
+    /**
+     * Parse data source meta data from URL, which was done for every execution before cached.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void parseDataSourceMetaData(final Blackhole blackhole) throws SQLException {
+        blackhole.consume(databaseType.getDataSourceMetaData(connection.getMetaData().getURL()));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * In memory query result for benchmark.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class InMemoryQueryResult implements QueryResult {
+    
+    private final List<String> columnLabels;
+    
+    private final int[] columnTypes;
+    
+    private final Object[][] rows;
+    
+    private int currentRowIndex = -1;
+    
+    private boolean wasNull;
+    
+    @Override
+    public boolean next() {
+        return ++currentRowIndex < rows.length;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = rows[currentRowIndex][columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) {
+        return getValue(columnLabels.indexOf(columnLabel) + 1, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return getValue(columnLabel, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLException(String.format("Unsupported type: %s", type));
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        throw new SQLException(String.format("Unsupported type: %s", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public boolean isCaseSensitive(final int columnIndex) {
+        return false;
+    }
+    
+    @Override
+    public int getColumnType(final int columnIndex) {
+        return columnTypes[columnIndex - 1];
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sharding rule fixture for benchmark.
+ *
+ * <p>
+ * Logic tables are named as {@code t_order_0} to {@code t_order_n}, with columns {@code order_id}, {@code user_id} and {@code status}.
+ * Databases are sharded by {@code user_id} and tables are sharded by {@code order_id}.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingRuleFixture {
+    
+    /**
+     * Create sharding rule.
+     *
+     * @param tableRuleCount count of table rules
+     * @param dataSourceCount count of data sources
+     * @param tableCountPerDataSource count of actual tables per data source of every table rule
+     * @return sharding rule
+     */
+    public static ShardingRule createShardingRule(final int tableRuleCount, final int dataSourceCount, final int tableCountPerDataSource) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        for (int i = 0; i < tableRuleCount; i++) {
+            String logicTable = "t_order_" + i;
+            TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration(
+                    logicTable, String.format("ds_${0..%d}.%s_${0..%d}", dataSourceCount - 1, logicTable, tableCountPerDataSource - 1));
+            tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", String.format("%s_${order_id %% %d}", logicTable, tableCountPerDataSource)));
+            shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        }
+        shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", String.format("ds_${user_id %% %d}", dataSourceCount)));
+        Collection<String> dataSourceNames = new ArrayList<>(dataSourceCount);
+        for (int i = 0; i < dataSourceCount; i++) {
+            dataSourceNames.add("ds_" + i);
+        }
+        return new ShardingRule(shardingRuleConfig, dataSourceNames);
+    }
+    
+    /**
+     * Create sharding meta data with MySQL URLs.
+     *
+     * @param shardingRule sharding rule
+     * @param databaseType database type
+     * @return sharding meta data
+     */
+    public static ShardingMetaData createShardingMetaData(final ShardingRule shardingRule, final DatabaseType databaseType) {
+        Map<String, String> dataSourceURLs = new LinkedHashMap<>();
+        for (String each : shardingRule.getShardingDataSourceNames().getDataSourceNames()) {
+            dataSourceURLs.put(each, "jdbc:mysql://127.0.0.1:3306/" + each);
+        }
+        return new ShardingMetaData(new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, databaseType), createShardingTableMetaData(shardingRule));
+    }
+    
+    /**
+     * Create sharding table meta data.
+     *
+     * @param shardingRule sharding rule
+     * @return sharding table meta data
+     */
+    public static ShardingTableMetaData createShardingTableMetaData(final ShardingRule shardingRule) {
+        Map<String, TableMetaData> tables = new HashMap<>(shardingRule.getTableRules().size(), 1);
+        for (TableRule each : shardingRule.getTableRules()) {
+            tables.put(each.getLogicTable(), new TableMetaData(Arrays.asList(
+                    new ColumnMetaData("order_id", "BIGINT", true), new ColumnMetaData("user_id", "BIGINT", false), new ColumnMetaData("status", "VARCHAR", false)),
+                    Collections.<String>emptyList()));
+        }
+        return new ShardingTableMetaData(tables);
+    }
+}
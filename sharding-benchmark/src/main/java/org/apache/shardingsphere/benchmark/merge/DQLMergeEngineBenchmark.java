@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.benchmark.fixture.InMemoryQueryResult;
+import org.apache.shardingsphere.benchmark.fixture.ShardingRuleFixture;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.router.sharding.ParsingSQLRouter;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for merging query results of every kind of DQL with DQL merge engine.
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DQLMergeEngineBenchmark {
+    
+    @Param({"ITERATOR", "ORDER_BY", "ORDER_BY_LOSER_TREE", "LIMIT", "GROUP_BY_STREAM", "GROUP_BY_MEMORY", "GROUP_BY_SPILL", "DISTINCT"})
+    private MergeCase mergeCase;
+    
+    @Param({"16", "256"})
+    private int shardCount;
+    
+    @Param({"1000"})
+    private int rowCountPerShard;
+    
+    private DatabaseType databaseType;
+    
+    private ShardingProperties shardingProperties;
+    
+    private SQLRouteResult sqlRouteResult;
+    
+    private Object[][][] shardRows;
+    
+    /**
+     * Prepare route result and sorted rows for every shard.
+     */
+    @Setup
+    public void setUp() {
+        databaseType = DatabaseTypes.getActualDatabaseType("MySQL");
+        ShardingRule shardingRule = ShardingRuleFixture.createShardingRule(1, 1, shardCount);
+        ParsingSQLRouter router = new ParsingSQLRouter(shardingRule, ShardingRuleFixture.createShardingMetaData(shardingRule, databaseType), databaseType, new ParsingResultCache());
+        sqlRouteResult = router.route(router.parse(mergeCase.sql, false), Collections.emptyList());
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MERGE_ORDER_BY_LOSER_TREE_ENABLED.getKey(), String.valueOf(MergeCase.ORDER_BY_LOSER_TREE == mergeCase));
+        props.setProperty(ShardingPropertiesConstant.MERGE_GROUP_BY_MEMORY_MAX_ROWS.getKey(), String.valueOf(MergeCase.GROUP_BY_SPILL == mergeCase ? rowCountPerShard / 4 : 0));
+        shardingProperties = new ShardingProperties(props);
+        shardRows = createShardRows();
+    }
+    
+    private Object[][][] createShardRows() {
+        Random random = new Random(0L);
+        Object[][][] result = new Object[shardCount][rowCountPerShard][];
+        for (int i = 0; i < shardCount; i++) {
+            for (int j = 0; j < rowCountPerShard; j++) {
+                result[i][j] = mergeCase.isGroupBy() ? new Object[] {(long) j, (long) random.nextInt(100)} : new Object[] {(long) j * shardCount + i, (long) j % 100, "init"};
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Merge query results and iterate all merged rows.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        MergedResult mergedResult = new DQLMergeEngine(databaseType, shardingProperties, sqlRouteResult, createQueryResults()).merge();
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+            blackhole.consume(mergedResult.getValue(2, Object.class));
+        }
+    }
+    
+    private List<QueryResult> createQueryResults() {
+        List<QueryResult> result = new ArrayList<>(shardCount);
+        for (Object[][] each : shardRows) {
+            result.add(mergeCase.isGroupBy() ? new InMemoryQueryResult(Arrays.asList("user_id", "cnt"), new int[] {Types.BIGINT, Types.BIGINT}, each)
+                    : new InMemoryQueryResult(Arrays.asList("order_id", "user_id", "status"), new int[] {Types.BIGINT, Types.BIGINT, Types.VARCHAR}, each));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    public enum MergeCase {
+        
+        ITERATOR("SELECT order_id, user_id, status FROM t_order_0"),
+        
+        ORDER_BY("SELECT order_id, user_id, status FROM t_order_0 ORDER BY order_id"),
+        
+        ORDER_BY_LOSER_TREE("SELECT order_id, user_id, status FROM t_order_0 ORDER BY order_id"),
+        
+        LIMIT("SELECT order_id, user_id, status FROM t_order_0 ORDER BY order_id LIMIT 1000, 100"),
+        
+        GROUP_BY_STREAM("SELECT user_id, COUNT(*) AS cnt FROM t_order_0 GROUP BY user_id ORDER BY user_id"),
+        
+        GROUP_BY_MEMORY("SELECT user_id, COUNT(*) AS cnt FROM t_order_0 GROUP BY user_id ORDER BY cnt DESC"),
+        
+        GROUP_BY_SPILL("SELECT user_id, COUNT(*) AS cnt FROM t_order_0 GROUP BY user_id ORDER BY cnt DESC"),
+        
+        DISTINCT("SELECT DISTINCT order_id, user_id, status FROM t_order_0");
+        
+        private final String sql;
+        
+        private boolean isGroupBy() {
+            return name().startsWith("GROUP_BY");
+        }
+    }
+}
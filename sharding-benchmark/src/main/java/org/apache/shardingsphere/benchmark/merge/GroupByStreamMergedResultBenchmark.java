@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import org.apache.shardingsphere.benchmark.fixture.InMemoryQueryResult;
+import org.apache.shardingsphere.core.constant.AggregationType;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResult;
+import org.apache.shardingsphere.core.optimize.statement.encrypt.condition.EncryptCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.groupby.GroupBy;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.item.SelectItem;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.item.SelectItems;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderBy;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.Pagination;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for group by stream merged result, primitive aggregation versus big decimal aggregation.
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GroupByStreamMergedResultBenchmark {
+    
+    @Param({"16", "64"})
+    private int shardCount;
+    
+    @Param({"10000"})
+    private int groupCount;
+    
+    @Param({"BIGINT", "DOUBLE", "DECIMAL"})
+    private String aggregationColumnType;
+    
+    private Object[][][] shardRows;
+    
+    private int[] columnTypes;
+    
+    private Map<String, Integer> labelAndIndexMap;
+    
+    private ShardingSelectOptimizedStatement optimizedStatement;
+    
+    /**
+     * Prepare rows grouped and sorted by id for every shard.
+     *
+     * @throws ReflectiveOperationException reflective operation exception
+     */
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        int sumColumnType = Types.class.getField(aggregationColumnType).getInt(null);
+        columnTypes = new int[] {Types.BIGINT, Types.BIGINT, sumColumnType};
+        Random random = new Random(0L);
+        shardRows = new Object[shardCount][][];
+        for (int i = 0; i < shardCount; i++) {
+            shardRows[i] = new Object[groupCount][];
+            for (int j = 0; j < groupCount; j++) {
+                long sum = random.nextInt(Integer.MAX_VALUE);
+                shardRows[i][j] = new Object[] {(long) j, (long) random.nextInt(100), Types.DOUBLE == sumColumnType ? (Object) (double) sum : (Object) sum};
+            }
+        }
+        labelAndIndexMap = new HashMap<>(3, 1);
+        labelAndIndexMap.put("id", 1);
+        labelAndIndexMap.put("COUNT(*)", 2);
+        labelAndIndexMap.put("SUM(num)", 3);
+        optimizedStatement = createOptimizedStatement();
+    }
+    
+    private ShardingSelectOptimizedStatement createOptimizedStatement() {
+        AggregationSelectItem countSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(*)", null);
+        countSelectItem.setIndex(2);
+        AggregationSelectItem sumSelectItem = new AggregationSelectItem(AggregationType.SUM, "(num)", null);
+        sumSelectItem.setIndex(3);
+        SelectItems selectItems = new SelectItems(Arrays.<SelectItem>asList(countSelectItem, sumSelectItem), false, 0);
+        return new ShardingSelectOptimizedStatement(new SelectStatement(), Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(), 
+                new GroupBy(Collections.singletonList(createOrderByItem()), 0), new OrderBy(Collections.singletonList(createOrderByItem()), false), 
+                selectItems, new Pagination(null, null, Collections.emptyList()));
+    }
+    
+    private OrderByItem createOrderByItem() {
+        OrderByItem result = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        result.setIndex(1);
+        return result;
+    }
+    
+    /**
+     * Merge group by with stream.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeGroupByStream(final Blackhole blackhole) throws SQLException {
+        MergedResult mergedResult = new GroupByStreamMergedResult(labelAndIndexMap, createQueryResults(), optimizedStatement);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(2, Object.class));
+            blackhole.consume(mergedResult.getValue(3, Object.class));
+        }
+    }
+    
+    private List<QueryResult> createQueryResults() {
+        List<QueryResult> result = new ArrayList<>(shardCount);
+        for (Object[][] each : shardRows) {
+            result.add(new InMemoryQueryResult(Arrays.asList("id", "COUNT(*)", "SUM(num)"), columnTypes, each));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import org.apache.shardingsphere.benchmark.fixture.InMemoryQueryResult;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.orderby.OrderByLoserTreeMergedResult;
+import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for order by stream merged results, priority queue versus loser tree.
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OrderByMergedResultBenchmark {
+    
+    @Param({"16", "256", "1024"})
+    private int shardCount;
+    
+    @Param({"1000"})
+    private int rowCountPerShard;
+    
+    private Object[][][] shardRows;
+    
+    private Collection<OrderByItem> orderByItems;
+    
+    /**
+     * Prepare sorted rows for every shard.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(0L);
+        shardRows = new Object[shardCount][][];
+        for (int i = 0; i < shardCount; i++) {
+            long[] values = new long[rowCountPerShard];
+            for (int j = 0; j < rowCountPerShard; j++) {
+                values[j] = random.nextInt(Integer.MAX_VALUE);
+            }
+            Arrays.sort(values);
+            shardRows[i] = new Object[rowCountPerShard][];
+            for (int j = 0; j < rowCountPerShard; j++) {
+                shardRows[i][j] = new Object[] {values[j], "name_" + j};
+            }
+        }
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        orderByItems = Collections.singletonList(orderByItem);
+    }
+    
+    /**
+     * Merge with priority queue.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeWithPriorityQueue(final Blackhole blackhole) throws SQLException {
+        consume(new OrderByStreamMergedResult(createQueryResults(), orderByItems), blackhole);
+    }
+    
+    /**
+     * Merge with loser tree.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeWithLoserTree(final Blackhole blackhole) throws SQLException {
+        consume(new OrderByLoserTreeMergedResult(createQueryResults(), orderByItems), blackhole);
+    }
+    
+    private List<QueryResult> createQueryResults() {
+        List<QueryResult> result = new ArrayList<>(shardCount);
+        for (Object[][] each : shardRows) {
+            result.add(new InMemoryQueryResult(Arrays.asList("id", "name"), new int[] {Types.BIGINT, Types.VARCHAR}, each));
+        }
+        return result;
+    }
+    
+    private void consume(final MergedResult mergedResult, final Blackhole blackhole) throws SQLException {
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+}
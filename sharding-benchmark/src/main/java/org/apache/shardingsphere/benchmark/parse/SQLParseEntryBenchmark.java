@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.parse;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingRuleFixture;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.entry.ShardingSQLParseEntry;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for parsing SQL with sharding SQL parse entry.
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SQLParseEntryBenchmark {
+    
+    private static final String SQL = "SELECT o.order_id, o.user_id, o.status FROM t_order_0 o WHERE o.user_id = %d AND o.order_id = %d ORDER BY o.order_id";
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer"})
+    private String databaseType;
+    
+    private DatabaseType actualDatabaseType;
+    
+    private ShardingTableMetaData shardingTableMetaData;
+    
+    private ShardingSQLParseEntry cachedParseEntry;
+    
+    private String cachedSQL;
+    
+    private String[] literalDifferentSQLs;
+    
+    private int sequence;
+    
+    /**
+     * Prepare parse entry with cached SQL.
+     */
+    @Setup
+    public void setUp() {
+        actualDatabaseType = DatabaseTypes.getActualDatabaseType(databaseType);
+        shardingTableMetaData = ShardingRuleFixture.createShardingTableMetaData(ShardingRuleFixture.createShardingRule(1, 2, 2));
+        cachedParseEntry = new ShardingSQLParseEntry(actualDatabaseType, shardingTableMetaData, new ParsingResultCache());
+        cachedSQL = String.format(SQL, 1, 1);
+        cachedParseEntry.parse(cachedSQL, true);
+        literalDifferentSQLs = new String[1024];
+        for (int i = 0; i < literalDifferentSQLs.length; i++) {
+            literalDifferentSQLs[i] = String.format(SQL, i + 2, i + 2);
+        }
+    }
+    
+    /**
+     * Parse SQL without any cache.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void parseCold(final Blackhole blackhole) {
+        blackhole.consume(new ShardingSQLParseEntry(actualDatabaseType, shardingTableMetaData, new ParsingResultCache()).parse(cachedSQL, true));
+    }
+    
+    /**
+     * Parse SQLs only different in literals, which miss SQL cache but hit parse tree template.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void parseWithTemplate(final Blackhole blackhole) {
+        sequence = (sequence + 1) % literalDifferentSQLs.length;
+        blackhole.consume(cachedParseEntry.parse(literalDifferentSQLs[sequence], false));
+    }
+    
+    /**
+     * Parse SQL hit SQL cache.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void parseCached(final Blackhole blackhole) {
+        blackhole.consume(cachedParseEntry.parse(cachedSQL, true));
+    }
+}
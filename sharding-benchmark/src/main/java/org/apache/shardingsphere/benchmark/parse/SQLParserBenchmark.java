@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.parse;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.core.parse.parser.SQLParserFactory;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for parsing long MySQL DML with LL prediction mode only and with SLL prediction mode first.
+ *
+ * <p>
+ * SLL parsing is cancelled if any decision requires full context, so both modes build the same parse tree.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SQLParserBenchmark {
+    
+    @Param({"INSERT", "UPDATE", "SELECT"})
+    private String statementType;
+    
+    private DatabaseType databaseType;
+    
+    private String sql;
+    
+    /**
+     * Prepare long DML.
+     */
+    @Setup
+    public void setUp() {
+        databaseType = DatabaseTypes.getActualDatabaseType("MySQL");
+        StringBuilder builder = new StringBuilder();
+        if ("INSERT".equals(statementType)) {
+            builder.append("INSERT INTO t_order (order_id, user_id, status, amount, remark) VALUES ");
+            for (int i = 0; i < 50; i++) {
+                builder.append(0 == i ? "" : ", ").append('(').append(i).append(", ?, 'init', 10.5, 'remark_").append(i).append("')");
+            }
+        } else if ("UPDATE".equals(statementType)) {
+            builder.append("UPDATE t_order SET status = 'paid', amount = amount + 1, remark = ? WHERE user_id = ? AND status <> 'closed' AND amount BETWEEN 1 AND 100 AND order_id IN (");
+            appendNumbers(builder, 100);
+            builder.append(')');
+        } else {
+            builder.append("SELECT o.order_id, o.user_id, i.item_id, i.price FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id ");
+            builder.append("WHERE o.user_id = ? AND o.status = 'paid' AND i.price > 10 AND o.order_id IN (");
+            appendNumbers(builder, 50);
+            builder.append(") ORDER BY o.order_id DESC LIMIT 10, 20");
+        }
+        sql = builder.toString();
+    }
+    
+    private void appendNumbers(final StringBuilder builder, final int count) {
+        for (int i = 0; i < count; i++) {
+            builder.append(0 == i ? "" : ", ").append(i);
+        }
+    }
+    
+    /**
+     * Parse SQL with LL prediction mode only.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void parseWithLL(final Blackhole blackhole) {
+        blackhole.consume(SQLParserFactory.getInstance(databaseType, sql).execute());
+    }
+    
+    /**
+     * Parse SQL with SLL prediction mode first, and parse again with LL prediction mode if SLL parsing is cancelled.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void parseWithSLLThenLL(final Blackhole blackhole) {
+        blackhole.consume(executeWithSLLThenLL(SQLParserFactory.getInstance(databaseType, sql)));
+    }
+    
+    private ParserRuleContext executeWithSLLThenLL(final SQLParser sqlParser) {
+        Parser parser = (Parser) sqlParser;
+        ParserATNSimulator interpreter = parser.getInterpreter();
+        parser.setInterpreter(new SLLParserATNSimulator(parser, interpreter));
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            return sqlParser.execute();
+        } catch (final ParseCancellationException ex) {
+            parser.setInterpreter(interpreter);
+            parser.reset();
+            return sqlParser.execute();
+        } finally {
+            parser.setInterpreter(interpreter);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+        }
+    }
+    
+    private static final class SLLParserATNSimulator extends ParserATNSimulator {
+        
+        SLLParserATNSimulator(final Parser parser, final ParserATNSimulator simulator) {
+            super(parser, parser.getATN(), simulator.decisionToDFA, simulator.getSharedContextCache());
+            setPredictionMode(PredictionMode.SLL);
+        }
+        
+        @Override
+        protected DFAState getExistingTargetState(final DFAState previousD, final int t) {
+            return checkFullContext(super.getExistingTargetState(previousD, t));
+        }
+        
+        @Override
+        protected DFAState computeTargetState(final DFA dfa, final DFAState previousD, final int t) {
+            return checkFullContext(super.computeTargetState(dfa, previousD, t));
+        }
+        
+        private DFAState checkFullContext(final DFAState dfaState) {
+            if (null != dfaState && dfaState.requiresFullContext) {
+                throw new ParseCancellationException("Full context is required for SLL prediction.");
+            }
+            return dfaState;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import org.apache.shardingsphere.core.parse.constant.QuoteCharacter;
+import org.apache.shardingsphere.core.rewrite.builder.SQLBuilder;
+import org.apache.shardingsphere.core.rewrite.token.pojo.IndexToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.OffsetToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.RowCountToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.TableToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for building SQL of wide fan-out statements with SQL builder.
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SQLBuilderBenchmark {
+    
+    private static final String SELECT_SQL = "SELECT o.order_id, o.status, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id "
+            + "WHERE o.order_id IN (SELECT order_id FROM t_order WHERE status = ?) ORDER BY o.order_id LIMIT 100, 20";
+    
+    private static final String CREATE_INDEX_SQL = "CREATE INDEX idx_order_status ON t_order (status)";
+    
+    @Param({"1024"})
+    private int routingUnitCount;
+    
+    private List<SQLToken> selectTokens;
+    
+    private List<SQLToken> createIndexTokens;
+    
+    private List<Map<String, String>> logicAndActualTables;
+    
+    /**
+     * Prepare SQL tokens and actual tables for all routing units.
+     */
+    @Setup
+    public void setUp() {
+        selectTokens = new LinkedList<>();
+        addTableToken(selectTokens, SELECT_SQL, "t_order o", "t_order");
+        addTableToken(selectTokens, SELECT_SQL, "t_order_item", "t_order_item");
+        addTableToken(selectTokens, SELECT_SQL, "t_order WHERE", "t_order");
+        int offsetIndex = SELECT_SQL.indexOf("100");
+        selectTokens.add(new OffsetToken(offsetIndex, offsetIndex + 2, 0));
+        int rowCountIndex = SELECT_SQL.indexOf("20", offsetIndex);
+        selectTokens.add(new RowCountToken(rowCountIndex, rowCountIndex + 1, 120));
+        Collections.sort(selectTokens);
+        createIndexTokens = new LinkedList<>();
+        int indexIndex = CREATE_INDEX_SQL.indexOf("idx_order_status");
+        createIndexTokens.add(new IndexToken(indexIndex, indexIndex + "idx_order_status".length() - 1, "idx_order_status", QuoteCharacter.NONE));
+        addTableToken(createIndexTokens, CREATE_INDEX_SQL, "t_order", "t_order");
+        logicAndActualTables = new ArrayList<>(routingUnitCount);
+        for (int i = 0; i < routingUnitCount; i++) {
+            Map<String, String> logicAndActualTable = new HashMap<>(2, 1);
+            logicAndActualTable.put("t_order", "t_order_" + i);
+            logicAndActualTable.put("t_order_item", "t_order_item_" + i);
+            logicAndActualTables.add(logicAndActualTable);
+        }
+    }
+    
+    private void addTableToken(final List<SQLToken> sqlTokens, final String sql, final String searchText, final String tableName) {
+        int startIndex = sql.indexOf(searchText);
+        sqlTokens.add(new TableToken(startIndex, startIndex + tableName.length() - 1, tableName, QuoteCharacter.NONE));
+    }
+    
+    /**
+     * Build select SQL with joined tables, sub query and pagination for all routing units.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void buildSelectForAllRoutingUnits(final Blackhole blackhole) {
+        SQLBuilder sqlBuilder = new SQLBuilder(SELECT_SQL, selectTokens);
+        for (Map<String, String> each : logicAndActualTables) {
+            blackhole.consume(sqlBuilder.toSQL(null, each));
+        }
+    }
+    
+    /**
+     * Build broadcast create index SQL for all routing units.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void buildCreateIndexForAllRoutingUnits(final Blackhole blackhole) {
+        SQLBuilder sqlBuilder = new SQLBuilder(CREATE_INDEX_SQL, createIndexTokens);
+        for (Map<String, String> each : logicAndActualTables) {
+            blackhole.consume(sqlBuilder.toSQL(null, each));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingRuleFixture;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.router.sharding.ParsingSQLRouter;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for rewriting SQL for every routing unit with SQL rewrite engine.
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SQLRewriteEngineBenchmark {
+    
+    private static final String SQL = "SELECT order_id, user_id, status FROM t_order_0 WHERE status = ? ORDER BY order_id LIMIT ?, ?";
+    
+    @Param({"16", "256", "1024"})
+    private int routingUnitCount;
+    
+    private ShardingRule shardingRule;
+    
+    private SQLRouteResult sqlRouteResult;
+    
+    private List<Object> parameters;
+    
+    private List<RoutingUnit> routingUnits;
+    
+    private List<Map<String, String>> logicAndActualTables;
+    
+    /**
+     * Prepare route result for all routing units.
+     */
+    @Setup
+    public void setUp() {
+        DatabaseType databaseType = DatabaseTypes.getActualDatabaseType("MySQL");
+        shardingRule = ShardingRuleFixture.createShardingRule(1, 1, routingUnitCount);
+        ParsingSQLRouter router = new ParsingSQLRouter(shardingRule, ShardingRuleFixture.createShardingMetaData(shardingRule, databaseType), databaseType, new ParsingResultCache());
+        parameters = Arrays.<Object>asList("init", 100, 10);
+        sqlRouteResult = router.route(router.parse(SQL, false), parameters);
+        routingUnits = new ArrayList<>(sqlRouteResult.getRoutingResult().getRoutingUnits());
+        logicAndActualTables = new ArrayList<>(routingUnits.size());
+        for (RoutingUnit each : routingUnits) {
+            Map<String, String> logicAndActualTable = new HashMap<>(1, 1);
+            for (TableUnit tableUnit : each.getTableUnits()) {
+                logicAndActualTable.put(tableUnit.getLogicTableName(), tableUnit.getActualTableName());
+            }
+            logicAndActualTables.add(logicAndActualTable);
+        }
+    }
+    
+    /**
+     * Rewrite SQL for all routing units.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void rewriteAllRoutingUnits(final Blackhole blackhole) {
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, sqlRouteResult, new ArrayList<>(parameters), false);
+        for (int i = 0; i < routingUnits.size(); i++) {
+            blackhole.consume(rewriteEngine.generateSQL(routingUnits.get(i), logicAndActualTables.get(i)));
+        }
+    }
+}
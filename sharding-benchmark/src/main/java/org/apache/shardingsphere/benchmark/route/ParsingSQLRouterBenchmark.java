@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.route;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingRuleFixture;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.route.router.sharding.ParsingSQLRouter;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for routing parsed SQL with parsing SQL router.
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParsingSQLRouterBenchmark {
+    
+    @Param({"10", "1000"})
+    private int tableRuleCount;
+    
+    @Param({"2", "16"})
+    private int dataSourceCount;
+    
+    @Param({"16"})
+    private int tableCountPerDataSource;
+    
+    private ParsingSQLRouter router;
+    
+    private SQLStatement pointSelectStatement;
+    
+    private List<Object> pointSelectParameters;
+    
+    private SQLStatement inSelectStatement;
+    
+    private List<Object> inSelectParameters;
+    
+    private SQLStatement fullRouteSelectStatement;
+    
+    /**
+     * Prepare router and parsed statements.
+     */
+    @Setup
+    public void setUp() {
+        DatabaseType databaseType = DatabaseTypes.getActualDatabaseType("MySQL");
+        ShardingRule shardingRule = ShardingRuleFixture.createShardingRule(tableRuleCount, dataSourceCount, tableCountPerDataSource);
+        router = new ParsingSQLRouter(shardingRule, ShardingRuleFixture.createShardingMetaData(shardingRule, databaseType), databaseType, new ParsingResultCache());
+        String lastLogicTable = "t_order_" + (tableRuleCount - 1);
+        pointSelectStatement = router.parse(String.format("SELECT order_id, user_id, status FROM %s WHERE user_id = ? AND order_id = ?", lastLogicTable), false);
+        pointSelectParameters = Arrays.<Object>asList(1, 1);
+        inSelectStatement = router.parse(String.format("SELECT order_id, user_id, status FROM %s WHERE user_id IN (?, ?, ?) AND order_id IN (?, ?, ?)", lastLogicTable), false);
+        inSelectParameters = Arrays.<Object>asList(1, 2, 3, 1, 2, 3);
+        fullRouteSelectStatement = router.parse(String.format("SELECT order_id, user_id, status FROM %s ORDER BY order_id", lastLogicTable), false);
+    }
+    
+    /**
+     * Route point select to single data node.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void routePointSelect(final Blackhole blackhole) {
+        blackhole.consume(router.route(pointSelectStatement, pointSelectParameters));
+    }
+    
+    /**
+     * Route select with in conditions to several data nodes.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void routeInSelect(final Blackhole blackhole) {
+        blackhole.consume(router.route(inSelectStatement, inSelectParameters));
+    }
+    
+    /**
+     * Route select without sharding condition to all data nodes.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void routeFullSelect(final Blackhole blackhole) {
+        blackhole.consume(router.route(fullRouteSelectStatement, Collections.emptyList()));
+    }
+}
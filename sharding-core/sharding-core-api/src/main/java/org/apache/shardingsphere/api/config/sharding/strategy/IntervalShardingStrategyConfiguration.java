@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.api.config.sharding.strategy;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
+
+/**
+ * Interval sharding strategy configuration.
+ *
+ * <p>
+ * Every target name ends with datetime suffix formatted by sharding suffix pattern, such as {@code t_order_20190101} with {@code yyyyMMdd},
+ * and every target keeps sharding values from its suffix datetime until next suffix datetime.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@Getter
+public final class IntervalShardingStrategyConfiguration implements ShardingStrategyConfiguration {
+    
+    private final String shardingColumn;
+    
+    private final String datetimePattern;
+    
+    private final String shardingSuffixPattern;
+    
+    public IntervalShardingStrategyConfiguration(final String shardingColumn, final String datetimePattern, final String shardingSuffixPattern) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingColumn), "ShardingColumn is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(datetimePattern), "DatetimePattern is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingSuffixPattern), "ShardingSuffixPattern is required.");
+        this.shardingColumn = shardingColumn;
+        this.datetimePattern = datetimePattern;
+        this.shardingSuffixPattern = shardingSuffixPattern;
+    }
+}
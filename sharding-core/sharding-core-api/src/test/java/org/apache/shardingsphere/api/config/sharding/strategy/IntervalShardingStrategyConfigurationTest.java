@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.api.config.sharding.strategy;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class IntervalShardingStrategyConfigurationTest {
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertConstructorWithoutShardingColumn() {
+        new IntervalShardingStrategyConfiguration("", "yyyy-MM-dd HH:mm:ss", "yyyyMMdd");
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertConstructorWithoutDatetimePattern() {
+        new IntervalShardingStrategyConfiguration("create_time", "", "yyyyMMdd");
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertConstructorWithoutShardingSuffixPattern() {
+        new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd HH:mm:ss", "");
+    }
+    
+    @Test
+    public void assertConstructorWithFullArguments() {
+        IntervalShardingStrategyConfiguration actual = new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd HH:mm:ss", "yyyyMMdd");
+        assertThat(actual.getShardingColumn(), is("create_time"));
+        assertThat(actual.getDatetimePattern(), is("yyyy-MM-dd HH:mm:ss"));
+        assertThat(actual.getShardingSuffixPattern(), is("yyyyMMdd"));
+    }
+}
@@ -75,6 +75,17 @@ public enum ShardingPropertiesConstant {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Max concurrent executing groups for each data source.
+     *
+     * <p>
+     * Groups beyond the limit wait in the queue of their data source without occupying worker threads,
+     * so a slow data source can not exhaust the worker thread pool shared with other data sources.
+     * Default: 0, means no limit for each data source.
+     * </p>
+     */
+    EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE("executor.max.concurrency.per.data.source", String.valueOf(0), int.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -114,7 +125,77 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    /**
+     * Max prepared statements cached for each backend connection of Sharding-Proxy.
+     *
+     * <p>
+     * Prepared statements are reused on same physical connection while it is held by backend connection, such as in transaction.
+     * Default: 0, means prepared statements are not cached.
+     * </p>
+     */
+    PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE("proxy.backend.prepared.statement.cache.size", String.valueOf(0), int.class),
+    
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable or Disable to merge order by result sets with loser tree.
+     *
+     * <p>
+     * Loser tree replays only the path of the winner for every row, which is faster than priority queue when query fans out to many shards.
+     * Default: false
+     * </p>
+     */
+    MERGE_ORDER_BY_LOSER_TREE_ENABLED("merge.order.by.loser.tree.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max rows kept in memory for group by memory merge.
+     *
+     * <p>
+     * If group by and order by items are different, groups exceeded this limit will be spilled to temporary files and merged back in stream.
+     * Default: 0, means all groups are kept in memory.
+     * </p>
+     */
+    MERGE_GROUP_BY_MEMORY_MAX_ROWS("merge.group.by.memory.max.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Max SQL statements kept in parsing result cache.
+     *
+     * <p>
+     * Least recently used SQL statements are evicted when cache is full.
+     * Default: 65535
+     * </p>
+     */
+    PARSING_RESULT_CACHE_MAX_SIZE("parsing.result.cache.max.size", String.valueOf(65535), int.class),
+    
+    /**
+     * Max abstract syntax tree templates kept in parsing result cache.
+     *
+     * <p>
+     * Every template holds a whole parse tree of SQL, so this cache should be much smaller than SQL statements cache.
+     * Default: 1024, 0 means templates are not cached.
+     * </p>
+     */
+    PARSING_TEMPLATE_CACHE_MAX_SIZE("parsing.template.cache.max.size", String.valueOf(1024), int.class),
+    
+    /**
+     * Max insert values of one multiple rows insert coalesced from batched single row inserts.
+     *
+     * <p>
+     * Batched single row inserts routed to same data node are rewritten to multiple rows inserts, which saves round trips to databases.
+     * Default: 0, means batched inserts are not coalesced.
+     * </p>
+     */
+    BATCH_INSERT_VALUES_MAX_SIZE("batch.insert.values.max.size", String.valueOf(0), int.class),
+    
+    /**
+     * Path of local snapshot file for table meta data.
+     *
+     * <p>
+     * Table meta data are loaded from snapshot at startup if it matches sharding rule, and validated with databases in background.
+     * Default: empty, means table meta data are always loaded from databases at startup.
+     * </p>
+     */
+    TABLE_METADATA_SNAPSHOT_FILE("table.metadata.snapshot.file", "", String.class);
     
     private final String key;
     
@@ -22,9 +22,11 @@ import lombok.Getter;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Sharding table meta data.
@@ -37,7 +39,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class ShardingTableMetaData {
     
     @Getter
-    private final Map<String, TableMetaData> tables;
+    private final ConcurrentMap<String, TableMetaData> tables;
     
     public ShardingTableMetaData(final Map<String, TableMetaData> tables) {
         this.tables = new ConcurrentHashMap<>(tables);
@@ -71,6 +73,32 @@ public final class ShardingTableMetaData {
         tables.remove(logicTableName);
     }
     
+    /**
+     * Refresh table meta data changed from expected tables to actual tables.
+     * 
+     * <p>
+     * Tables changed by others after expected tables were taken are skipped, so newer table meta data will not be overwritten.
+     * </p>
+     *
+     * @param expectedTables expected table meta data map taken before actual tables loaded, key is logic table name
+     * @param actualTables actual table meta data map, key is logic table name
+     */
+    public void refresh(final Map<String, TableMetaData> expectedTables, final Map<String, TableMetaData> actualTables) {
+        Collection<String> logicTableNames = new HashSet<>(expectedTables.keySet());
+        logicTableNames.addAll(actualTables.keySet());
+        for (String each : logicTableNames) {
+            TableMetaData expectedTableMetaData = expectedTables.get(each);
+            TableMetaData actualTableMetaData = actualTables.get(each);
+            if (null == expectedTableMetaData) {
+                tables.putIfAbsent(each, actualTableMetaData);
+            } else if (null == actualTableMetaData) {
+                tables.remove(each, expectedTableMetaData);
+            } else if (!expectedTableMetaData.equals(actualTableMetaData)) {
+                tables.replace(each, expectedTableMetaData, actualTableMetaData);
+            }
+        }
+    }
+    
     /**
      * Judge contains table from table meta data or not.
      *
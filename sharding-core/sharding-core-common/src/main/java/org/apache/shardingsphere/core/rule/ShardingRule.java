@@ -21,6 +21,9 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.encryptor.EncryptRuleConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
@@ -38,13 +41,24 @@ import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
  * Databases and tables sharding rule.
  *
+ * <p>
+ * Table rules, binding table rules and broadcast tables are indexed by lower case logic table name when rule created,
+ * actual table names are indexed as they are.
+ * Table rules of default data source or broadcast tables are created for unconfigured logic tables on demand, and only recently used ones are cached.
+ * </p>
+ *
  * @author zhangliang
  * @author maxiaoguang
  * @author panjuan
@@ -52,6 +66,8 @@ import java.util.TreeSet;
 @Getter
 public class ShardingRule implements BaseRule {
     
+    private static final int DEFAULT_TABLE_RULES_MAXIMUM_SIZE = 1024;
+    
     private final ShardingRuleConfiguration shardingRuleConfig;
     
     private final ShardingDataSourceNames shardingDataSourceNames;
@@ -72,14 +88,33 @@ public class ShardingRule implements BaseRule {
     
     private final EncryptRule encryptRule;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, List<TableRule>> actualTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Set<String> lowerCaseBroadcastTables;
+    
+    @Getter(AccessLevel.NONE)
+    private final Cache<String, TableRule> defaultTableRules = CacheBuilder.newBuilder().maximumSize(DEFAULT_TABLE_RULES_MAXIMUM_SIZE).build();
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkArgument(null != shardingRuleConfig, "ShardingRuleConfig cannot be null.");
         Preconditions.checkArgument(null != dataSourceNames && !dataSourceNames.isEmpty(), "Data sources cannot be empty.");
         this.shardingRuleConfig = shardingRuleConfig;
         shardingDataSourceNames = new ShardingDataSourceNames(shardingRuleConfig, dataSourceNames);
         tableRules = createTableRules(shardingRuleConfig);
-        bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
+        logicTableRules = createLogicTableRules(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
         broadcastTables = shardingRuleConfig.getBroadcastTables();
+        lowerCaseBroadcastTables = createLowerCaseBroadcastTables(broadcastTables);
+        bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
+        logicTableBindingTableRules = createLogicTableBindingTableRules(bindingTableRules);
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
         defaultTableShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultTableShardingStrategyConfig());
         defaultShardingKeyGenerator = createDefaultKeyGenerator(shardingRuleConfig.getDefaultKeyGeneratorConfig());
@@ -96,6 +131,41 @@ public class ShardingRule implements BaseRule {
         return result;
     }
     
+    private Map<String, TableRule> createLogicTableRules(final Collection<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            if (!result.containsKey(each.getLogicTable())) {
+                result.put(each.getLogicTable(), each);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Map<String, List<TableRule>> createActualTableRules(final Collection<TableRule> tableRules) {
+        Map<String, List<TableRule>> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                List<TableRule> actualTableRules = result.get(dataNode.getTableName());
+                if (null == actualTableRules) {
+                    actualTableRules = new ArrayList<>(1);
+                    result.put(dataNode.getTableName(), actualTableRules);
+                }
+                if (!actualTableRules.contains(each)) {
+                    actualTableRules.add(each);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Set<String> createLowerCaseBroadcastTables(final Collection<String> broadcastTables) {
+        Set<String> result = new HashSet<>(broadcastTables.size(), 1);
+        for (String each : broadcastTables) {
+            result.add(each.toLowerCase());
+        }
+        return Collections.unmodifiableSet(result);
+    }
+    
     private String getDefaultGenerateKeyColumn(final ShardingRuleConfiguration shardingRuleConfig) {
         return null == shardingRuleConfig.getDefaultKeyGeneratorConfig() ? null : shardingRuleConfig.getDefaultKeyGeneratorConfig().getColumn();
     }
@@ -108,6 +178,18 @@ public class ShardingRule implements BaseRule {
         return result;
     }
     
+    private Map<String, BindingTableRule> createLogicTableBindingTableRules(final Collection<BindingTableRule> bindingTableRules) {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (String logicTable : each.getAllLogicTables()) {
+                if (!result.containsKey(logicTable)) {
+                    result.put(logicTable, each);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
     private BindingTableRule createBindingTableRule(final String bindingTableGroup) {
         List<TableRule> tableRules = new LinkedList<>();
         for (String each : Splitter.on(",").trimResults().splitToList(bindingTableGroup)) {
@@ -149,12 +231,7 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == logicTableName ? Optional.<TableRule>absent() : Optional.fromNullable(logicTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -164,12 +241,8 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        List<TableRule> result = actualTableRules.get(actualTableName);
+        return null == result ? Optional.<TableRule>absent() : Optional.of(result.get(0));
     }
     
     /**
@@ -183,11 +256,18 @@ public class ShardingRule implements BaseRule {
         if (tableRule.isPresent()) {
             return tableRule.get();
         }
+        TableRule result = defaultTableRules.getIfPresent(logicTableName);
+        if (null != result) {
+            return result;
+        }
         if (isBroadcastTable(logicTableName)) {
-            return new TableRule(shardingDataSourceNames.getDataSourceNames(), logicTableName);
+            result = new TableRule(shardingDataSourceNames.getDataSourceNames(), logicTableName);
+        } else if (!Strings.isNullOrEmpty(shardingDataSourceNames.getDefaultDataSourceName())) {
+            result = new TableRule(shardingDataSourceNames.getDefaultDataSourceName(), logicTableName);
         }
-        if (!Strings.isNullOrEmpty(shardingDataSourceNames.getDefaultDataSourceName())) {
-            return new TableRule(shardingDataSourceNames.getDefaultDataSourceName(), logicTableName);
+        if (null != result) {
+            defaultTableRules.put(logicTableName, result);
+            return result;
         }
         throw new ShardingConfigurationException("Cannot find table rule and default data source with logic table: '%s'", logicTableName);
     }
@@ -256,12 +336,7 @@ public class ShardingRule implements BaseRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(logicTableBindingTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -289,12 +364,7 @@ public class ShardingRule implements BaseRule {
      * @return logic table is belong to broadcast tables or not
      */
     public boolean isBroadcastTable(final String logicTableName) {
-        for (String each : broadcastTables) {
-            if (each.equalsIgnoreCase(logicTableName)) {
-                return true;
-            }
-        }
-        return false;
+        return null != logicTableName && lowerCaseBroadcastTables.contains(logicTableName.toLowerCase());
     }
     
     /**
@@ -320,12 +390,8 @@ public class ShardingRule implements BaseRule {
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName)) {
-                return true;
-            }
-        }
-        return false;
+        Optional<TableRule> tableRule = findTableRule(tableName);
+        return tableRule.isPresent() && isShardingColumn(tableRule.get(), columnName);
     }
     
     private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
@@ -339,12 +405,8 @@ public class ShardingRule implements BaseRule {
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName) && null != each.getGenerateKeyColumn()) {
-                return Optional.of(each.getGenerateKeyColumn());
-            }
-        }
-        return Optional.absent();
+        Optional<TableRule> tableRule = findTableRule(logicTableName);
+        return tableRule.isPresent() ? Optional.fromNullable(tableRule.get().getGenerateKeyColumn()) : Optional.<String>absent();
     }
     
     /**
@@ -370,8 +432,9 @@ public class ShardingRule implements BaseRule {
      */
     public Collection<String> getLogicTableNames(final String actualTableName) {
         Collection<String> result = new LinkedList<>();
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
+        List<TableRule> tableRules = actualTableRules.get(actualTableName);
+        if (null != tableRules) {
+            for (TableRule each : tableRules) {
                 result.add(each.getLogicTable());
             }
         }
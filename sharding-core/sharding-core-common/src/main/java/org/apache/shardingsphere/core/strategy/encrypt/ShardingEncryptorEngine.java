@@ -25,9 +25,11 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.api.config.encryptor.EncryptRuleConfiguration;
 import org.apache.shardingsphere.api.config.encryptor.EncryptorRuleConfiguration;
 import org.apache.shardingsphere.core.rule.ColumnNode;
+import org.apache.shardingsphere.spi.encrypt.ShardingBatchEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -176,14 +178,19 @@ public final class ShardingEncryptorEngine {
      * @return encrypt column values
      */
     public List<Object> getEncryptColumnValues(final ColumnNode columnNode, final List<Object> originalColumnValues) {
-        final Optional<ShardingEncryptor> shardingEncryptor = getShardingEncryptor(columnNode.getTableName(), columnNode.getColumnName());
+        Optional<ShardingEncryptor> shardingEncryptor = getShardingEncryptor(columnNode.getTableName(), columnNode.getColumnName());
         Preconditions.checkArgument(shardingEncryptor.isPresent(), String.format("Can not find ShardingEncryptor by %s.", columnNode));
-        return Lists.transform(originalColumnValues, new Function<Object, Object>() {
-            
-            @Override
-            public Object apply(final Object input) {
-                return String.valueOf(shardingEncryptor.get().encrypt(input.toString()));
-            }
-        });
+        List<Object> plaintexts = new ArrayList<>(originalColumnValues.size());
+        for (Object each : originalColumnValues) {
+            plaintexts.add(each.toString());
+        }
+        if (shardingEncryptor.get() instanceof ShardingBatchEncryptor) {
+            return new ArrayList<Object>(((ShardingBatchEncryptor) shardingEncryptor.get()).batchEncrypt(plaintexts));
+        }
+        List<Object> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(String.valueOf(shardingEncryptor.get().encrypt(each)));
+        }
+        return result;
     }
 }
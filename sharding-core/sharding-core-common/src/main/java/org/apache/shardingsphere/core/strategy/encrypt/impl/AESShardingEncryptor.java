@@ -18,35 +18,44 @@
 package org.apache.shardingsphere.core.strategy.encrypt.impl;
 
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.StringUtils;
 import org.apache.commons.codec.digest.DigestUtils;
-import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
+import org.apache.shardingsphere.spi.encrypt.ShardingBatchEncryptor;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * AES sharding encryptor.
  *
+ * <p>
+ * Ciphers are cached per thread and re-created only if secret key changed.
+ * </p>
+ *
  * @author panjuan
  */
 @Getter
 @Setter
-public final class AESShardingEncryptor implements ShardingEncryptor {
+public final class AESShardingEncryptor implements ShardingBatchEncryptor {
     
     private static final String AES_KEY = "aes.key.value";
     
     private Properties properties = new Properties();
     
+    @Getter(AccessLevel.NONE)
+    private final ThreadLocal<CachedCiphers> cachedCiphers = new ThreadLocal<>();
+    
     @Override
     public String getType() {
         return "AES";
@@ -59,7 +68,22 @@ public final class AESShardingEncryptor implements ShardingEncryptor {
     @Override
     @SneakyThrows
     public String encrypt(final Object plaintext) {
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
+        return encrypt(getCachedCiphers().getEncryptCipher(), plaintext);
+    }
+    
+    @Override
+    @SneakyThrows
+    public List<String> batchEncrypt(final List<Object> plaintexts) {
+        Cipher cipher = getCachedCiphers().getEncryptCipher();
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(encrypt(cipher, each));
+        }
+        return result;
+    }
+    
+    private String encrypt(final Cipher cipher, final Object plaintext) throws GeneralSecurityException {
+        byte[] result = doFinal(cipher, StringUtils.getBytesUtf8(String.valueOf(plaintext)));
         return Base64.encodeBase64String(result);
     }
     
@@ -69,19 +93,65 @@ public final class AESShardingEncryptor implements ShardingEncryptor {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(String.valueOf(ciphertext)));
+        return decrypt(getCachedCiphers().getDecryptCipher(), ciphertext);
+    }
+    
+    @Override
+    @SneakyThrows
+    public List<Object> batchDecrypt(final List<String> ciphertexts) {
+        Cipher cipher = getCachedCiphers().getDecryptCipher();
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        for (String each : ciphertexts) {
+            result.add(null == each ? null : decrypt(cipher, each));
+        }
+        return result;
+    }
+    
+    private Object decrypt(final Cipher cipher, final String ciphertext) throws GeneralSecurityException {
+        byte[] result = doFinal(cipher, Base64.decodeBase64(ciphertext));
         return new String(result);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
+    private byte[] doFinal(final Cipher cipher, final byte[] input) throws GeneralSecurityException {
+        try {
+            return cipher.doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cachedCiphers.remove();
+            throw ex;
+        }
+    }
+    
+    private CachedCiphers getCachedCiphers() throws GeneralSecurityException {
         Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
+        Preconditions.checkArgument(null != properties.get(AES_KEY), String.format("%s can not be null.", AES_KEY));
+        String secretKey = properties.get(AES_KEY).toString();
+        CachedCiphers result = cachedCiphers.get();
+        if (null == result || !result.getSecretKey().equals(secretKey)) {
+            SecretKeySpec secretKeySpec = new SecretKeySpec(createSecretKey(secretKey), getType());
+            result = new CachedCiphers(secretKey, createCipher(Cipher.ENCRYPT_MODE, secretKeySpec), createCipher(Cipher.DECRYPT_MODE, secretKeySpec));
+            cachedCiphers.set(result);
+        }
+        return result;
+    }
+    
+    private Cipher createCipher(final int cipherMode, final SecretKeySpec secretKeySpec) throws GeneralSecurityException {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(createSecretKey(), getType()));
+        result.init(cipherMode, secretKeySpec);
         return result;
     }
     
-    private byte[] createSecretKey() {
-        Preconditions.checkArgument(null != properties.get(AES_KEY), String.format("%s can not be null.", AES_KEY));
-        return Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16);
+    private byte[] createSecretKey(final String secretKey) {
+        return Arrays.copyOf(DigestUtils.sha1(secretKey), 16);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CachedCiphers {
+        
+        private final String secretKey;
+        
+        private final Cipher encryptCipher;
+        
+        private final Cipher decryptCipher;
     }
 }
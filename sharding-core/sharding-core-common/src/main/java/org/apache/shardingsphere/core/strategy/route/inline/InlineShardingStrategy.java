@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.strategy.route.inline;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import groovy.lang.Closure;
 import groovy.util.Expando;
@@ -25,6 +26,7 @@ import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.core.util.CompiledInlineExpression;
 import org.apache.shardingsphere.core.util.InlineExpressionParser;
 
 import java.util.ArrayList;
@@ -44,12 +46,16 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     
     private final Closure<?> closure;
     
+    private final CompiledInlineExpression compiledExpression;
+    
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
         String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
-        closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        InlineExpressionParser inlineExpressionParser = new InlineExpressionParser(algorithmExpression);
+        closure = inlineExpressionParser.evaluateClosure();
+        compiledExpression = inlineExpressionParser.compile().orNull();
     }
     
     @Override
@@ -80,6 +86,16 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     }
     
     private String execute(final PreciseShardingValue shardingValue) {
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(shardingValue.getColumnName(), shardingValue.getValue());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return executeClosure(shardingValue);
+    }
+    
+    private String executeClosure(final PreciseShardingValue shardingValue) {
         Closure<?> result = closure.rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         result.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
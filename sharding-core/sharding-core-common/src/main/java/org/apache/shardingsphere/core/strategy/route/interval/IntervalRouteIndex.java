@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.interval;
+
+import com.google.common.base.Optional;
+
+import java.text.DateFormat;
+import java.text.ParsePosition;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Route index for interval sharding.
+ *
+ * <p>
+ * Target names are sorted by boundaries parsed from their datetime suffixes,
+ * so target names covered by a range are found by binary search and a sequential scan.
+ * Target names without datetime suffix are ignored.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class IntervalRouteIndex {
+    
+    private final long[] boundaries;
+    
+    private final String[] targetNames;
+    
+    public IntervalRouteIndex(final Collection<String> availableTargetNames, final DateFormat suffixFormat, final int suffixLength) {
+        Map<Long, String> sortedTargetNames = new TreeMap<>();
+        for (String each : availableTargetNames) {
+            Optional<Long> boundary = parseBoundary(each, suffixFormat, suffixLength);
+            if (boundary.isPresent() && !sortedTargetNames.containsKey(boundary.get())) {
+                sortedTargetNames.put(boundary.get(), each);
+            }
+        }
+        boundaries = new long[sortedTargetNames.size()];
+        targetNames = new String[sortedTargetNames.size()];
+        int i = 0;
+        for (Map.Entry<Long, String> entry : sortedTargetNames.entrySet()) {
+            boundaries[i] = entry.getKey();
+            targetNames[i] = entry.getValue();
+            i++;
+        }
+    }
+    
+    private Optional<Long> parseBoundary(final String targetName, final DateFormat suffixFormat, final int suffixLength) {
+        if (targetName.length() < suffixLength) {
+            return Optional.absent();
+        }
+        String suffix = targetName.substring(targetName.length() - suffixLength);
+        ParsePosition position = new ParsePosition(0);
+        Date result = suffixFormat.parse(suffix, position);
+        if (null == result || suffixLength != position.getIndex() || !suffix.equals(suffixFormat.format(result))) {
+            return Optional.absent();
+        }
+        return Optional.of(result.getTime());
+    }
+    
+    /**
+     * Find target name via boundary.
+     *
+     * @param boundary boundary of target
+     * @return target name
+     */
+    public Optional<String> findTargetName(final long boundary) {
+        int index = Arrays.binarySearch(boundaries, boundary);
+        return index < 0 ? Optional.<String>absent() : Optional.of(targetNames[index]);
+    }
+    
+    /**
+     * Find target names covered by range.
+     *
+     * @param fromBoundary boundary of first target, inclusive
+     * @param toTime upper time of range
+     * @param toInclusive upper time is inclusive or not
+     * @return target names
+     */
+    public Collection<String> findTargetNames(final long fromBoundary, final long toTime, final boolean toInclusive) {
+        Collection<String> result = new LinkedList<>();
+        int index = Arrays.binarySearch(boundaries, fromBoundary);
+        for (int i = index < 0 ? -index - 1 : index; i < boundaries.length && (boundaries[i] < toTime || toInclusive && boundaries[i] == toTime); i++) {
+            result.add(targetNames[i]);
+        }
+        return result;
+    }
+}
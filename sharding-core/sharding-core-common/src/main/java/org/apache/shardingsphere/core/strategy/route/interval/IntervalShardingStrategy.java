@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.interval;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.TreeSet;
+
+/**
+ * Interval sharding strategy.
+ *
+ * <p>
+ * Route indexes are built once for every collection of available target names,
+ * collections are compared by identity, because target names of table rule never change.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class IntervalShardingStrategy implements ShardingStrategy {
+    
+    private final String shardingColumn;
+    
+    private final ThreadLocal<DateFormat> datetimeFormat;
+    
+    private final ThreadLocal<DateFormat> suffixFormat;
+    
+    private final int suffixLength;
+    
+    private final LoadingCache<Collection<String>, IntervalRouteIndex> routeIndexes;
+    
+    public IntervalShardingStrategy(final IntervalShardingStrategyConfiguration intervalShardingStrategyConfig) {
+        Preconditions.checkNotNull(intervalShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
+        Preconditions.checkNotNull(intervalShardingStrategyConfig.getDatetimePattern(), "Datetime pattern cannot be null.");
+        Preconditions.checkNotNull(intervalShardingStrategyConfig.getShardingSuffixPattern(), "Sharding suffix pattern cannot be null.");
+        shardingColumn = intervalShardingStrategyConfig.getShardingColumn();
+        datetimeFormat = createDateFormat(intervalShardingStrategyConfig.getDatetimePattern());
+        suffixFormat = createDateFormat(intervalShardingStrategyConfig.getShardingSuffixPattern());
+        suffixLength = suffixFormat.get().format(new Date()).length();
+        routeIndexes = CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<Collection<String>, IntervalRouteIndex>() {
+            
+            @Override
+            public IntervalRouteIndex load(final Collection<String> availableTargetNames) {
+                return new IntervalRouteIndex(availableTargetNames, suffixFormat.get(), suffixLength);
+            }
+        });
+    }
+    
+    private ThreadLocal<DateFormat> createDateFormat(final String pattern) {
+        return new ThreadLocal<DateFormat>() {
+            
+            @Override
+            protected DateFormat initialValue() {
+                DateFormat result = new SimpleDateFormat(pattern);
+                result.setLenient(false);
+                return result;
+            }
+        };
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<RouteValue> shardingValues) {
+        RouteValue shardingValue = shardingValues.iterator().next();
+        IntervalRouteIndex routeIndex = routeIndexes.getUnchecked(availableTargetNames);
+        Collection<String> shardingResult = shardingValue instanceof ListRouteValue
+                ? doSharding(routeIndex, (ListRouteValue<?>) shardingValue) : doSharding(routeIndex, (RangeRouteValue<?>) shardingValue);
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.addAll(shardingResult);
+        return result;
+    }
+    
+    private Collection<String> doSharding(final IntervalRouteIndex routeIndex, final ListRouteValue<?> shardingValue) {
+        Collection<String> result = new LinkedList<>();
+        for (Comparable<?> each : shardingValue.getValues()) {
+            Optional<String> target = routeIndex.findTargetName(getBoundary(getTime(each)));
+            if (target.isPresent()) {
+                result.add(target.get());
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> doSharding(final IntervalRouteIndex routeIndex, final RangeRouteValue<?> shardingValue) {
+        Range<?> valueRange = shardingValue.getValueRange();
+        long fromBoundary = valueRange.hasLowerBound() ? getBoundary(getTime(valueRange.lowerEndpoint())) : Long.MIN_VALUE;
+        if (!valueRange.hasUpperBound()) {
+            return routeIndex.findTargetNames(fromBoundary, Long.MAX_VALUE, true);
+        }
+        return routeIndex.findTargetNames(fromBoundary, getTime(valueRange.upperEndpoint()), BoundType.CLOSED == valueRange.upperBoundType());
+    }
+    
+    private long getTime(final Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        if (value instanceof String) {
+            try {
+                return datetimeFormat.get().parse((String) value).getTime();
+            } catch (final ParseException ex) {
+                throw new ShardingException("Cannot parse sharding value '%s' of interval sharding strategy.", value);
+            }
+        }
+        throw new ShardingException("Interval sharding strategy cannot support sharding value type '%s'.", null == value ? null : value.getClass().getName());
+    }
+    
+    @SneakyThrows
+    private long getBoundary(final long time) {
+        DateFormat dateFormat = suffixFormat.get();
+        return dateFormat.parse(dateFormat.format(new Date(time))).getTime();
+    }
+    
+    @Override
+    public Collection<String> getShardingColumns() {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.add(shardingColumn);
+        return result;
+    }
+}
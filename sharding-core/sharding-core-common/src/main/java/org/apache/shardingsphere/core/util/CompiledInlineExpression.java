@@ -0,0 +1,413 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>
+ * Common inline expressions are compiled into plain java evaluators when parsed,
+ * such as {@code t_order_${order_id % 2}}, {@code t_order_${Math.abs(order_id.hashCode()) % 4}} or {@code ds_${'x' + user_id}}.
+ * Supported grammar is integer and string literals, the sharding variable, parentheses,
+ * operators {@code + - * %}, {@code hashCode()} and {@code Math.abs()}.
+ * Evaluation follows groovy semantics for integer, long and string values,
+ * other value types are not supported and should be evaluated by groovy.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private final List<String> literals;
+    
+    private final List<Node> nodes;
+    
+    private final String variableName;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression
+     * @return compiled inline expression, absent if expression is not supported
+     */
+    static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<String> literals = new ArrayList<>();
+        List<Node> nodes = new ArrayList<>();
+        Parser parser = new Parser();
+        int start = 0;
+        while (true) {
+            int placeholder = inlineExpression.indexOf("${", start);
+            String literal = inlineExpression.substring(start, -1 == placeholder ? inlineExpression.length() : placeholder);
+            if (literal.contains("$") || literal.contains("\\") || literal.contains("\"")) {
+                return Optional.absent();
+            }
+            literals.add(literal);
+            if (-1 == placeholder) {
+                break;
+            }
+            int end = inlineExpression.indexOf('}', placeholder);
+            if (-1 == end || inlineExpression.substring(placeholder + 2, end).contains("{")) {
+                return Optional.absent();
+            }
+            Optional<Node> node = parser.parse(inlineExpression.substring(placeholder + 2, end));
+            if (!node.isPresent()) {
+                return Optional.absent();
+            }
+            nodes.add(node.get());
+            start = end + 1;
+        }
+        return Optional.of(new CompiledInlineExpression(literals, nodes, parser.variableName));
+    }
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variableName variable name
+     * @param value variable value
+     * @return evaluated result, absent if variable or value type is not supported
+     */
+    public Optional<String> evaluate(final String variableName, final Object value) {
+        if (null != this.variableName && !this.variableName.equals(variableName)) {
+            return Optional.absent();
+        }
+        Object variable = value instanceof Short || value instanceof Byte ? Integer.valueOf(((Number) value).intValue()) : value;
+        if (!isSupportedValue(variable)) {
+            return Optional.absent();
+        }
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < nodes.size(); i++) {
+            result.append(literals.get(i));
+            Object each = nodes.get(i).evaluate(variable);
+            if (null == each) {
+                return Optional.absent();
+            }
+            result.append(each);
+        }
+        result.append(literals.get(nodes.size()));
+        return Optional.of(result.toString());
+    }
+    
+    private static boolean isSupportedValue(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof String;
+    }
+    
+    private static boolean isNumber(final Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+    
+    private interface Node {
+        
+        /**
+         * Evaluate node.
+         *
+         * @param variable value of variable
+         * @return integer, long or string value, null if not supported
+         */
+        Object evaluate(Object variable);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ConstantNode implements Node {
+        
+        private final Object value;
+        
+        @Override
+        public Object evaluate(final Object variable) {
+            return value;
+        }
+    }
+    
+    private static final class VariableNode implements Node {
+        
+        @Override
+        public Object evaluate(final Object variable) {
+            return variable;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HashCodeNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final Object variable) {
+            Object value = operand.evaluate(variable);
+            return null == value ? null : value.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final Object variable) {
+            Object value = operand.evaluate(variable);
+            if (value instanceof Integer) {
+                return Math.abs((Integer) value);
+            }
+            return value instanceof Long ? Math.abs((Long) value) : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NegativeNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final Object variable) {
+            Object value = operand.evaluate(variable);
+            if (value instanceof Integer) {
+                return -(Integer) value;
+            }
+            return value instanceof Long ? -(Long) value : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements Node {
+        
+        private final char operator;
+        
+        private final Node left;
+        
+        private final Node right;
+        
+        @Override
+        public Object evaluate(final Object variable) {
+            Object leftValue = left.evaluate(variable);
+            Object rightValue = right.evaluate(variable);
+            if (null == leftValue || null == rightValue) {
+                return null;
+            }
+            if ('+' == operator && (leftValue instanceof String || rightValue instanceof String)) {
+                return leftValue.toString() + rightValue.toString();
+            }
+            if (!isNumber(leftValue) || !isNumber(rightValue)) {
+                return null;
+            }
+            if (leftValue instanceof Long || rightValue instanceof Long) {
+                return calculate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+            }
+            return calculate((int) (Integer) leftValue, (int) (Integer) rightValue);
+        }
+        
+        private Object calculate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        
+        private Object calculate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+    }
+    
+    private static final class Parser {
+        
+        private String variableName;
+        
+        private String expression;
+        
+        private int position;
+        
+        private boolean supported;
+        
+        Optional<Node> parse(final String expression) {
+            if (expression.contains("++") || expression.contains("--") || expression.contains("**")) {
+                return Optional.absent();
+            }
+            this.expression = expression;
+            position = 0;
+            supported = true;
+            Node result = parseAdditive();
+            skipWhitespace();
+            return supported && position == expression.length() ? Optional.of(result) : Optional.<Node>absent();
+        }
+        
+        private Node parseAdditive() {
+            Node result = parseMultiplicative();
+            while (supported) {
+                if (accept('+')) {
+                    result = new BinaryNode('+', result, parseMultiplicative());
+                } else if (accept('-')) {
+                    result = new BinaryNode('-', result, parseMultiplicative());
+                } else {
+                    return result;
+                }
+            }
+            return result;
+        }
+        
+        private Node parseMultiplicative() {
+            Node result = parseUnary();
+            while (supported) {
+                if (accept('*')) {
+                    result = new BinaryNode('*', result, parseUnary());
+                } else if (accept('%')) {
+                    result = new BinaryNode('%', result, parseUnary());
+                } else {
+                    return result;
+                }
+            }
+            return result;
+        }
+        
+        private Node parseUnary() {
+            return accept('-') ? new NegativeNode(parseUnary()) : parsePostfix();
+        }
+        
+        private Node parsePostfix() {
+            Node result = parsePrimary();
+            while (supported && accept(".hashCode()")) {
+                result = new HashCodeNode(result);
+            }
+            return result;
+        }
+        
+        private Node parsePrimary() {
+            skipWhitespace();
+            if (position >= expression.length()) {
+                return unsupported();
+            }
+            char current = expression.charAt(position);
+            if (Character.isDigit(current)) {
+                return parseNumber();
+            }
+            if ('\'' == current) {
+                return parseString();
+            }
+            if (accept('(')) {
+                Node result = parseAdditive();
+                return accept(')') ? result : unsupported();
+            }
+            if (accept("Math.abs(")) {
+                Node result = new AbsNode(parseAdditive());
+                return accept(')') ? result : unsupported();
+            }
+            return Character.isJavaIdentifierStart(current) ? parseVariable() : unsupported();
+        }
+        
+        private Node parseNumber() {
+            int start = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (position < expression.length() && (Character.isJavaIdentifierPart(expression.charAt(position)) || '.' == expression.charAt(position))) {
+                return unsupported();
+            }
+            String literal = expression.substring(start, position);
+            if (literal.length() > 1 && '0' == literal.charAt(0)) {
+                return unsupported();
+            }
+            try {
+                long result = Long.parseLong(literal);
+                if (result <= Integer.MAX_VALUE) {
+                    return new ConstantNode((int) result);
+                }
+                return new ConstantNode(result);
+            } catch (final NumberFormatException ex) {
+                return unsupported();
+            }
+        }
+        
+        private Node parseString() {
+            int end = expression.indexOf('\'', position + 1);
+            if (-1 == end || expression.substring(position + 1, end).contains("\\")) {
+                return unsupported();
+            }
+            String result = expression.substring(position + 1, end);
+            position = end + 1;
+            return new ConstantNode(result);
+        }
+        
+        private Node parseVariable() {
+            int start = position;
+            while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) {
+                position++;
+            }
+            String name = expression.substring(start, position);
+            if ("it".equals(name) || "this".equals(name) || "null".equals(name) || "true".equals(name) || "false".equals(name) || null != variableName && !variableName.equals(name)) {
+                return unsupported();
+            }
+            skipWhitespace();
+            if (position < expression.length() && ('.' == expression.charAt(position) && !expression.startsWith(".hashCode()", position) || '(' == expression.charAt(position))) {
+                return unsupported();
+            }
+            variableName = name;
+            return new VariableNode();
+        }
+        
+        private boolean accept(final char expected) {
+            skipWhitespace();
+            if (position < expression.length() && expected == expression.charAt(position)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+        
+        private boolean accept(final String expected) {
+            skipWhitespace();
+            if (expression.startsWith(expected, position)) {
+                position += expected.length();
+                return true;
+            }
+            return false;
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+        
+        private Node unsupported() {
+            supported = false;
+            position = expression.length();
+            return new ConstantNode(null);
+        }
+    }
+}
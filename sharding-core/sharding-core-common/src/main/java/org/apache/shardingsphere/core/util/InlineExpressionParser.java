@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.util;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Sets;
 import groovy.lang.Closure;
@@ -30,10 +31,10 @@ import lombok.RequiredArgsConstructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Inline expression parser.
@@ -46,7 +47,7 @@ public final class InlineExpressionParser {
     
     private static final char SPLITTER = ',';
     
-    private static final Map<String, Script> SCRIPTS = new HashMap<>();
+    private static final ConcurrentMap<String, Script> SCRIPTS = new ConcurrentHashMap<>();
     
     private static final GroovyShell SHELL = new GroovyShell();
     
@@ -83,6 +84,15 @@ public final class InlineExpressionParser {
         return (Closure) evaluate(Joiner.on("").join("{it -> \"", inlineExpression, "\"}"));
     }
     
+    /**
+     * Compile inline expression to plain java evaluator.
+     *
+     * @return compiled inline expression, absent if expression is not supported and should be evaluated by closure
+     */
+    public Optional<CompiledInlineExpression> compile() {
+        return CompiledInlineExpression.compile(handlePlaceHolder(inlineExpression));
+    }
+    
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
@@ -99,12 +109,13 @@ public final class InlineExpressionParser {
     }
     
     private Object evaluate(final String expression) {
-        Script script;
-        if (SCRIPTS.containsKey(expression)) {
-            script = SCRIPTS.get(expression);
-        } else {
+        Script script = SCRIPTS.get(expression);
+        if (null == script) {
             script = SHELL.parse(expression);
-            SCRIPTS.put(expression, script);
+            Script existed = SCRIPTS.putIfAbsent(expression, script);
+            if (null != existed) {
+                script = existed;
+            }
         }
         return script.run();
     }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.core.yaml.config.YamlConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlIntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlNoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
 
@@ -44,5 +45,7 @@ public class YamlShardingStrategyConfiguration implements YamlConfiguration {
     
     private YamlInlineShardingStrategyConfiguration inline;
     
+    private YamlIntervalShardingStrategyConfiguration interval;
+    
     private YamlNoneShardingStrategyConfiguration none;
 }
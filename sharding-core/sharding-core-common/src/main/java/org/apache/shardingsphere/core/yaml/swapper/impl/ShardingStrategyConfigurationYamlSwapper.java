@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
@@ -33,6 +34,7 @@ import org.apache.shardingsphere.core.yaml.config.sharding.YamlShardingStrategyC
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlIntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.swapper.YamlSwapper;
 
@@ -58,6 +60,9 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
         if (data instanceof InlineShardingStrategyConfiguration) {
             result.setInline(createYamlInlineShardingStrategyConfiguration((InlineShardingStrategyConfiguration) data));
         }
+        if (data instanceof IntervalShardingStrategyConfiguration) {
+            result.setInterval(createYamlIntervalShardingStrategyConfiguration((IntervalShardingStrategyConfiguration) data));
+        }
         return result;
     }
     
@@ -85,6 +90,11 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
             shardingStrategyConfigCount++;
             result = new InlineShardingStrategyConfiguration(yamlConfiguration.getInline().getShardingColumn(), yamlConfiguration.getInline().getAlgorithmExpression());
         }
+        if (null != yamlConfiguration.getInterval()) {
+            shardingStrategyConfigCount++;
+            result = new IntervalShardingStrategyConfiguration(
+                    yamlConfiguration.getInterval().getShardingColumn(), yamlConfiguration.getInterval().getDatetimePattern(), yamlConfiguration.getInterval().getShardingSuffixPattern());
+        }
         if (null != yamlConfiguration.getHint()) {
             shardingStrategyConfigCount++;
             result = new HintShardingStrategyConfiguration(ShardingAlgorithmFactory.newInstance(yamlConfiguration.getHint().getAlgorithmClassName(), HintShardingAlgorithm.class));
@@ -126,4 +136,12 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
         result.setAlgorithmExpression(data.getAlgorithmExpression());
         return result;
     }
+    
+    private YamlIntervalShardingStrategyConfiguration createYamlIntervalShardingStrategyConfiguration(final IntervalShardingStrategyConfiguration data) {
+        YamlIntervalShardingStrategyConfiguration result = new YamlIntervalShardingStrategyConfiguration();
+        result.setShardingColumn(data.getShardingColumn());
+        result.setDatetimePattern(data.getDatetimePattern());
+        result.setShardingSuffixPattern(data.getShardingSuffixPattern());
+        return result;
+    }
 }
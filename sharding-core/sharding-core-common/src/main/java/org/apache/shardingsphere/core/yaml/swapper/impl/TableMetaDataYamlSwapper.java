@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.yaml.swapper.impl;
+
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.yaml.config.metadata.YamlColumnMetaData;
+import org.apache.shardingsphere.core.yaml.config.metadata.YamlTableMetaData;
+import org.apache.shardingsphere.core.yaml.swapper.YamlSwapper;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map.Entry;
+
+/**
+ * Table meta data YAML swapper.
+ *
+ * @author zhangliang
+ */
+public final class TableMetaDataYamlSwapper implements YamlSwapper<YamlTableMetaData, TableMetaData> {
+    
+    @Override
+    public YamlTableMetaData swap(final TableMetaData data) {
+        YamlTableMetaData result = new YamlTableMetaData();
+        for (ColumnMetaData each : data.getColumns().values()) {
+            result.getColumns().put(each.getColumnName(), swap(each));
+        }
+        result.getLogicIndexes().addAll(data.getLogicIndexes());
+        return result;
+    }
+    
+    private YamlColumnMetaData swap(final ColumnMetaData columnMetaData) {
+        YamlColumnMetaData result = new YamlColumnMetaData();
+        result.setDataType(columnMetaData.getDataType());
+        result.setPrimaryKey(columnMetaData.isPrimaryKey());
+        return result;
+    }
+    
+    @Override
+    public TableMetaData swap(final YamlTableMetaData yamlConfiguration) {
+        Collection<ColumnMetaData> columnMetaDataList = new LinkedList<>();
+        for (Entry<String, YamlColumnMetaData> entry : yamlConfiguration.getColumns().entrySet()) {
+            columnMetaDataList.add(new ColumnMetaData(entry.getKey(), entry.getValue().getDataType(), entry.getValue().isPrimaryKey()));
+        }
+        return new TableMetaData(columnMetaDataList, yamlConfiguration.getLogicIndexes());
+    }
+}
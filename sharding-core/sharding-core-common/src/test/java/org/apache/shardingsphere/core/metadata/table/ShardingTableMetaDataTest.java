@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metadata.table;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingTableMetaDataTest {
+    
+    @Test
+    public void assertRefresh() {
+        TableMetaData order = createTableMetaData("order_id");
+        TableMetaData removed = createTableMetaData("id");
+        ShardingTableMetaData actual = new ShardingTableMetaData(createTables("t_order", order, "t_removed", removed));
+        Map<String, TableMetaData> expectedTables = new HashMap<>(actual.getTables());
+        TableMetaData alteredOrder = createTableMetaData("order_id", "status");
+        TableMetaData created = createTableMetaData("id");
+        actual.refresh(expectedTables, createTables("t_order", alteredOrder, "t_created", created));
+        assertThat(actual.get("t_order"), is(alteredOrder));
+        assertThat(actual.get("t_created"), is(created));
+        assertThat(actual.get("t_removed"), nullValue());
+    }
+    
+    @Test
+    public void assertRefreshWithTablesChangedConcurrently() {
+        TableMetaData order = createTableMetaData("order_id");
+        TableMetaData user = createTableMetaData("user_id");
+        ShardingTableMetaData actual = new ShardingTableMetaData(createTables("t_order", order, "t_user", user));
+        Map<String, TableMetaData> expectedTables = new HashMap<>(actual.getTables());
+        TableMetaData alteredByDDL = createTableMetaData("order_id", "status");
+        TableMetaData createdByDDL = createTableMetaData("id", "name");
+        actual.put("t_order", alteredByDDL);
+        actual.remove("t_user");
+        actual.put("t_created", createdByDDL);
+        actual.put("t_user_new", user);
+        actual.refresh(expectedTables, createTables("t_order", createTableMetaData("order_id", "amount"), "t_created", createTableMetaData("id")));
+        assertThat(actual.get("t_order"), is(alteredByDDL));
+        assertThat(actual.get("t_created"), is(createdByDDL));
+        assertThat(actual.get("t_user"), nullValue());
+        assertThat(actual.get("t_user_new"), is(user));
+    }
+    
+    private TableMetaData createTableMetaData(final String... columnNames) {
+        Map<String, ColumnMetaData> columns = new HashMap<>();
+        for (String each : columnNames) {
+            columns.put(each, new ColumnMetaData(each, "INT", false));
+        }
+        return new TableMetaData(columns.values(), Collections.<String>emptyList());
+    }
+    
+    private Map<String, TableMetaData> createTables(final String firstTableName, final TableMetaData first, final String secondTableName, final TableMetaData second) {
+        Map<String, TableMetaData> result = new HashMap<>(2, 1);
+        result.put(firstTableName, first);
+        result.put(secondTableName, second);
+        return result;
+    }
+}
@@ -40,6 +40,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -121,6 +122,34 @@ public final class ShardingRuleTest {
         assertThat(shardingRule.getTableRule("Default_Table").getLogicTable(), is("default_table"));
     }
     
+    @Test
+    public void assertGetTableRuleWithBroadcastTableTwice() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        assertThat(shardingRule.getTableRule("Broadcast_Table"), sameInstance(shardingRule.getTableRule("Broadcast_Table")));
+    }
+    
+    @Test
+    public void assertGetTableRuleWithDefaultDataSourceTwice() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        assertThat(shardingRule.getTableRule("Default_Table"), sameInstance(shardingRule.getTableRule("Default_Table")));
+    }
+    
+    @Test
+    public void assertGetTableRuleWithDefaultDataSourceInDifferentCases() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        assertThat(shardingRule.getTableRule("Default_Table").getActualDataNodes().get(0).getTableName(), is("Default_Table"));
+        assertThat(shardingRule.getTableRule("DEFAULT_TABLE").getActualDataNodes().get(0).getTableName(), is("DEFAULT_TABLE"));
+    }
+    
+    @Test
+    public void assertGetTableRuleWithManyDefaultDataSourceTables() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        for (int i = 0; i < 2048; i++) {
+            assertThat(shardingRule.getTableRule("default_table_" + i).getLogicTable(), is("default_table_" + i));
+        }
+        assertThat(shardingRule.getTableRule("default_table_2047"), sameInstance(shardingRule.getTableRule("default_table_2047")));
+    }
+    
     @Test(expected = ShardingConfigurationException.class)
     public void assertGetTableRuleFailure() {
         createMinimumShardingRule().getTableRule("New_Table");
@@ -323,6 +352,16 @@ public final class ShardingRuleTest {
         createMaximumShardingRule().getDataNode("ds_3", "logic_table");
     }
     
+    @Test
+    public void assertGetLogicTableNames() {
+        assertThat(createMaximumShardingRule().getLogicTableNames("sub_table_1"), is((Collection<String>) Collections.singletonList("sub_logic_table")));
+    }
+    
+    @Test
+    public void assertGetLogicTableNamesWithoutActualTable() {
+        assertTrue(createMaximumShardingRule().getLogicTableNames("table_3").isEmpty());
+    }
+    
     @Test
     public void assertGetShardingLogicTableNames() {
         ShardingRule actual = createMaximumShardingRule();
@@ -20,9 +20,11 @@ package org.apache.shardingsphere.core.strategy.encrypt.impl;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
@@ -47,6 +49,19 @@ public final class AESShardingEncryptorTest {
         assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
     }
     
+    @Test
+    public void assertBatchEncode() {
+        assertThat(encryptor.batchEncrypt(Arrays.<Object>asList("test", "test")), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    public void assertEncodeAfterKeyChanged() {
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        encryptor.getProperties().setProperty("aes.key.value", "other");
+        assertThat(encryptor.encrypt("test"), not("dSpPiyENQGDUXMKFMJPGWA=="));
+        assertThat(encryptor.decrypt(encryptor.encrypt("test")).toString(), is("test"));
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertEncodeWithoutKey() {
         Properties properties = new Properties();
@@ -59,6 +74,11 @@ public final class AESShardingEncryptorTest {
         assertThat(encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
     }
     
+    @Test
+    public void assertBatchDecode() {
+        assertThat(encryptor.batchDecrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null)), is(Arrays.<Object>asList("test", null)));
+    }
+    
     @Test
     public void assertDecodeWithNull() {
         assertNull(encryptor.decrypt(null));
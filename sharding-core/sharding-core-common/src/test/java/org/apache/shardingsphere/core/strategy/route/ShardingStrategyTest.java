@@ -21,11 +21,13 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.strategy.route.complex.ComplexShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.fixture.ComplexKeysShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.PreciseShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.RangeShardingAlgorithmFixture;
+import org.apache.shardingsphere.core.strategy.route.interval.IntervalShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.none.NoneShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
@@ -33,6 +35,7 @@ import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -67,4 +70,27 @@ public final class ShardingStrategyTest {
         );
         assertThat(strategy.doSharding(targets, routeValues), is((Collection<String>) Sets.newHashSet("1", "2", "3")));
     }
+    
+    @Test
+    public void assertDoShardingForIntervalWithSingleKey() {
+        IntervalShardingStrategy strategy = new IntervalShardingStrategy(new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd HH:mm:ss", "yyyyMMdd"));
+        Collection<String> intervalTargets = Arrays.asList("t_order_20190101", "t_order_20190102", "t_order_20190103", "t_order");
+        assertThat(strategy.doSharding(intervalTargets, Collections.<RouteValue>singletonList(
+                new ListRouteValue<>("create_time", "t_order", Arrays.asList("2019-01-02 12:00:00", "2019-01-03 00:00:00", "2019-01-05 00:00:00")))),
+                is((Collection<String>) Sets.newHashSet("t_order_20190102", "t_order_20190103")));
+    }
+    
+    @Test
+    public void assertDoShardingForIntervalWithRange() {
+        IntervalShardingStrategy strategy = new IntervalShardingStrategy(new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd HH:mm:ss", "yyyyMMdd"));
+        Collection<String> intervalTargets = Arrays.asList("t_order_20190103", "t_order_20190101", "t_order_20190102", "t_order_20190104");
+        assertThat(strategy.doSharding(intervalTargets, Collections.<RouteValue>singletonList(new RangeRouteValue<>("create_time", "t_order", Range.closed("2019-01-01 12:00:00", "2019-01-03 00:00:00")))),
+                is((Collection<String>) Sets.newHashSet("t_order_20190101", "t_order_20190102", "t_order_20190103")));
+        assertThat(strategy.doSharding(intervalTargets, Collections.<RouteValue>singletonList(new RangeRouteValue<>("create_time", "t_order", Range.closedOpen("2019-01-01 12:00:00", "2019-01-03 00:00:00")))),
+                is((Collection<String>) Sets.newHashSet("t_order_20190101", "t_order_20190102")));
+        assertThat(strategy.doSharding(intervalTargets, Collections.<RouteValue>singletonList(new RangeRouteValue<>("create_time", "t_order", Range.greaterThan("2019-01-03 23:59:59")))),
+                is((Collection<String>) Sets.newHashSet("t_order_20190103", "t_order_20190104")));
+        assertThat(strategy.doSharding(intervalTargets, Collections.<RouteValue>singletonList(new RangeRouteValue<>("create_time", "t_order", Range.atMost("2019-01-01 00:00:00")))),
+                is((Collection<String>) Sets.newHashSet("t_order_20190101")));
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import com.google.common.base.Optional;
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    private static final Collection<Object> VALUES = Arrays.<Object>asList(0, 1, 7, -7, Integer.MAX_VALUE, Integer.MIN_VALUE, 10L, -10L, Long.MAX_VALUE, (short) 3, (byte) -3, "", "order", "ORDER_1");
+    
+    @Test
+    public void assertEvaluateSameAsClosure() {
+        for (String each : Arrays.asList("t_order", "t_order_${id}", "t_order_${id % 2}", "ds_${id % 2}_t_${(id + 3) * 2 % 4}", "t_order_${ id - 1 }", "t_order_${-id % 3}",
+                "t_order_${id * 1000000 % 7}", "t_order_${id.hashCode() % 4}", "t_order_${Math.abs(id.hashCode()) % 4}", "t_order_${Math.abs(id.hashCode() % 4)}",
+                "t_order_${'x' + id}", "t_order_${id + 'x'}", "t_order_${id % 2147483648}", "t_order_${1 + 2 + id}", "t_${id % 2}_order_${id % 3}_${'end'}")) {
+            assertEvaluateSameAsClosure(each);
+        }
+    }
+    
+    private void assertEvaluateSameAsClosure(final String inlineExpression) {
+        InlineExpressionParser inlineExpressionParser = new InlineExpressionParser(inlineExpression);
+        Optional<CompiledInlineExpression> compiledExpression = inlineExpressionParser.compile();
+        assertTrue(inlineExpression, compiledExpression.isPresent());
+        Closure<?> closure = inlineExpressionParser.evaluateClosure();
+        for (Object each : VALUES) {
+            Optional<String> actual = compiledExpression.get().evaluate("id", each);
+            if (actual.isPresent()) {
+                assertThat(inlineExpression + " with " + each, actual.get(), is(evaluateClosure(closure, each)));
+            } else {
+                assertTrue(inlineExpression + " with " + each, each instanceof String);
+            }
+        }
+    }
+    
+    private String evaluateClosure(final Closure<?> closure, final Object value) {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty("id", value);
+        return result.call().toString();
+    }
+    
+    @Test
+    public void assertEvaluateWithPlaceHolder() {
+        assertThat(new InlineExpressionParser("t_order_$->{id % 2}").compile().get().evaluate("id", 3).get(), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithOtherVariable() {
+        assertFalse(new InlineExpressionParser("t_order_${id % 2}").compile().get().evaluate("ID", 3).isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        assertFalse(new InlineExpressionParser("t_order_${id % 2}").compile().get().evaluate("id", new BigDecimal("3")).isPresent());
+        assertFalse(new InlineExpressionParser("t_order_${id % 2}").compile().get().evaluate("id", null).isPresent());
+        assertFalse(new InlineExpressionParser("t_order_${id % 2}").compile().get().evaluate("id", "3").isPresent());
+    }
+    
+    @Test
+    public void assertCompileUnsupportedExpression() {
+        for (String each : Arrays.asList("t_order_${id / 2}", "t_order_${id.intdiv(2)}", "t_order_${id ** 2}", "t_order_${--id}", "t_order_$id", "t_order_${[0, 1]}",
+                "t_order_${id % 2 == 0 ? 'a' : 'b'}", "t_order_${user_id + order_id}", "t_order_${it}", "t_order_${2L}", "t_order_${1.5}", "t_order_${\"x\"}", "t_order_${id % 2")) {
+            assertFalse(each, new InlineExpressionParser(each).compile().isPresent());
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.yaml.swapper.impl;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorithm;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.core.yaml.config.sharding.YamlShardingStrategyC
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlIntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlNoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
 import org.junit.Test;
@@ -73,6 +75,17 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         assertNull(actual.getNone());
     }
     
+    @Test
+    public void assertSwapToYamlWithInterval() {
+        YamlShardingStrategyConfiguration actual = shardingStrategyConfigurationYamlSwapper.swap(new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd HH:mm:ss", "yyyyMMdd"));
+        assertThat(actual.getInterval().getShardingColumn(), is("create_time"));
+        assertThat(actual.getInterval().getDatetimePattern(), is("yyyy-MM-dd HH:mm:ss"));
+        assertThat(actual.getInterval().getShardingSuffixPattern(), is("yyyyMMdd"));
+        assertNull(actual.getStandard());
+        assertNull(actual.getInline());
+        assertNull(actual.getNone());
+    }
+    
     @Test
     public void assertSwapToYamlWithComplex() {
         ComplexKeysShardingAlgorithm complexKeysShardingAlgorithm = mock(ComplexKeysShardingAlgorithm.class);
@@ -150,6 +163,20 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         return result;
     }
     
+    @Test
+    public void assertSwapToObjectWithInterval() {
+        YamlIntervalShardingStrategyConfiguration yamlIntervalShardingStrategyConfiguration = new YamlIntervalShardingStrategyConfiguration();
+        yamlIntervalShardingStrategyConfiguration.setShardingColumn("create_time");
+        yamlIntervalShardingStrategyConfiguration.setDatetimePattern("yyyy-MM-dd HH:mm:ss");
+        yamlIntervalShardingStrategyConfiguration.setShardingSuffixPattern("yyyyMMdd");
+        YamlShardingStrategyConfiguration yamlConfiguration = new YamlShardingStrategyConfiguration();
+        yamlConfiguration.setInterval(yamlIntervalShardingStrategyConfiguration);
+        IntervalShardingStrategyConfiguration actual = (IntervalShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(yamlConfiguration);
+        assertThat(actual.getShardingColumn(), is("create_time"));
+        assertThat(actual.getDatetimePattern(), is("yyyy-MM-dd HH:mm:ss"));
+        assertThat(actual.getShardingSuffixPattern(), is("yyyyMMdd"));
+    }
+    
     @Test
     public void assertSwapToObjectWithComplex() {
         ComplexShardingStrategyConfiguration actual = (ComplexShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(createComplexShardingStrategyConfiguration());
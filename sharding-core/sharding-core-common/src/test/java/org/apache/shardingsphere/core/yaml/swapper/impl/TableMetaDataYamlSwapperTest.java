@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.yaml.swapper.impl;
+
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.yaml.config.metadata.YamlColumnMetaData;
+import org.apache.shardingsphere.core.yaml.config.metadata.YamlTableMetaData;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TableMetaDataYamlSwapperTest {
+    
+    @Test
+    public void assertSwapToYaml() {
+        TableMetaData tableMetaData = new TableMetaData(
+                Arrays.asList(new ColumnMetaData("order_id", "INT", true), new ColumnMetaData("status", "VARCHAR", false)), Collections.singletonList("order_index"));
+        YamlTableMetaData actual = new TableMetaDataYamlSwapper().swap(tableMetaData);
+        assertThat(actual.getColumns().size(), is(2));
+        assertThat(actual.getColumns().get("order_id").getDataType(), is("INT"));
+        assertTrue(actual.getColumns().get("order_id").isPrimaryKey());
+        assertThat(actual.getColumns().get("status").getDataType(), is("VARCHAR"));
+        assertFalse(actual.getColumns().get("status").isPrimaryKey());
+        assertThat(actual.getLogicIndexes(), is(Collections.singletonList("order_index")));
+    }
+    
+    @Test
+    public void assertSwapToObject() {
+        YamlColumnMetaData yamlColumnMetaData = new YamlColumnMetaData();
+        yamlColumnMetaData.setDataType("INT");
+        yamlColumnMetaData.setPrimaryKey(true);
+        YamlTableMetaData yamlTableMetaData = new YamlTableMetaData();
+        yamlTableMetaData.getColumns().put("order_id", yamlColumnMetaData);
+        yamlTableMetaData.getLogicIndexes().add("order_index");
+        TableMetaData actual = new TableMetaDataYamlSwapper().swap(yamlTableMetaData);
+        assertThat(actual, is(new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", "INT", true)), Collections.singletonList("order_index"))));
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.rule.ShardingRule;
@@ -50,6 +51,12 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
         routingEngine = new PreparedStatementRoutingEngine(sql, shardingRule, metaData, databaseType, cache);
     }
     
+    public PreparedQueryShardingEngine(final String sql, final SQLStatement sqlStatement, final ShardingRule shardingRule, final ShardingProperties shardingProperties,
+                                       final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache) {
+        super(shardingRule, shardingProperties, metaData);
+        routingEngine = new PreparedStatementRoutingEngine(sql, sqlStatement, shardingRule, metaData, databaseType, cache);
+    }
+    
     @Override
     protected List<Object> cloneParameters(final List<Object> parameters) {
         return new ArrayList<>(parameters);
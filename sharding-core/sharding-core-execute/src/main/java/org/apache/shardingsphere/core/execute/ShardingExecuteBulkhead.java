@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sharding execute bulkhead for one data source.
+ *
+ * <p>
+ * At most max concurrency tasks of the data source are running on executor threads at the same time,
+ * other tasks wait in the queue of the data source without occupying executor threads.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class ShardingExecuteBulkhead {
+    
+    private final Executor executor;
+    
+    private final int maxConcurrency;
+    
+    private final Queue<PendingTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    
+    private final AtomicInteger runningCount = new AtomicInteger();
+    
+    private final AtomicLong executedCount = new AtomicLong();
+    
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    
+    /**
+     * Submit task.
+     *
+     * @param task task to be executed
+     * @param <T> type of task result
+     * @return future of task result
+     */
+    public <T> ListenableFuture<T> submit(final Callable<T> task) {
+        ListenableFutureTask<T> result = ListenableFutureTask.create(task);
+        pendingTasks.offer(new PendingTask(result, System.nanoTime()));
+        queueDepth.incrementAndGet();
+        drain();
+        return result;
+    }
+    
+    private void drain() {
+        while (!pendingTasks.isEmpty()) {
+            int running = runningCount.get();
+            if (running >= maxConcurrency) {
+                return;
+            }
+            if (!runningCount.compareAndSet(running, running + 1)) {
+                continue;
+            }
+            PendingTask pendingTask = pendingTasks.poll();
+            if (null == pendingTask) {
+                runningCount.decrementAndGet();
+                continue;
+            }
+            queueDepth.decrementAndGet();
+            execute(pendingTask);
+        }
+    }
+    
+    private void execute(final PendingTask pendingTask) {
+        try {
+            executor.execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    totalWaitNanos.addAndGet(System.nanoTime() - pendingTask.submitNanoTime);
+                    executedCount.incrementAndGet();
+                    try {
+                        pendingTask.task.run();
+                    } finally {
+                        runningCount.decrementAndGet();
+                        drain();
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            runningCount.decrementAndGet();
+            pendingTask.task.cancel(false);
+        }
+    }
+    
+    /**
+     * Get count of tasks waiting in queue.
+     *
+     * @return count of tasks waiting in queue
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+    
+    /**
+     * Get count of running tasks.
+     *
+     * @return count of running tasks
+     */
+    public int getRunningCount() {
+        return runningCount.get();
+    }
+    
+    /**
+     * Get count of tasks started executing.
+     *
+     * @return count of tasks started executing
+     */
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+    
+    /**
+     * Get total wait time in nanoseconds of tasks started executing.
+     *
+     * @return total wait time in nanoseconds
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.get();
+    }
+    
+    /**
+     * Get average wait time in nanoseconds of tasks started executing.
+     *
+     * @return average wait time in nanoseconds
+     */
+    public long getAverageWaitNanos() {
+        long count = executedCount.get();
+        return 0 == count ? 0 : totalWaitNanos.get() / count;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PendingTask {
+        
+        private final ListenableFutureTask<?> task;
+        
+        private final long submitNanoTime;
+    }
+}
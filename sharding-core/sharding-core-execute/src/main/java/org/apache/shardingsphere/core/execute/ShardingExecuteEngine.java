@@ -19,7 +19,6 @@ package org.apache.shardingsphere.core.execute;
 
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.ListeningExecutorService;
 import org.apache.shardingsphere.core.exception.ShardingException;
 
 import java.sql.SQLException;
@@ -41,11 +40,12 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     
     private final ShardingExecutorService shardingExecutorService;
     
-    private ListeningExecutorService executorService;
-    
     public ShardingExecuteEngine(final int executorSize) {
-        shardingExecutorService = new ShardingExecutorService(executorSize);
-        executorService = shardingExecutorService.getExecutorService();
+        this(executorSize, 0);
+    }
+    
+    public ShardingExecuteEngine(final int executorSize, final int maxConcurrencyPerDataSource) {
+        shardingExecutorService = new ShardingExecutorService(executorSize, maxConcurrencyPerDataSource);
     }
     
     /**
@@ -112,7 +112,7 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     
     private <I, O> ListenableFuture<Collection<O>> asyncGroupExecute(final ShardingExecuteGroup<I> inputGroup, final ShardingGroupExecuteCallback<I, O> callback) {
         final Map<String, Object> dataMap = ShardingExecuteDataMap.getDataMap();
-        return executorService.submit(new Callable<Collection<O>>() {
+        return shardingExecutorService.submit(inputGroup.getDataSourceName(), new Callable<Collection<O>>() {
             
             @Override
             public Collection<O> call() throws SQLException {
@@ -144,6 +144,15 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         throw new ShardingException(exception);
     }
     
+    /**
+     * Get bulkheads of data sources.
+     *
+     * @return bulkheads, key is data source name
+     */
+    public Map<String, ShardingExecuteBulkhead> getBulkheads() {
+        return shardingExecutorService.getBulkheads();
+    }
+    
     @Override
     public void close() {
         shardingExecutorService.close();
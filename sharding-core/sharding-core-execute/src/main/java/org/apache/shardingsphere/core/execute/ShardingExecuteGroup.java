@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.core.execute;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
@@ -28,9 +27,19 @@ import java.util.List;
  * @author zhangliang
  * @param <T> type of inputs value
  */
-@RequiredArgsConstructor
 @Getter
 public final class ShardingExecuteGroup<T> {
     
+    private final String dataSourceName;
+    
     private final List<T> inputs;
+    
+    public ShardingExecuteGroup(final List<T> inputs) {
+        this(null, inputs);
+    }
+    
+    public ShardingExecuteGroup(final String dataSourceName, final List<T> inputs) {
+        this.dataSourceName = dataSourceName;
+        this.inputs = inputs;
+    }
 }
@@ -17,10 +17,16 @@
 
 package org.apache.shardingsphere.core.execute;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -32,21 +38,34 @@ import java.util.concurrent.TimeUnit;
  * @author wuxu
  * @author zhaojun
  */
-@Getter
 public final class ShardingExecutorService {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
     
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ShardingThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
+    @Getter
     private ListeningExecutorService executorService;
     
+    private final int maxConcurrencyPerDataSource;
+    
+    private final ConcurrentMap<String, ShardingExecuteBulkhead> bulkheads = new ConcurrentHashMap<>();
+    
     public ShardingExecutorService(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ShardingExecutorService(final int executorSize, final int maxConcurrencyPerDataSource) {
+        this(executorSize, DEFAULT_NAME_FORMAT, maxConcurrencyPerDataSource);
+    }
+    
     public ShardingExecutorService(final int executorSize, final String nameFormat) {
+        this(executorSize, nameFormat, 0);
+    }
+    
+    public ShardingExecutorService(final int executorSize, final String nameFormat, final int maxConcurrencyPerDataSource) {
         executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this.maxConcurrencyPerDataSource = maxConcurrencyPerDataSource;
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
@@ -55,6 +74,44 @@ public final class ShardingExecutorService {
         return 0 == executorSize ? Executors.newCachedThreadPool(shardingThreadFactory) : Executors.newFixedThreadPool(executorSize, shardingThreadFactory);
     }
     
+    /**
+     * Submit task of data source.
+     *
+     * <p>
+     * Task is submitted to bulkhead of the data source if max concurrency per data source is configured,
+     * otherwise it is submitted to executor service directly.
+     * </p>
+     *
+     * @param dataSourceName data source name, null means the task does not belong to any data source
+     * @param task task to be executed
+     * @param <T> type of task result
+     * @return future of task result
+     */
+    public <T> ListenableFuture<T> submit(final String dataSourceName, final Callable<T> task) {
+        if (maxConcurrencyPerDataSource <= 0 || null == dataSourceName) {
+            return executorService.submit(task);
+        }
+        return getBulkhead(dataSourceName).submit(task);
+    }
+    
+    private ShardingExecuteBulkhead getBulkhead(final String dataSourceName) {
+        ShardingExecuteBulkhead result = bulkheads.get(dataSourceName);
+        if (null == result) {
+            bulkheads.putIfAbsent(dataSourceName, new ShardingExecuteBulkhead(executorService, maxConcurrencyPerDataSource));
+            result = bulkheads.get(dataSourceName);
+        }
+        return result;
+    }
+    
+    /**
+     * Get bulkheads of data sources.
+     *
+     * @return bulkheads, key is data source name
+     */
+    public Map<String, ShardingExecuteBulkhead> getBulkheads() {
+        return Collections.unmodifiableMap(bulkheads);
+    }
+    
     /**
      * Close executor service.
      */
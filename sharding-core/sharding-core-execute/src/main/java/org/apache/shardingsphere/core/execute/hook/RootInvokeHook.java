@@ -29,6 +29,16 @@ public interface RootInvokeHook {
      */
     void start();
     
+    /**
+     * Handle when root invoke suspended, and will be resumed in another thread.
+     */
+    void suspend();
+    
+    /**
+     * Handle when root invoke resumed in current thread.
+     */
+    void resume();
+    
     /**
      * Handle when root invoke finished.
      * 
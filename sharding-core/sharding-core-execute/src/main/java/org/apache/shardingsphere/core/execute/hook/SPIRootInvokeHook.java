@@ -41,6 +41,20 @@ public final class SPIRootInvokeHook implements RootInvokeHook {
         }
     }
     
+    @Override
+    public void suspend() {
+        for (RootInvokeHook each : rootInvokeHooks) {
+            each.suspend();
+        }
+    }
+    
+    @Override
+    public void resume() {
+        for (RootInvokeHook each : rootInvokeHooks) {
+            each.resume();
+        }
+    }
+    
     @Override
     public void finish(final int connectionCount) {
         for (RootInvokeHook each : rootInvokeHooks) {
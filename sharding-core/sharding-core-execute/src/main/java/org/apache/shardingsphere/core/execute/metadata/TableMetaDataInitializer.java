@@ -18,21 +18,30 @@
 package org.apache.shardingsphere.core.execute.metadata;
 
 import com.google.common.base.Optional;
+import com.google.common.base.Strings;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.rule.DataNode;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
 import org.apache.shardingsphere.spi.database.DataSourceMetaData;
 
+import java.io.File;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.Map;
 
 /**
@@ -40,6 +49,7 @@ import java.util.Map;
  *
  * @author zhangliang
  */
+@Slf4j
 public final class TableMetaDataInitializer {
     
     private final ShardingDataSourceMetaData shardingDataSourceMetaData;
@@ -81,23 +91,86 @@ public final class TableMetaDataInitializer {
         return result;
     }
     
+    /**
+     * Load all table meta data with snapshot.
+     * 
+     * <p>
+     * If snapshot matches sharding rule, table meta data are loaded from snapshot at once, 
+     * then validated with actual tables and refreshed in background.
+     * Otherwise table meta data are loaded from actual tables and saved to snapshot.
+     * </p>
+     *
+     * @param shardingRule sharding rule
+     * @param snapshotFile path of snapshot file, snapshot is disabled if empty
+     * @return sharding table meta data
+     */
+    public ShardingTableMetaData load(final ShardingRule shardingRule, final String snapshotFile) {
+        if (Strings.isNullOrEmpty(snapshotFile)) {
+            return new ShardingTableMetaData(load(shardingRule));
+        }
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(new File(snapshotFile), getSnapshotSignature(shardingRule));
+        Optional<Map<String, TableMetaData>> snapshotTables = snapshot.load();
+        if (!snapshotTables.isPresent()) {
+            Map<String, TableMetaData> tables = load(shardingRule);
+            snapshot.save(tables);
+            return new ShardingTableMetaData(tables);
+        }
+        ShardingTableMetaData result = new ShardingTableMetaData(snapshotTables.get());
+        validateInBackground(shardingRule, snapshot, result);
+        return result;
+    }
+    
+    private String getSnapshotSignature(final ShardingRule shardingRule) {
+        StringBuilder result = new StringBuilder();
+        for (TableRule each : shardingRule.getTableRules()) {
+            result.append(each.getLogicTable()).append(':');
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.append(dataNode.getDataSourceName()).append('.').append(dataNode.getTableName()).append(',');
+            }
+            result.append(';');
+        }
+        result.append(shardingRule.findActualDefaultDataSourceName().orNull());
+        return DigestUtils.md5Hex(result.toString());
+    }
+    
+    private void validateInBackground(final ShardingRule shardingRule, final TableMetaDataSnapshot snapshot, final ShardingTableMetaData shardingTableMetaData) {
+        ShardingThreadFactoryBuilder.build("MetaDataValidator-%d").newThread(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    validate(shardingRule, snapshot, shardingTableMetaData);
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    log.warn("Validate table meta data of snapshot failure.", ex);
+                }
+            }
+        }).start();
+    }
+    
+    private void validate(final ShardingRule shardingRule, final TableMetaDataSnapshot snapshot, final ShardingTableMetaData shardingTableMetaData) {
+        Map<String, TableMetaData> expectedTables = new HashMap<>(shardingTableMetaData.getTables());
+        Map<String, TableMetaData> actualTables = load(shardingRule);
+        if (actualTables.equals(expectedTables)) {
+            return;
+        }
+        shardingTableMetaData.refresh(expectedTables, actualTables);
+        snapshot.save(new HashMap<>(shardingTableMetaData.getTables()));
+    }
+    
     private Map<String, TableMetaData> loadShardingTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
+        Collection<String> logicTableNames = new LinkedList<>();
         for (TableRule each : shardingRule.getTableRules()) {
-            result.put(each.getLogicTable(), tableMetaDataLoader.load(each.getLogicTable(), shardingRule));
+            logicTableNames.add(each.getLogicTable());
         }
-        return result;
+        return tableMetaDataLoader.load(logicTableNames, shardingRule);
     }
     
     private Map<String, TableMetaData> loadDefaultTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
         Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
-        if (actualDefaultDataSourceName.isPresent()) {
-            for (String each : getAllTableNames(actualDefaultDataSourceName.get())) {
-                result.put(each, tableMetaDataLoader.load(each, shardingRule));
-            }
-        }
-        return result;
+        return actualDefaultDataSourceName.isPresent()
+                ? tableMetaDataLoader.load(getAllTableNames(actualDefaultDataSourceName.get()), shardingRule) : Collections.<String, TableMetaData>emptyMap();
     }
     
     private Collection<String> getAllTableNames(final String dataSourceName) throws SQLException {
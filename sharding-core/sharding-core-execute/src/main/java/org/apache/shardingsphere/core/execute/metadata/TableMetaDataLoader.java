@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.core.execute.metadata;
 
+import com.google.common.base.Joiner;
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
@@ -33,15 +35,21 @@ import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.spi.database.DataSourceMetaData;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 
 /**
  * Table meta data loader.
@@ -52,6 +60,13 @@ import java.util.Map.Entry;
 @RequiredArgsConstructor
 public final class TableMetaDataLoader {
     
+    private static final int INFORMATION_SCHEMA_TABLES_SIZE_PER_QUERY = 1000;
+    
+    private static final String INFORMATION_SCHEMA_COLUMNS_SQL = "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_TYPE, COLUMN_KEY FROM information_schema.COLUMNS "
+            + "WHERE TABLE_SCHEMA = %s AND TABLE_NAME IN (%s) ORDER BY TABLE_NAME, ORDINAL_POSITION";
+    
+    private static final String INFORMATION_SCHEMA_INDEXES_SQL = "SELECT DISTINCT TABLE_NAME, INDEX_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = %s AND TABLE_NAME IN (%s)";
+    
     private final ShardingDataSourceMetaData shardingDataSourceMetaData;
     
     private final ShardingExecuteEngine executeEngine;
@@ -71,29 +86,56 @@ public final class TableMetaDataLoader {
      * @throws SQLException SQL exception
      */
     public TableMetaData load(final String logicTableName, final ShardingRule shardingRule) throws SQLException {
-        List<TableMetaData> actualTableMetaDataList = load(getDataNodeGroups(logicTableName, shardingRule), shardingRule.getShardingDataSourceNames());
-        checkUniformed(logicTableName, actualTableMetaDataList);
-        return actualTableMetaDataList.iterator().next();
+        return load(Collections.singletonList(logicTableName), shardingRule).get(logicTableName);
     }
     
-    private List<TableMetaData> load(final Map<String, List<DataNode>> dataNodeGroups, final ShardingDataSourceNames shardingDataSourceNames) throws SQLException {
-        return executeEngine.groupExecute(getDataNodeGroups(dataNodeGroups), new ShardingGroupExecuteCallback<DataNode, TableMetaData>() {
+    /**
+     * Load table meta data of logic tables.
+     * 
+     * <p>
+     * Actual tables of all logic tables are grouped by data source and loaded in parallel, 
+     * every group of actual tables is loaded with one connection.
+     * </p>
+     *
+     * @param logicTableNames logic table names
+     * @param shardingRule sharding rule
+     * @return table meta data map, key is logic table name
+     * @throws SQLException SQL exception
+     */
+    public Map<String, TableMetaData> load(final Collection<String> logicTableNames, final ShardingRule shardingRule) throws SQLException {
+        return getLogicTableMetaDataMap(load(getActualTableGroups(logicTableNames, shardingRule), shardingRule.getShardingDataSourceNames()));
+    }
+    
+    private List<Entry<String, TableMetaData>> load(final Collection<ShardingExecuteGroup<ActualTable>> actualTableGroups, final ShardingDataSourceNames shardingDataSourceNames) throws SQLException {
+        return executeEngine.groupExecute(actualTableGroups, new ShardingGroupExecuteCallback<ActualTable, Entry<String, TableMetaData>>() {
             
             @Override
-            public Collection<TableMetaData> execute(final Collection<DataNode> dataNodes, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
-                String dataSourceName = dataNodes.iterator().next().getDataSourceName();
+            public Collection<Entry<String, TableMetaData>> execute(
+                    final Collection<ActualTable> actualTables, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+                String dataSourceName = actualTables.iterator().next().getDataNode().getDataSourceName();
                 DataSourceMetaData dataSourceMetaData = shardingDataSourceMetaData.getActualDataSourceMetaData(dataSourceName);
                 String catalog = null == dataSourceMetaData ? null : dataSourceMetaData.getSchemaName();
-                return load(shardingDataSourceNames.getRawMasterDataSourceName(dataSourceName), catalog, dataNodes);
+                return load(shardingDataSourceNames.getRawMasterDataSourceName(dataSourceName), catalog, actualTables);
             }
         });
     }
     
-    private Collection<TableMetaData> load(final String dataSourceName, final String catalog, final Collection<DataNode> dataNodes) throws SQLException {
-        Collection<TableMetaData> result = new LinkedList<>();
-        try (Connection connection = connectionManager.getConnection(dataSourceName)) {
-            for (DataNode each : dataNodes) {
-                result.add(createTableMetaData(connection, catalog, each.getTableName()));
+    private Collection<ShardingExecuteGroup<ActualTable>> getActualTableGroups(final Collection<String> logicTableNames, final ShardingRule shardingRule) {
+        Map<String, List<ActualTable>> actualTables = new LinkedHashMap<>();
+        for (String each : logicTableNames) {
+            for (Entry<String, List<DataNode>> entry : getDataNodeGroups(each, shardingRule).entrySet()) {
+                if (!actualTables.containsKey(entry.getKey())) {
+                    actualTables.put(entry.getKey(), new ArrayList<ActualTable>());
+                }
+                for (DataNode dataNode : entry.getValue()) {
+                    actualTables.get(entry.getKey()).add(new ActualTable(each, dataNode));
+                }
+            }
+        }
+        Collection<ShardingExecuteGroup<ActualTable>> result = new LinkedList<>();
+        for (Entry<String, List<ActualTable>> entry : actualTables.entrySet()) {
+            for (List<ActualTable> partition : Lists.partition(entry.getValue(), Math.max(entry.getValue().size() / maxConnectionsSizePerQuery, 1))) {
+                result.add(new ShardingExecuteGroup<>(entry.getKey(), partition));
             }
         }
         return result;
@@ -108,18 +150,105 @@ public final class TableMetaDataLoader {
         return Collections.singletonMap(firstKey, Collections.singletonList(result.get(firstKey).get(0)));
     }
     
-    private Collection<ShardingExecuteGroup<DataNode>> getDataNodeGroups(final Map<String, List<DataNode>> dataNodeGroups) {
-        Collection<ShardingExecuteGroup<DataNode>> result = new LinkedList<>();
-        for (Entry<String, List<DataNode>> entry : dataNodeGroups.entrySet()) {
-            result.addAll(getDataNodeGroups(entry.getValue()));
+    private Collection<Entry<String, TableMetaData>> load(final String dataSourceName, final String catalog, final Collection<ActualTable> actualTables) throws SQLException {
+        Collection<Entry<String, TableMetaData>> result = new LinkedList<>();
+        try (Connection connection = connectionManager.getConnection(dataSourceName)) {
+            Map<String, TableMetaData> bulkLoadedTableMetaDataMap = isInformationSchemaSupported(connection)
+                    ? loadByInformationSchema(connection, catalog, actualTables) : Collections.<String, TableMetaData>emptyMap();
+            for (ActualTable each : actualTables) {
+                String actualTableName = each.getDataNode().getTableName();
+                TableMetaData tableMetaData = bulkLoadedTableMetaDataMap.containsKey(actualTableName)
+                        ? bulkLoadedTableMetaDataMap.get(actualTableName) : createTableMetaData(connection, catalog, actualTableName);
+                result.add(new SimpleImmutableEntry<>(each.getLogicTableName(), tableMetaData));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, TableMetaData> getLogicTableMetaDataMap(final List<Entry<String, TableMetaData>> actualTableMetaDataList) {
+        Map<String, List<TableMetaData>> actualTableMetaDataMap = new LinkedHashMap<>();
+        for (Entry<String, TableMetaData> each : actualTableMetaDataList) {
+            if (!actualTableMetaDataMap.containsKey(each.getKey())) {
+                actualTableMetaDataMap.put(each.getKey(), new LinkedList<TableMetaData>());
+            }
+            actualTableMetaDataMap.get(each.getKey()).add(each.getValue());
+        }
+        Map<String, TableMetaData> result = new HashMap<>(actualTableMetaDataMap.size(), 1);
+        for (Entry<String, List<TableMetaData>> entry : actualTableMetaDataMap.entrySet()) {
+            checkUniformed(entry.getKey(), entry.getValue());
+            result.put(entry.getKey(), entry.getValue().iterator().next());
+        }
+        return result;
+    }
+    
+    private boolean isInformationSchemaSupported(final Connection connection) throws SQLException {
+        return "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+    
+    private Map<String, TableMetaData> loadByInformationSchema(final Connection connection, final String catalog, final Collection<ActualTable> actualTables) throws SQLException {
+        Map<String, TableMetaData> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        List<String> actualTableNames = new ArrayList<>(actualTables.size());
+        for (ActualTable each : actualTables) {
+            actualTableNames.add(each.getDataNode().getTableName());
+        }
+        for (List<String> each : Lists.partition(actualTableNames, INFORMATION_SCHEMA_TABLES_SIZE_PER_QUERY)) {
+            result.putAll(loadByInformationSchema(connection, catalog, each));
+        }
+        return result;
+    }
+    
+    private Map<String, TableMetaData> loadByInformationSchema(final Connection connection, final String catalog, final List<String> actualTableNames) throws SQLException {
+        Map<String, List<ColumnMetaData>> columnMetaDataMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, Collection<String>> logicIndexesMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String each : actualTableNames) {
+            columnMetaDataMap.put(each, new LinkedList<ColumnMetaData>());
+            logicIndexesMap.put(each, new HashSet<String>());
+        }
+        try (PreparedStatement preparedStatement = prepareInformationSchemaStatement(connection, INFORMATION_SCHEMA_COLUMNS_SQL, catalog, actualTableNames);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                String columnType = getTypeName(resultSet.getString("DATA_TYPE"), resultSet.getString("COLUMN_TYPE"));
+                columnMetaDataMap.get(resultSet.getString("TABLE_NAME")).add(new ColumnMetaData(resultSet.getString("COLUMN_NAME"), columnType, "PRI".equals(resultSet.getString("COLUMN_KEY"))));
+            }
+        }
+        try (PreparedStatement preparedStatement = prepareInformationSchemaStatement(connection, INFORMATION_SCHEMA_INDEXES_SQL, catalog, actualTableNames);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                String actualTableName = resultSet.getString("TABLE_NAME");
+                Optional<String> logicIndex = getLogicIndex(resultSet.getString("INDEX_NAME"), actualTableName);
+                if (logicIndex.isPresent()) {
+                    logicIndexesMap.get(actualTableName).add(logicIndex.get());
+                }
+            }
+        }
+        Map<String, TableMetaData> result = new HashMap<>(actualTableNames.size(), 1);
+        for (String each : actualTableNames) {
+            result.put(each, new TableMetaData(columnMetaDataMap.get(each), logicIndexesMap.get(each)));
+        }
+        return result;
+    }
+    
+    private String getTypeName(final String dataType, final String columnType) {
+        String lowerCaseColumnType = columnType.toLowerCase();
+        if (lowerCaseColumnType.startsWith("tinyint") && lowerCaseColumnType.contains("(1)")) {
+            return "BIT";
+        }
+        String result = dataType.toUpperCase();
+        if (lowerCaseColumnType.contains("unsigned") && !"ENUM".equals(result) && !"SET".equals(result)) {
+            result += " UNSIGNED";
         }
         return result;
     }
     
-    private Collection<ShardingExecuteGroup<DataNode>> getDataNodeGroups(final List<DataNode> dataNodes) {
-        Collection<ShardingExecuteGroup<DataNode>> result = new LinkedList<>();
-        for (List<DataNode> each : Lists.partition(dataNodes, Math.max(dataNodes.size() / maxConnectionsSizePerQuery, 1))) {
-            result.add(new ShardingExecuteGroup<>(each));
+    private PreparedStatement prepareInformationSchemaStatement(final Connection connection, final String sql, final String catalog, final List<String> actualTableNames) throws SQLException {
+        String schemaCondition = null == catalog ? "DATABASE()" : "?";
+        PreparedStatement result = connection.prepareStatement(String.format(sql, schemaCondition, Joiner.on(", ").join(Collections.nCopies(actualTableNames.size(), "?"))));
+        int parameterIndex = 1;
+        if (null != catalog) {
+            result.setString(parameterIndex++, catalog);
+        }
+        for (String each : actualTableNames) {
+            result.setString(parameterIndex++, each);
         }
         return result;
     }
@@ -192,4 +321,13 @@ public final class TableMetaDataLoader {
             }
         }
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ActualTable {
+        
+        private final String logicTableName;
+        
+        private final DataNode dataNode;
+    }
 }
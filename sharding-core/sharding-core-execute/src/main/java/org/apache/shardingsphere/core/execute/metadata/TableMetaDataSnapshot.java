@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
+import com.google.common.io.Files;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.yaml.config.metadata.YamlShardingTableMetaData;
+import org.apache.shardingsphere.core.yaml.config.metadata.YamlTableMetaData;
+import org.apache.shardingsphere.core.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.core.yaml.swapper.impl.TableMetaDataYamlSwapper;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Table meta data snapshot in local file.
+ * 
+ * <p>
+ * Snapshot is available only if both of format version and signature of sharding rule are matched.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class TableMetaDataSnapshot {
+    
+    private static final int VERSION = 1;
+    
+    private final File file;
+    
+    private final String signature;
+    
+    /**
+     * Load table meta data from snapshot.
+     * 
+     * @return table meta data map, key is logic table name; absent if snapshot file is not existed or not matched
+     */
+    public Optional<Map<String, TableMetaData>> load() {
+        if (!file.isFile()) {
+            return Optional.absent();
+        }
+        YamlShardingTableMetaData yamlShardingTableMetaData;
+        try {
+            yamlShardingTableMetaData = YamlEngine.unmarshal(file, YamlShardingTableMetaData.class);
+        } catch (final IOException | YAMLException ex) {
+            return Optional.absent();
+        }
+        if (null == yamlShardingTableMetaData || VERSION != yamlShardingTableMetaData.getVersion() || !signature.equals(yamlShardingTableMetaData.getSignature())) {
+            return Optional.absent();
+        }
+        Map<String, TableMetaData> result = new HashMap<>(yamlShardingTableMetaData.getTables().size(), 1);
+        TableMetaDataYamlSwapper swapper = new TableMetaDataYamlSwapper();
+        for (Entry<String, YamlTableMetaData> entry : yamlShardingTableMetaData.getTables().entrySet()) {
+            result.put(entry.getKey(), swapper.swap(entry.getValue()));
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Save table meta data to snapshot.
+     * 
+     * <p>
+     * Snapshot is only an optimization for startup, so failure of writing snapshot file is logged and ignored.
+     * </p>
+     * 
+     * @param tables table meta data map, key is logic table name
+     * @return saved or not
+     */
+    public boolean save(final Map<String, TableMetaData> tables) {
+        YamlShardingTableMetaData yamlShardingTableMetaData = new YamlShardingTableMetaData();
+        yamlShardingTableMetaData.setVersion(VERSION);
+        yamlShardingTableMetaData.setSignature(signature);
+        TableMetaDataYamlSwapper swapper = new TableMetaDataYamlSwapper();
+        for (Entry<String, TableMetaData> entry : new TreeMap<>(tables).entrySet()) {
+            yamlShardingTableMetaData.getTables().put(entry.getKey(), swapper.swap(entry.getValue()));
+        }
+        File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            Files.createParentDirs(file);
+            Files.write(YamlEngine.marshal(yamlShardingTableMetaData), tempFile, Charsets.UTF_8);
+            Files.move(tempFile, file);
+            return true;
+        } catch (final IOException ex) {
+            log.warn("Save table meta data snapshot to `{}` failure.", file, ex);
+            if (tempFile.exists() && !tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+            return false;
+        }
+    }
+}
@@ -28,11 +28,14 @@ import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.spi.database.DataSourceMetaData;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
+import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Statement execute callback interface.
@@ -45,6 +48,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallback<StatementExecuteUnit, T> {
     
+    private static final ConcurrentMap<String, DataSourceMetaData> CACHED_DATA_SOURCE_META_DATA = new ConcurrentHashMap<>();
+    
     private final DatabaseType databaseType;
     
     private final boolean isExceptionThrown;
@@ -61,7 +66,7 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
     
     private T execute0(final StatementExecuteUnit statementExecuteUnit, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
-        DataSourceMetaData dataSourceMetaData = databaseType.getDataSourceMetaData(statementExecuteUnit.getStatement().getConnection().getMetaData().getURL());
+        DataSourceMetaData dataSourceMetaData = getDataSourceMetaData(statementExecuteUnit.getStatement().getConnection().getMetaData());
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
         try {
             sqlExecutionHook.start(statementExecuteUnit.getRouteUnit(), dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
@@ -75,5 +80,15 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
         }
     }
     
+    private DataSourceMetaData getDataSourceMetaData(final DatabaseMetaData metaData) throws SQLException {
+        String url = metaData.getURL();
+        DataSourceMetaData result = CACHED_DATA_SOURCE_META_DATA.get(url);
+        if (null == result) {
+            result = databaseType.getDataSourceMetaData(url);
+            CACHED_DATA_SOURCE_META_DATA.putIfAbsent(url, result);
+        }
+        return result;
+    }
+    
     protected abstract T executeSQL(RouteUnit routeUnit, Statement statement, ConnectionMode connectionMode) throws SQLException;
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ite
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Iterator;
@@ -45,9 +46,9 @@ public final class AggregationDistinctQueryResult extends DistinctQueryResult {
     
     private final AggregationDistinctQueryMetaData metaData;
         
-    private AggregationDistinctQueryResult(final Multimap<String, Integer> columnLabelAndIndexMap, final List<Boolean> columnCaseSensitive, final Iterator<QueryRow> resultData,
-        final AggregationDistinctQueryMetaData distinctQueryMetaData) {
-        super(columnLabelAndIndexMap, columnCaseSensitive, resultData);
+    private AggregationDistinctQueryResult(final Multimap<String, Integer> columnLabelAndIndexMap, final List<Boolean> columnCaseSensitive, final List<Integer> columnTypes,
+        final Iterator<QueryRow> resultData, final AggregationDistinctQueryMetaData distinctQueryMetaData) {
+        super(columnLabelAndIndexMap, columnCaseSensitive, columnTypes, resultData);
         metaData = distinctQueryMetaData;
     }
     
@@ -76,7 +77,7 @@ public final class AggregationDistinctQueryResult extends DistinctQueryResult {
             public DistinctQueryResult apply(final QueryRow input) {
                 Set<QueryRow> resultData = new LinkedHashSet<>();
                 resultData.add(input);
-                return new AggregationDistinctQueryResult(getColumnLabelAndIndexMap(), getColumnCaseSensitive(), resultData.iterator(), metaData);
+                return new AggregationDistinctQueryResult(getColumnLabelAndIndexMap(), getColumnCaseSensitive(), getColumnTypes(), resultData.iterator(), metaData);
             }
         }));
     }
@@ -138,6 +139,20 @@ public final class AggregationDistinctQueryResult extends DistinctQueryResult {
         return getColumnLabelAndIndexMap().size();
     }
     
+    @Override
+    public int getColumnType(final int columnIndex) {
+        if (metaData.isAggregationDistinctColumnIndex(columnIndex)) {
+            return AggregationType.COUNT == metaData.getAggregationType(columnIndex) ? Types.INTEGER : super.getColumnType(columnIndex);
+        }
+        if (metaData.isDerivedCountColumnIndex(columnIndex)) {
+            return Types.INTEGER;
+        }
+        if (metaData.isDerivedSumColumnIndex(columnIndex)) {
+            return super.getColumnType(metaData.getAggregationDistinctColumnIndex(columnIndex));
+        }
+        return super.getColumnType(columnIndex);
+    }
+    
     @Override
     public String getColumnLabel(final int columnIndex) throws SQLException {
         if (metaData.isAggregationDistinctColumnIndex(columnIndex)) {
@@ -22,10 +22,12 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
+import com.google.common.primitives.Ints;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.execute.sql.execute.row.DistinctColumnarRows;
 import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
 
 import java.io.ByteArrayInputStream;
@@ -33,7 +35,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Iterator;
@@ -56,6 +60,8 @@ public class DistinctQueryResult implements QueryResult {
     
     private final List<Boolean> columnCaseSensitive;
     
+    private final List<Integer> columnTypes;
+    
     private final Iterator<QueryRow> resultData;
     
     private QueryRow currentRow;
@@ -64,6 +70,7 @@ public class DistinctQueryResult implements QueryResult {
     public DistinctQueryResult(final Collection<QueryResult> queryResults, final List<String> distinctColumnLabels) {
         this.columnLabelAndIndexMap = getColumnLabelAndIndexMap(queryResults.iterator().next());
         this.columnCaseSensitive = getColumnCaseSensitive(queryResults.iterator().next());
+        this.columnTypes = getColumnTypes(queryResults.iterator().next());
         resultData = getResultData(queryResults, distinctColumnLabels);
     }
     
@@ -85,9 +92,17 @@ public class DistinctQueryResult implements QueryResult {
         return result;
     }
     
+    @SneakyThrows
+    private List<Integer> getColumnTypes(final QueryResult queryResult) {
+        List<Integer> result = Lists.newArrayList(Types.NULL);
+        for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
+            result.add(queryResult.getColumnType(columnIndex));
+        }
+        return result;
+    }
+    
     @SneakyThrows
     private Iterator<QueryRow> getResultData(final Collection<QueryResult> queryResults, final List<String> distinctColumnLabels) {
-        Set<QueryRow> result = new LinkedHashSet<>();
         List<Integer> distinctColumnIndexes = Lists.transform(distinctColumnLabels, new Function<String, Integer>() {
             
             @Override
@@ -95,20 +110,28 @@ public class DistinctQueryResult implements QueryResult {
                 return getColumnIndex(input);
             }
         });
+        DistinctColumnarRows result = new DistinctColumnarRows(Ints.toArray(columnTypes.subList(1, columnTypes.size())), distinctColumnIndexes);
         for (QueryResult each : queryResults) {
-            fill(result, each, distinctColumnIndexes);
+            fill(result, each);
         }
-        return result.iterator();
+        return Iterators.transform(result.getRows().iterator(), new Function<Object[], QueryRow>() {
+            
+            @Override
+            public QueryRow apply(final Object[] input) {
+                return new QueryRow(Arrays.asList(input));
+            }
+        });
     }
     
     @SneakyThrows
-    private void fill(final Set<QueryRow> resultData, final QueryResult queryResult, final List<Integer> distinctColumnIndexes) {
+    private void fill(final DistinctColumnarRows resultData, final QueryResult queryResult) {
+        int columnCount = queryResult.getColumnCount();
+        Object[] row = new Object[columnCount];
         while (queryResult.next()) {
-            List<Object> rowData = new ArrayList<>(queryResult.getColumnCount());
-            for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
-                rowData.add(queryResult.getValue(columnIndex, Object.class));
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = queryResult.getValue(i + 1, Object.class);
             }
-            resultData.add(new QueryRow(rowData, distinctColumnIndexes));
+            resultData.add(row);
         }
     }
     
@@ -124,7 +147,7 @@ public class DistinctQueryResult implements QueryResult {
             public DistinctQueryResult apply(final QueryRow row) {
                 Set<QueryRow> resultData = new LinkedHashSet<>();
                 resultData.add(row);
-                return new DistinctQueryResult(columnLabelAndIndexMap, columnCaseSensitive, resultData.iterator());
+                return new DistinctQueryResult(columnLabelAndIndexMap, columnCaseSensitive, columnTypes, resultData.iterator());
             }
         }));
     }
@@ -189,6 +212,11 @@ public class DistinctQueryResult implements QueryResult {
         return columnCaseSensitive.get(columnIndex);
     }
     
+    @Override
+    public int getColumnType(final int columnIndex) {
+        return columnTypes.get(columnIndex);
+    }
+    
     @Override
     public int getColumnCount() {
         return columnLabelAndIndexMap.size();
@@ -19,9 +19,10 @@ package org.apache.shardingsphere.core.execute.sql.execute.result;
 
 import com.google.common.base.Optional;
 import lombok.SneakyThrows;
-import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
+import org.apache.shardingsphere.core.execute.sql.execute.row.ColumnarRows;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.encrypt.ShardingBatchEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 
 import java.io.ByteArrayInputStream;
@@ -31,9 +32,6 @@ import java.io.ObjectOutputStream;
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -45,81 +43,127 @@ import java.util.List;
  */
 public final class MemoryQueryResult implements QueryResult {
     
-    private final Iterator<QueryRow> resultData;
+    private final ColumnarRows resultData;
     
-    private QueryRow currentRow;
+    private int currentRowIndex = -1;
     
     private final QueryResultMetaData metaData;
     
+    private final boolean[] decryptedColumns;
+    
     @SneakyThrows
     public MemoryQueryResult(final ResultSet resultSet, final ShardingRule shardingRule) {
-        resultData = getResultData(resultSet);
         metaData = new QueryResultMetaData(resultSet.getMetaData(), shardingRule);
+        resultData = getResultData(resultSet);
+        decryptedColumns = new boolean[metaData.getColumnCount()];
     }
     
     @SneakyThrows
     public MemoryQueryResult(final ResultSet resultSet, final EncryptRule encryptRule) {
-        resultData = getResultData(resultSet);
         metaData = new QueryResultMetaData(resultSet.getMetaData(), encryptRule);
+        resultData = getResultData(resultSet);
+        decryptedColumns = new boolean[metaData.getColumnCount()];
     }
     
     @SneakyThrows
     public MemoryQueryResult(final ResultSet resultSet) {
-        resultData = getResultData(resultSet);
         metaData = new QueryResultMetaData(resultSet.getMetaData());
+        resultData = getResultData(resultSet);
+        decryptedColumns = new boolean[metaData.getColumnCount()];
     }
-        
+    
     @SneakyThrows
-    private Iterator<QueryRow> getResultData(final ResultSet resultSet) {
-        Collection<QueryRow> result = new LinkedList<>();
+    private ColumnarRows getResultData(final ResultSet resultSet) {
+        int[] columnTypes = new int[metaData.getColumnCount()];
+        for (int i = 0; i < columnTypes.length; i++) {
+            columnTypes[i] = metaData.getColumnType(i + 1);
+        }
+        ColumnarRows result = new ColumnarRows(columnTypes);
+        Object[] row = new Object[columnTypes.length];
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                rowData.add(QueryResultUtil.getValue(resultSet, columnIndex));
+            for (int i = 0; i < columnTypes.length; i++) {
+                row[i] = QueryResultUtil.getValue(resultSet, i + 1, columnTypes[i]);
             }
-            result.add(new QueryRow(rowData));
+            result.addRow(row);
         }
-        return result.iterator();
+        return result;
+    }
+    
+    private List<String> getCiphertexts(final int columnIndex) {
+        List<String> result = new ArrayList<>(resultData.getRowCount());
+        for (int rowIndex = 0; rowIndex < resultData.getRowCount(); rowIndex++) {
+            result.add(getCiphertext(resultData.getValue(rowIndex, columnIndex)));
+        }
+        return result;
+    }
+    
+    private List<Object> decrypt(final ShardingEncryptor shardingEncryptor, final List<String> ciphertexts) {
+        if (shardingEncryptor instanceof ShardingBatchEncryptor) {
+            return ((ShardingBatchEncryptor) shardingEncryptor).batchDecrypt(ciphertexts);
+        }
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        for (String each : ciphertexts) {
+            result.add(shardingEncryptor.decrypt(each));
+        }
+        return result;
     }
     
     @Override
     public boolean next() {
-        if (resultData.hasNext()) {
-            currentRow = resultData.next();
-            return true;
+        if (currentRowIndex < resultData.getRowCount()) {
+            currentRowIndex++;
         }
-        currentRow = null;
-        return false;
+        return hasCurrentRow();
+    }
+    
+    private boolean hasCurrentRow() {
+        return currentRowIndex >= 0 && currentRowIndex < resultData.getRowCount();
+    }
+    
+    private Object getColumnValue(final int columnIndex) {
+        decryptColumnIfNecessary(columnIndex);
+        return resultData.getValue(currentRowIndex, columnIndex);
+    }
+    
+    private void decryptColumnIfNecessary(final int columnIndex) {
+        if (decryptedColumns[columnIndex - 1]) {
+            return;
+        }
+        Optional<ShardingEncryptor> shardingEncryptor = metaData.getShardingEncryptor(columnIndex);
+        if (shardingEncryptor.isPresent() && 0 != resultData.getRowCount()) {
+            resultData.replaceColumn(columnIndex, decrypt(shardingEncryptor.get(), getCiphertexts(columnIndex)));
+        }
+        decryptedColumns[columnIndex - 1] = true;
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return decrypt(columnIndex, currentRow.getColumnValue(columnIndex));
+        return getColumnValue(columnIndex);
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) {
-        return decrypt(columnLabel, currentRow.getColumnValue(metaData.getColumnIndex(columnLabel)));
+        return getColumnValue(metaData.getColumnIndex(columnLabel));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(columnIndex);
+        return getColumnValue(columnIndex);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(metaData.getColumnIndex(columnLabel));
+        return getColumnValue(metaData.getColumnIndex(columnLabel));
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.getColumnValue(columnIndex));
+        return getInputStream(getColumnValue(columnIndex));
     }
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return getInputStream(currentRow.getColumnValue(metaData.getColumnIndex(columnLabel)));
+        return getInputStream(getColumnValue(metaData.getColumnIndex(columnLabel)));
     }
     
     @SneakyThrows
@@ -134,7 +178,7 @@ public final class MemoryQueryResult implements QueryResult {
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return !hasCurrentRow();
     }
     
     @Override
@@ -142,6 +186,11 @@ public final class MemoryQueryResult implements QueryResult {
         return metaData.isCaseSensitive(columnIndex);
     }
     
+    @Override
+    public int getColumnType(final int columnIndex) {
+        return metaData.getColumnType(columnIndex);
+    }
+    
     @Override
     public int getColumnCount() {
         return metaData.getColumnCount();
@@ -152,17 +201,6 @@ public final class MemoryQueryResult implements QueryResult {
         return metaData.getColumnLabel(columnIndex);
     }
     
-    @SneakyThrows
-    private Object decrypt(final String columnLabel, final Object value) {
-        return decrypt(metaData.getColumnIndex(columnLabel), value);
-    }
-    
-    @SneakyThrows
-    private Object decrypt(final int columnIndex, final Object value) {
-        Optional<ShardingEncryptor> shardingEncryptor = metaData.getShardingEncryptor(columnIndex);
-        return shardingEncryptor.isPresent() ? shardingEncryptor.get().decrypt(getCiphertext(value)) : value;
-    }
-    
     private String getCiphertext(final Object value) {
         return null == value ? null : value.toString();
     }
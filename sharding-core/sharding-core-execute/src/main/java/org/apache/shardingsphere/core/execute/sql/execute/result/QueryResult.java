@@ -132,4 +132,13 @@ public interface QueryResult {
      * @throws SQLException SQL Exception
      */
     boolean isCaseSensitive(int columnIndex) throws SQLException;
+    
+    /**
+     * Get column type.
+     *
+     * @param columnIndex column index
+     * @return column type, value of {@code java.sql.Types}
+     * @throws SQLException SQL Exception
+     */
+    int getColumnType(int columnIndex) throws SQLException;
 }
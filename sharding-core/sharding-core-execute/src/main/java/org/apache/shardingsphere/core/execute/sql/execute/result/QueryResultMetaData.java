@@ -26,13 +26,16 @@ import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptorEngine;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 
 import java.sql.ResultSetMetaData;
-import java.sql.SQLException;
 import java.util.Map;
 import java.util.TreeMap;
 
 /**
  * Query result meta data.
  *
+ * <p>
+ * Meta data and sharding encryptor of every column are resolved once when query result created.
+ * </p>
+ *
  * @author panjuan
  * @author yangyi
  */
@@ -40,41 +43,58 @@ public final class QueryResultMetaData {
     
     private final Map<String, Integer> columnLabelAndIndexes;
     
-    private final ResultSetMetaData resultSetMetaData;
+    private final String[] columnLabels;
     
-    private final ShardingRule shardingRule;
+    private final String[] columnNames;
     
-    private final ShardingEncryptorEngine shardingEncryptorEngine;
+    private final int[] columnTypes;
+    
+    private final boolean[] caseSensitives;
+    
+    private final ShardingEncryptor[] shardingEncryptors;
     
-    @SneakyThrows
     public QueryResultMetaData(final ResultSetMetaData resultSetMetaData, final ShardingRule shardingRule) {
-        columnLabelAndIndexes = getColumnLabelAndIndexMap(resultSetMetaData);
-        this.resultSetMetaData = resultSetMetaData;
-        this.shardingRule = shardingRule;
-        this.shardingEncryptorEngine = shardingRule.getEncryptRule().getEncryptorEngine();
+        this(resultSetMetaData, shardingRule, shardingRule.getEncryptRule().getEncryptorEngine());
     }
     
-    @SneakyThrows
     public QueryResultMetaData(final ResultSetMetaData resultSetMetaData, final EncryptRule encryptRule) {
-        columnLabelAndIndexes = getColumnLabelAndIndexMap(resultSetMetaData);
-        this.resultSetMetaData = resultSetMetaData;
-        this.shardingRule = null;
-        this.shardingEncryptorEngine = encryptRule.getEncryptorEngine();
+        this(resultSetMetaData, null, encryptRule.getEncryptorEngine());
     }
     
-    @SneakyThrows
     public QueryResultMetaData(final ResultSetMetaData resultSetMetaData) {
-        columnLabelAndIndexes = getColumnLabelAndIndexMap(resultSetMetaData);
-        this.resultSetMetaData = resultSetMetaData;
-        this.shardingRule = null;
-        this.shardingEncryptorEngine = new ShardingEncryptorEngine();
+        this(resultSetMetaData, null, new ShardingEncryptorEngine());
     }
     
     @SneakyThrows
-    private Map<String, Integer> getColumnLabelAndIndexMap(final ResultSetMetaData resultSetMetaData) {
+    private QueryResultMetaData(final ResultSetMetaData resultSetMetaData, final ShardingRule shardingRule, final ShardingEncryptorEngine shardingEncryptorEngine) {
+        int columnCount = resultSetMetaData.getColumnCount();
+        columnLabels = new String[columnCount];
+        columnNames = new String[columnCount];
+        columnTypes = new int[columnCount];
+        caseSensitives = new boolean[columnCount];
+        shardingEncryptors = new ShardingEncryptor[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnLabels[i] = resultSetMetaData.getColumnLabel(i + 1);
+            columnNames[i] = resultSetMetaData.getColumnName(i + 1);
+            columnTypes[i] = resultSetMetaData.getColumnType(i + 1);
+            caseSensitives[i] = resultSetMetaData.isCaseSensitive(i + 1);
+            shardingEncryptors[i] = shardingEncryptorEngine.getShardingEncryptor(getLogicTableName(shardingRule, resultSetMetaData.getTableName(i + 1)), columnNames[i]).orNull();
+        }
+        columnLabelAndIndexes = getColumnLabelAndIndexMap();
+    }
+    
+    private String getLogicTableName(final ShardingRule shardingRule, final String actualTableName) {
+        if (null == shardingRule) {
+            return actualTableName;
+        }
+        Optional<TableRule> tableRule = shardingRule.findTableRuleByActualTable(actualTableName);
+        return tableRule.isPresent() ? tableRule.get().getLogicTable() : actualTableName;
+    }
+    
+    private Map<String, Integer> getColumnLabelAndIndexMap() {
         Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        for (int columnIndex = resultSetMetaData.getColumnCount(); columnIndex > 0; columnIndex--) {
-            result.put(resultSetMetaData.getColumnLabel(columnIndex), columnIndex);
+        for (int columnIndex = columnLabels.length; columnIndex > 0; columnIndex--) {
+            result.put(columnLabels[columnIndex - 1], columnIndex);
         }
         return result;
     }
@@ -84,9 +104,8 @@ public final class QueryResultMetaData {
      * 
      * @return column count
      */
-    @SneakyThrows
     public int getColumnCount() {
-        return resultSetMetaData.getColumnCount();
+        return columnLabels.length;
     }
     
     /**
@@ -95,9 +114,8 @@ public final class QueryResultMetaData {
      * @param columnIndex column index
      * @return column label
      */
-    @SneakyThrows
     public String getColumnLabel(final int columnIndex) {
-        return resultSetMetaData.getColumnLabel(columnIndex);
+        return columnLabels[columnIndex - 1];
     }
     
     /**
@@ -106,9 +124,8 @@ public final class QueryResultMetaData {
      * @param columnIndex column index
      * @return column name
      */
-    @SneakyThrows
     public String getColumnName(final int columnIndex) {
-        return resultSetMetaData.getColumnName(columnIndex);
+        return columnNames[columnIndex - 1];
     }
     
     /**
@@ -127,9 +144,18 @@ public final class QueryResultMetaData {
      * @param columnIndex column index
      * @return true if column is case sensitive, otherwise false
      */
-    @SneakyThrows
     public boolean isCaseSensitive(final int columnIndex) {
-        return resultSetMetaData.isCaseSensitive(columnIndex);
+        return caseSensitives[columnIndex - 1];
+    }
+    
+    /**
+     * Get column type.
+     *
+     * @param columnIndex column index
+     * @return column type, value of {@code java.sql.Types}
+     */
+    public int getColumnType(final int columnIndex) {
+        return columnTypes[columnIndex - 1];
     }
     
     /**
@@ -138,17 +164,7 @@ public final class QueryResultMetaData {
      * @param columnIndex column index
      * @return sharding encryptor optional
      */
-    @SneakyThrows
     public Optional<ShardingEncryptor> getShardingEncryptor(final int columnIndex) {
-        return shardingEncryptorEngine.getShardingEncryptor(getTableName(columnIndex), resultSetMetaData.getColumnName(columnIndex));
-    }
-    
-    private String getTableName(final int columnIndex) throws SQLException {
-        String actualTableName = resultSetMetaData.getTableName(columnIndex);
-        if (null == shardingRule) {
-            return actualTableName;
-        }
-        Optional<TableRule> tableRule = shardingRule.findTableRuleByActualTable(actualTableName);
-        return tableRule.isPresent() ? tableRule.get().getLogicTable() : actualTableName;
+        return Optional.fromNullable(shardingEncryptors[columnIndex - 1]);
     }
 }
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.core.execute.sql.execute.result;
 
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
 
@@ -38,7 +37,20 @@ public class QueryResultUtil {
      * @throws SQLException SQL exception
      */
     public static Object getValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        Object result = getValueByColumnType(resultSet, columnIndex);
+        return getValue(resultSet, columnIndex, resultSet.getMetaData().getColumnType(columnIndex));
+    }
+    
+    /**
+     * Get value with known column type.
+     *
+     * @param resultSet result set
+     * @param columnIndex column index of value
+     * @param columnType column type of value
+     * @return {@code null} if the column is SQL {@code NULL}, otherwise the value of column
+     * @throws SQLException SQL exception
+     */
+    public static Object getValue(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        Object result = getValueByColumnType(resultSet, columnIndex, columnType);
         return resultSet.wasNull() ? null : result;
     }
     
@@ -51,8 +63,11 @@ public class QueryResultUtil {
      * @throws SQLException SQL exception
      */
     public static Object getValueByColumnType(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
+        return getValueByColumnType(resultSet, columnIndex, resultSet.getMetaData().getColumnType(columnIndex));
+    }
+    
+    private static Object getValueByColumnType(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        switch (columnType) {
             case Types.BIT:
                 return resultSet.getBytes(columnIndex);
             case Types.BOOLEAN:
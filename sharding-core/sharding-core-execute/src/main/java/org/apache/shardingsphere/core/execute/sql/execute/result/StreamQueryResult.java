@@ -145,6 +145,11 @@ public final class StreamQueryResult implements QueryResult {
         return metaData.isCaseSensitive(columnIndex);
     }
     
+    @Override
+    public int getColumnType(final int columnIndex) {
+        return metaData.getColumnType(columnIndex);
+    }
+    
     @Override
     public int getColumnCount() {
         return metaData.getColumnCount();
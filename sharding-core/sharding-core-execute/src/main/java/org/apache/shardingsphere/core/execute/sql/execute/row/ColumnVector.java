@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.row;
+
+import java.util.BitSet;
+
+/**
+ * Column vector of columnar rows.
+ *
+ * <p>
+ * Values are appended in chunks, the first chunk grows from a small capacity and the others are allocated in full chunk size.
+ * Null values are kept in a bitmap.
+ * </p>
+ *
+ * @author zhangliang
+ */
+abstract class ColumnVector {
+    
+    static final int CHUNK_SHIFT = 10;
+    
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    
+    static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    
+    static final int INITIAL_CHUNK_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int size;
+    
+    /**
+     * Append value.
+     * 
+     * @param value value to be appended
+     * @return appended or not, false if value can not be held by this vector
+     */
+    final boolean add(final Object value) {
+        if (null == value) {
+            nulls.set(size);
+        } else if (!accept(value)) {
+            return false;
+        }
+        append(size, value);
+        size++;
+        return true;
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @return value
+     */
+    final Object get(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : getValue(rowIndex);
+    }
+    
+    /**
+     * Get size.
+     * 
+     * @return size of values
+     */
+    final int size() {
+        return size;
+    }
+    
+    static int getNextChunkCapacity(final int chunkIndex, final int currentCapacity) {
+        if (0 != chunkIndex) {
+            return CHUNK_SIZE;
+        }
+        return 0 == currentCapacity ? INITIAL_CHUNK_CAPACITY : Math.min(currentCapacity << 1, CHUNK_SIZE);
+    }
+    
+    protected abstract boolean accept(Object value);
+    
+    protected abstract void append(int rowIndex, Object value);
+    
+    protected abstract Object getValue(int rowIndex);
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.row;
+
+import lombok.Getter;
+
+import java.sql.Types;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Columnar rows.
+ *
+ * <p>
+ * Rows are kept column by column, integral and double values are kept in primitive vectors and strings are dictionary encoded,
+ * so materialized rows cost close to their wire size.
+ * A column falls back to plain object vector if its values do not match the column type.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class ColumnarRows implements Iterable<Object[]> {
+    
+    private final ColumnVector[] columnVectors;
+    
+    @Getter
+    private int rowCount;
+    
+    public ColumnarRows(final int[] columnTypes) {
+        columnVectors = new ColumnVector[columnTypes.length];
+        for (int i = 0; i < columnTypes.length; i++) {
+            columnVectors[i] = createColumnVector(columnTypes[i]);
+        }
+    }
+    
+    private ColumnVector createColumnVector(final int columnType) {
+        switch (columnType) {
+            case Types.TINYINT:
+                return new LongColumnVector(Byte.class);
+            case Types.SMALLINT:
+                return new LongColumnVector(Short.class);
+            case Types.INTEGER:
+                return new LongColumnVector(Integer.class);
+            case Types.BIGINT:
+                return new LongColumnVector(Long.class);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumnVector();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringColumnVector();
+            default:
+                return new ObjectColumnVector();
+        }
+    }
+    
+    /**
+     * Get column count.
+     * 
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnVectors.length;
+    }
+    
+    /**
+     * Add row.
+     * 
+     * @param row values of row, the array can be reused by caller after added
+     */
+    public void addRow(final Object[] row) {
+        for (int i = 0; i < columnVectors.length; i++) {
+            if (!columnVectors[i].add(row[i])) {
+                columnVectors[i] = ObjectColumnVector.copyOf(columnVectors[i]);
+                columnVectors[i].add(row[i]);
+            }
+        }
+        rowCount++;
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return value
+     */
+    public Object getValue(final int rowIndex, final int columnIndex) {
+        return columnVectors[columnIndex - 1].get(rowIndex);
+    }
+    
+    /**
+     * Replace values of column.
+     * 
+     * @param columnIndex column index, start from 1
+     * @param values new values of column, size must be same with row count
+     */
+    public void replaceColumn(final int columnIndex, final List<?> values) {
+        ColumnVector columnVector = new ObjectColumnVector();
+        for (Object each : values) {
+            columnVector.add(each);
+        }
+        columnVectors[columnIndex - 1] = columnVector;
+    }
+    
+    /**
+     * Get row.
+     * 
+     * @param rowIndex row index, start from 0
+     * @return values of row
+     */
+    public Object[] getRow(final int rowIndex) {
+        Object[] result = new Object[columnVectors.length];
+        for (int i = 0; i < columnVectors.length; i++) {
+            result[i] = columnVectors[i].get(rowIndex);
+        }
+        return result;
+    }
+    
+    @Override
+    public Iterator<Object[]> iterator() {
+        return new Iterator<Object[]>() {
+            
+            private int rowIndex;
+            
+            @Override
+            public boolean hasNext() {
+                return rowIndex < rowCount;
+            }
+            
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getRow(rowIndex++);
+            }
+            
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
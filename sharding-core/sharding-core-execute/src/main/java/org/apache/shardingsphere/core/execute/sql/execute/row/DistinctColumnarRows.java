@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.row;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Columnar rows which only keep distinct rows.
+ *
+ * <p>
+ * Row indexes are kept in an open addressing hash table, so no row object is created for deduplication.
+ * Rows are compared by distinct columns, or by all columns if no distinct column specified.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class DistinctColumnarRows {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    @Getter
+    private final ColumnarRows rows;
+    
+    private final int[] distinctColumnIndexes;
+    
+    private int[] slots = new int[INITIAL_CAPACITY];
+    
+    public DistinctColumnarRows(final int[] columnTypes, final Collection<Integer> distinctColumnIndexes) {
+        rows = new ColumnarRows(columnTypes);
+        this.distinctColumnIndexes = getDistinctColumnIndexes(columnTypes.length, distinctColumnIndexes);
+    }
+    
+    private int[] getDistinctColumnIndexes(final int columnCount, final Collection<Integer> distinctColumnIndexes) {
+        int[] result;
+        if (distinctColumnIndexes.isEmpty()) {
+            result = new int[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                result[i] = i + 1;
+            }
+            return result;
+        }
+        result = new int[distinctColumnIndexes.size()];
+        int i = 0;
+        for (int each : distinctColumnIndexes) {
+            result[i++] = each;
+        }
+        return result;
+    }
+    
+    /**
+     * Add row if no equal row added.
+     * 
+     * @param row values of row, the array can be reused by caller after added
+     * @return row is added or not
+     */
+    public boolean add(final Object[] row) {
+        int mask = slots.length - 1;
+        for (int slot = hash(row) & mask;; slot = (slot + 1) & mask) {
+            int rowNumber = slots[slot];
+            if (0 == rowNumber) {
+                rows.addRow(row);
+                slots[slot] = rows.getRowCount();
+                if (rows.getRowCount() << 1 > slots.length) {
+                    resize();
+                }
+                return true;
+            }
+            if (isEqual(rowNumber - 1, row)) {
+                return false;
+            }
+        }
+    }
+    
+    private int hash(final Object[] row) {
+        int result = 1;
+        for (int each : distinctColumnIndexes) {
+            result = 31 * result + Objects.hashCode(row[each - 1]);
+        }
+        return spread(result);
+    }
+    
+    private int hash(final int rowIndex) {
+        int result = 1;
+        for (int each : distinctColumnIndexes) {
+            result = 31 * result + Objects.hashCode(rows.getValue(rowIndex, each));
+        }
+        return spread(result);
+    }
+    
+    private int spread(final int hash) {
+        return hash ^ hash >>> 16;
+    }
+    
+    private boolean isEqual(final int rowIndex, final Object[] row) {
+        for (int each : distinctColumnIndexes) {
+            if (!Objects.equals(rows.getValue(rowIndex, each), row[each - 1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void resize() {
+        int[] newSlots = new int[slots.length << 1];
+        int mask = newSlots.length - 1;
+        for (int rowNumber = 1; rowNumber <= rows.getRowCount(); rowNumber++) {
+            int slot = hash(rowNumber - 1) & mask;
+            while (0 != newSlots[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            newSlots[slot] = rowNumber;
+        }
+        slots = newSlots;
+    }
+}
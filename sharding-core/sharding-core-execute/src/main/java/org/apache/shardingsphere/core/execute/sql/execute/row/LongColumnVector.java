@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.row;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Column vector for integral values, which are kept as primitive long and boxed back to original type.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+final class LongColumnVector extends ColumnVector {
+    
+    private final Class<?> valueClass;
+    
+    private final List<long[]> chunks = new ArrayList<>();
+    
+    @Override
+    protected boolean accept(final Object value) {
+        return valueClass == value.getClass();
+    }
+    
+    @Override
+    protected void append(final int rowIndex, final Object value) {
+        getChunk(rowIndex)[rowIndex & CHUNK_MASK] = null == value ? 0L : ((Number) value).longValue();
+    }
+    
+    private long[] getChunk(final int rowIndex) {
+        int chunkIndex = rowIndex >> CHUNK_SHIFT;
+        if (chunkIndex == chunks.size()) {
+            chunks.add(new long[getNextChunkCapacity(chunkIndex, 0)]);
+        }
+        long[] result = chunks.get(chunkIndex);
+        if ((rowIndex & CHUNK_MASK) == result.length) {
+            result = Arrays.copyOf(result, getNextChunkCapacity(chunkIndex, result.length));
+            chunks.set(chunkIndex, result);
+        }
+        return result;
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex) {
+        long result = chunks.get(rowIndex >> CHUNK_SHIFT)[rowIndex & CHUNK_MASK];
+        if (Long.class == valueClass) {
+            return result;
+        }
+        if (Integer.class == valueClass) {
+            return (int) result;
+        }
+        if (Short.class == valueClass) {
+            return (short) result;
+        }
+        return (byte) result;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.row;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Column vector for any values.
+ *
+ * @author zhangliang
+ */
+final class ObjectColumnVector extends ColumnVector {
+    
+    private final List<Object[]> chunks = new ArrayList<>();
+    
+    /**
+     * Create object column vector with values copied from other column vector.
+     * 
+     * @param columnVector column vector to be copied
+     * @return object column vector
+     */
+    static ObjectColumnVector copyOf(final ColumnVector columnVector) {
+        ObjectColumnVector result = new ObjectColumnVector();
+        for (int i = 0; i < columnVector.size(); i++) {
+            result.add(columnVector.get(i));
+        }
+        return result;
+    }
+    
+    @Override
+    protected boolean accept(final Object value) {
+        return true;
+    }
+    
+    @Override
+    protected void append(final int rowIndex, final Object value) {
+        getChunk(rowIndex)[rowIndex & CHUNK_MASK] = value;
+    }
+    
+    private Object[] getChunk(final int rowIndex) {
+        int chunkIndex = rowIndex >> CHUNK_SHIFT;
+        if (chunkIndex == chunks.size()) {
+            chunks.add(new Object[getNextChunkCapacity(chunkIndex, 0)]);
+        }
+        Object[] result = chunks.get(chunkIndex);
+        if ((rowIndex & CHUNK_MASK) == result.length) {
+            result = Arrays.copyOf(result, getNextChunkCapacity(chunkIndex, result.length));
+            chunks.set(chunkIndex, result);
+        }
+        return result;
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex) {
+        return chunks.get(rowIndex >> CHUNK_SHIFT)[rowIndex & CHUNK_MASK];
+    }
+}
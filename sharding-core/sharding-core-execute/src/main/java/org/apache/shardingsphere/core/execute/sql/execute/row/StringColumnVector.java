@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.row;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column vector for string values with dictionary encoding.
+ *
+ * <p>
+ * Every distinct string is kept once in dictionary and rows only keep primitive codes.
+ * The vector refuses new strings if the dictionary is too large or most of the values are distinct,
+ * then the column is degraded to plain object vector.
+ * </p>
+ *
+ * @author zhangliang
+ */
+final class StringColumnVector extends ColumnVector {
+    
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    
+    private final List<String> dictionary = new ArrayList<>();
+    
+    private final Map<String, Integer> codes = new HashMap<>();
+    
+    private final List<int[]> chunks = new ArrayList<>();
+    
+    @Override
+    protected boolean accept(final Object value) {
+        if (!(value instanceof String)) {
+            return false;
+        }
+        if (codes.containsKey(value)) {
+            return true;
+        }
+        return dictionary.size() < MAX_DICTIONARY_SIZE && (size() < CHUNK_SIZE || dictionary.size() << 1 < size());
+    }
+    
+    @Override
+    protected void append(final int rowIndex, final Object value) {
+        getChunk(rowIndex)[rowIndex & CHUNK_MASK] = null == value ? 0 : getCode((String) value);
+    }
+    
+    private int getCode(final String value) {
+        Integer result = codes.get(value);
+        if (null == result) {
+            result = dictionary.size();
+            dictionary.add(value);
+            codes.put(value, result);
+        }
+        return result;
+    }
+    
+    private int[] getChunk(final int rowIndex) {
+        int chunkIndex = rowIndex >> CHUNK_SHIFT;
+        if (chunkIndex == chunks.size()) {
+            chunks.add(new int[getNextChunkCapacity(chunkIndex, 0)]);
+        }
+        int[] result = chunks.get(chunkIndex);
+        if ((rowIndex & CHUNK_MASK) == result.length) {
+            result = Arrays.copyOf(result, getNextChunkCapacity(chunkIndex, result.length));
+            chunks.set(chunkIndex, result);
+        }
+        return result;
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex) {
+        return dictionary.get(chunks.get(rowIndex >> CHUNK_SHIFT)[rowIndex & CHUNK_MASK]);
+    }
+}
@@ -100,7 +100,7 @@ public final class SQLExecutePrepareTemplate {
         for (SQLUnit each : sqlUnitGroup) {
             result.add(callback.createStatementExecuteUnit(connection, new RouteUnit(dataSourceName, each), connectionMode));
         }
-        return new ShardingExecuteGroup<>(result);
+        return new ShardingExecuteGroup<>(dataSourceName, result);
     }
 }
 
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import lombok.RequiredArgsConstructor;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingExecuteBulkheadTest {
+    
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertSubmitWithinMaxConcurrency() throws InterruptedException, ExecutionException {
+        ShardingExecuteBulkhead bulkhead = new ShardingExecuteBulkhead(executorService, 1);
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        List<ListenableFuture<Integer>> futures = new LinkedList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(bulkhead.submit(new BlockingTask(i, startedLatch, blockingLatch)));
+        }
+        assertTrue(startedLatch.await(5, TimeUnit.SECONDS));
+        assertThat(bulkhead.getRunningCount(), is(1));
+        assertThat(bulkhead.getQueueDepth(), is(2));
+        blockingLatch.countDown();
+        int expected = 0;
+        for (ListenableFuture<Integer> each : futures) {
+            assertThat(each.get(), is(expected++));
+        }
+        assertThat(bulkhead.getQueueDepth(), is(0));
+        assertThat(bulkhead.getExecutedCount(), is(3L));
+        assertTrue(bulkhead.getTotalWaitNanos() >= bulkhead.getAverageWaitNanos());
+    }
+    
+    @Test
+    public void assertGetAverageWaitNanosWithoutExecutedTask() {
+        assertThat(new ShardingExecuteBulkhead(executorService, 1).getAverageWaitNanos(), is(0L));
+    }
+    
+    @Test
+    public void assertSubmitAfterShutdown() {
+        executorService.shutdown();
+        ShardingExecuteBulkhead bulkhead = new ShardingExecuteBulkhead(executorService, 1);
+        ListenableFuture<Integer> actual = bulkhead.submit(new BlockingTask(0, new CountDownLatch(1), new CountDownLatch(0)));
+        assertTrue(actual.isCancelled());
+        assertThat(bulkhead.getRunningCount(), is(0));
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BlockingTask implements Callable<Integer> {
+        
+        private final int value;
+        
+        private final CountDownLatch startedLatch;
+        
+        private final CountDownLatch blockingLatch;
+        
+        @Override
+        public Integer call() throws InterruptedException {
+            startedLatch.countDown();
+            blockingLatch.await();
+            return value;
+        }
+    }
+}
@@ -87,6 +87,24 @@ public class ShardingExecuteEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertParallelExecuteWithBulkheads() throws SQLException, InterruptedException {
+        ShardingExecuteEngine bulkheadExecuteEngine = new ShardingExecuteEngine(10, 1);
+        try {
+            Collection<ShardingExecuteGroup<StatementExecuteUnit>> dataSourceInputGroups = new LinkedList<>();
+            for (ShardingExecuteGroup<StatementExecuteUnit> each : mockInputGroups(3, 1)) {
+                dataSourceInputGroups.add(new ShardingExecuteGroup<>("ds_" + dataSourceInputGroups.size() % 2, each.getInputs()));
+            }
+            List<String> actual = bulkheadExecuteEngine.groupExecute(dataSourceInputGroups, new MockGroupExecuteCallback(new CountDownLatch(3)));
+            assertThat(actual.size(), is(3));
+            assertThat(bulkheadExecuteEngine.getBulkheads().size(), is(2));
+            assertThat(bulkheadExecuteEngine.getBulkheads().get("ds_0").getExecutedCount(), is(1L));
+            assertThat(bulkheadExecuteEngine.getBulkheads().get("ds_1").getExecutedCount(), is(1L));
+        } finally {
+            bulkheadExecuteEngine.close();
+        }
+    }
+    
     @Test
     public void assertSerialExecute() throws SQLException, InterruptedException {
         List<String> actual = shardingExecuteEngine.groupExecute(inputGroups, firstCallback, callback, true);
@@ -104,7 +122,7 @@ public class ShardingExecuteEngineTest {
     
     @RequiredArgsConstructor
     private final class MockGroupExecuteCallback implements ShardingExecuteCallback<StatementExecuteUnit, String>, ShardingGroupExecuteCallback<StatementExecuteUnit, String> {
-    
+        
         private final CountDownLatch latch;
         
         @Override
@@ -112,7 +130,7 @@ public class ShardingExecuteEngineTest {
             latch.countDown();
             return "succeed";
         }
-    
+        
         @Override
         public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
             List<String> result = new LinkedList<>();
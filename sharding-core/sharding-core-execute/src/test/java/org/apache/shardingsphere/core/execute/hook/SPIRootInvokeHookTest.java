@@ -39,6 +39,18 @@ public final class SPIRootInvokeHookTest {
         assertTrue(RootInvokeHookFixture.containsAction("start"));
     }
     
+    @Test
+    public void assertSuspend() {
+        spiRootInvokeHook.suspend();
+        assertTrue(RootInvokeHookFixture.containsAction("suspend"));
+    }
+    
+    @Test
+    public void assertResume() {
+        spiRootInvokeHook.resume();
+        assertTrue(RootInvokeHookFixture.containsAction("resume"));
+    }
+    
     @Test
     public void assertFinishSuccess() {
         spiRootInvokeHook.finish(0);
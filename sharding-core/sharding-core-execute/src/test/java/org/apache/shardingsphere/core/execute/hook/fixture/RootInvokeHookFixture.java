@@ -31,6 +31,16 @@ public final class RootInvokeHookFixture implements RootInvokeHook {
         ACTIONS.add("start");
     }
     
+    @Override
+    public void suspend() {
+        ACTIONS.add("suspend");
+    }
+    
+    @Override
+    public void resume() {
+        ACTIONS.add("resume");
+    }
+    
     @Override
     public void finish(final int connectionCount) {
         ACTIONS.add("finish");
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.ShardingDataSourceNames;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class TableMetaDataLoaderTest {
+    
+    private static final String[] ACTUAL_TABLE_NAMES = {"t_order_0", "t_order_1"};
+    
+    private ShardingExecuteEngine executeEngine;
+    
+    private ShardingRule shardingRule;
+    
+    @Before
+    public void setUp() {
+        executeEngine = new ShardingExecuteEngine(2);
+        shardingRule = mockShardingRule();
+    }
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    private ShardingRule mockShardingRule() {
+        TableRule tableRule = mock(TableRule.class);
+        when(tableRule.getDataNodeGroups()).thenReturn(Collections.singletonMap("ds", Arrays.asList(new DataNode("ds", ACTUAL_TABLE_NAMES[0]), new DataNode("ds", ACTUAL_TABLE_NAMES[1]))));
+        ShardingDataSourceNames shardingDataSourceNames = mock(ShardingDataSourceNames.class);
+        when(shardingDataSourceNames.getRawMasterDataSourceName("ds")).thenReturn("ds");
+        ShardingRule result = mock(ShardingRule.class);
+        when(result.getTableRule("t_order")).thenReturn(tableRule);
+        when(result.getShardingDataSourceNames()).thenReturn(shardingDataSourceNames);
+        return result;
+    }
+    
+    @Test
+    public void assertLoadByInformationSchemaAndDatabaseMetaDataAreSame() throws SQLException {
+        TableMetaData expected = new TableMetaData(Arrays.asList(new ColumnMetaData("id", "INT UNSIGNED", true), new ColumnMetaData("enabled", "BIT", false),
+                new ColumnMetaData("status", "ENUM", false), new ColumnMetaData("name", "VARCHAR", false)), Collections.singletonList("order_index"));
+        assertThat(createTableMetaDataLoader(mockInformationSchemaConnection(ACTUAL_TABLE_NAMES), true).load("t_order", shardingRule), is(expected));
+        assertThat(createTableMetaDataLoader(mockDatabaseMetaDataConnection(), true).load("t_order", shardingRule), is(expected));
+        assertThat(createTableMetaDataLoader(mockInformationSchemaConnection(ACTUAL_TABLE_NAMES[0]), false).load("t_order", shardingRule), is(expected));
+        assertThat(createTableMetaDataLoader(mockDatabaseMetaDataConnection(), false).load("t_order", shardingRule), is(expected));
+    }
+    
+    @Test
+    public void assertLoadSingleTableByInformationSchema() throws SQLException {
+        Connection connection = mockInformationSchemaConnection(ACTUAL_TABLE_NAMES[0]);
+        createTableMetaDataLoader(connection, false).load("t_order", shardingRule);
+        verify(connection.getMetaData(), never()).getColumns(isNull(String.class), isNull(String.class), anyString(), anyString());
+    }
+    
+    private TableMetaDataLoader createTableMetaDataLoader(final Connection connection, final boolean isCheckingMetaData) {
+        return new TableMetaDataLoader(mock(ShardingDataSourceMetaData.class), executeEngine, new TableMetaDataConnectionManager() {
+            
+            @Override
+            public Connection getConnection(final String dataSourceName) {
+                return connection;
+            }
+        }, 1, isCheckingMetaData);
+    }
+    
+    private Connection mockInformationSchemaConnection(final String... actualTableNames) throws SQLException {
+        List<Map<String, String>> columnRows = new LinkedList<>();
+        List<Map<String, String>> indexRows = new LinkedList<>();
+        for (String each : actualTableNames) {
+            columnRows.add(createRow("TABLE_NAME", each, "COLUMN_NAME", "id", "DATA_TYPE", "int", "COLUMN_TYPE", "int(11) unsigned", "COLUMN_KEY", "PRI"));
+            columnRows.add(createRow("TABLE_NAME", each, "COLUMN_NAME", "enabled", "DATA_TYPE", "tinyint", "COLUMN_TYPE", "tinyint(1)", "COLUMN_KEY", ""));
+            columnRows.add(createRow("TABLE_NAME", each, "COLUMN_NAME", "status", "DATA_TYPE", "enum", "COLUMN_TYPE", "enum('unsigned','signed')", "COLUMN_KEY", ""));
+            columnRows.add(createRow("TABLE_NAME", each, "COLUMN_NAME", "name", "DATA_TYPE", "varchar", "COLUMN_TYPE", "varchar(32)", "COLUMN_KEY", "MUL"));
+            indexRows.add(createRow("TABLE_NAME", each, "INDEX_NAME", "PRIMARY"));
+            indexRows.add(createRow("TABLE_NAME", each, "INDEX_NAME", "order_index_" + each));
+        }
+        Connection result = mockConnection("MySQL");
+        PreparedStatement columnsStatement = mock(PreparedStatement.class);
+        ResultSet columnsResultSet = mockResultSet(columnRows);
+        when(columnsStatement.executeQuery()).thenReturn(columnsResultSet);
+        when(result.prepareStatement(contains("information_schema.COLUMNS"))).thenReturn(columnsStatement);
+        PreparedStatement indexesStatement = mock(PreparedStatement.class);
+        ResultSet indexesResultSet = mockResultSet(indexRows);
+        when(indexesStatement.executeQuery()).thenReturn(indexesResultSet);
+        when(result.prepareStatement(contains("information_schema.STATISTICS"))).thenReturn(indexesStatement);
+        return result;
+    }
+    
+    private Connection mockDatabaseMetaDataConnection() throws SQLException {
+        Connection result = mockConnection("H2");
+        DatabaseMetaData databaseMetaData = result.getMetaData();
+        when(databaseMetaData.getTables(isNull(String.class), isNull(String.class), anyString(), isNull(String[].class))).thenAnswer(new ResultSetAnswer() {
+            
+            @Override
+            protected List<Map<String, String>> getRows(final String actualTableName) {
+                return Collections.singletonList(createRow("TABLE_NAME", actualTableName));
+            }
+        });
+        when(databaseMetaData.getPrimaryKeys(isNull(String.class), isNull(String.class), anyString())).thenAnswer(new ResultSetAnswer() {
+            
+            @Override
+            protected List<Map<String, String>> getRows(final String actualTableName) {
+                return Collections.singletonList(createRow("COLUMN_NAME", "id"));
+            }
+        });
+        when(databaseMetaData.getColumns(isNull(String.class), isNull(String.class), anyString(), anyString())).thenAnswer(new ResultSetAnswer() {
+            
+            @Override
+            protected List<Map<String, String>> getRows(final String actualTableName) {
+                return Arrays.asList(createRow("COLUMN_NAME", "id", "TYPE_NAME", "INT UNSIGNED"), createRow("COLUMN_NAME", "enabled", "TYPE_NAME", "BIT"),
+                        createRow("COLUMN_NAME", "status", "TYPE_NAME", "ENUM"), createRow("COLUMN_NAME", "name", "TYPE_NAME", "VARCHAR"));
+            }
+        });
+        when(databaseMetaData.getIndexInfo(isNull(String.class), isNull(String.class), anyString(), anyBoolean(), anyBoolean())).thenAnswer(new ResultSetAnswer() {
+            
+            @Override
+            protected List<Map<String, String>> getRows(final String actualTableName) {
+                return Arrays.asList(createRow("INDEX_NAME", "PRIMARY"), createRow("INDEX_NAME", "order_index_" + actualTableName));
+            }
+        });
+        return result;
+    }
+    
+    private Connection mockConnection(final String databaseProductName) throws SQLException {
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(databaseMetaData.getDatabaseProductName()).thenReturn(databaseProductName);
+        Connection result = mock(Connection.class);
+        when(result.getMetaData()).thenReturn(databaseMetaData);
+        return result;
+    }
+    
+    private static Map<String, String> createRow(final String... columnNamesAndValues) {
+        Map<String, String> result = new HashMap<>(columnNamesAndValues.length / 2, 1);
+        for (int i = 0; i < columnNamesAndValues.length; i += 2) {
+            result.put(columnNamesAndValues[i], columnNamesAndValues[i + 1]);
+        }
+        return result;
+    }
+    
+    private static ResultSet mockResultSet(final List<Map<String, String>> rows) throws SQLException {
+        final ResultSet result = mock(ResultSet.class);
+        final int[] rowIndex = {-1};
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++rowIndex[0] < rows.size();
+            }
+        });
+        when(result.getString(anyString())).thenAnswer(new Answer<String>() {
+            
+            @Override
+            public String answer(final InvocationOnMock invocation) {
+                return rows.get(rowIndex[0]).get(invocation.<String>getArgument(0));
+            }
+        });
+        return result;
+    }
+    
+    private abstract static class ResultSetAnswer implements Answer<ResultSet> {
+        
+        @Override
+        public final ResultSet answer(final InvocationOnMock invocation) throws SQLException {
+            return mockResultSet(getRows(invocation.<String>getArgument(2)));
+        }
+        
+        protected abstract List<Map<String, String>> getRows(String actualTableName);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TableMetaDataSnapshotTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertLoadWithoutFile() {
+        assertFalse(new TableMetaDataSnapshot(new File(temporaryFolder.getRoot(), "absent.yaml"), "signature").load().isPresent());
+    }
+    
+    @Test
+    public void assertSaveAndLoad() {
+        File file = new File(temporaryFolder.getRoot(), "snapshot/metadata.yaml");
+        assertTrue(new TableMetaDataSnapshot(file, "signature").save(createTables()));
+        Optional<Map<String, TableMetaData>> actual = new TableMetaDataSnapshot(file, "signature").load();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(createTables()));
+    }
+    
+    @Test
+    public void assertLoadWithDifferentSignature() {
+        File file = new File(temporaryFolder.getRoot(), "metadata.yaml");
+        new TableMetaDataSnapshot(file, "signature").save(createTables());
+        assertFalse(new TableMetaDataSnapshot(file, "other_signature").load().isPresent());
+    }
+    
+    @Test
+    public void assertSaveToUnwritablePath() throws IOException {
+        File file = new File(temporaryFolder.newFile("not_directory"), "metadata.yaml");
+        assertFalse(new TableMetaDataSnapshot(file, "signature").save(createTables()));
+        assertFalse(file.exists());
+    }
+    
+    private Map<String, TableMetaData> createTables() {
+        Map<String, TableMetaData> result = new HashMap<>(2, 1);
+        result.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "INT", true), new ColumnMetaData("user_id", "INT", false)), Collections.singletonList("order_index")));
+        result.put("t_config", new TableMetaData(Collections.singletonList(new ColumnMetaData("id", "VARCHAR", true)), Collections.<String>emptyList()));
+        return result;
+    }
+}
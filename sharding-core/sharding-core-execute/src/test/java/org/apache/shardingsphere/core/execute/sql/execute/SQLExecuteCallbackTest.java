@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute;
+
+import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.spi.database.DataSourceMetaData;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class SQLExecuteCallbackTest {
+    
+    private static final String URL = "jdbc:mysql://127.0.0.1:3306/sql_execute_callback_test";
+    
+    @Mock
+    private DatabaseType databaseType;
+    
+    @Mock
+    private Statement statement;
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private DatabaseMetaData databaseMetaData;
+    
+    private List<StatementExecuteUnit> statementExecuteUnits;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(statement.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getURL()).thenReturn(URL);
+        when(databaseType.getDataSourceMetaData(URL)).thenReturn(mock(DataSourceMetaData.class));
+        RouteUnit routeUnit = new RouteUnit("ds_0", new SQLUnit("SELECT 1", Collections.emptyList()));
+        StatementExecuteUnit statementExecuteUnit = new StatementExecuteUnit(routeUnit, statement, ConnectionMode.MEMORY_STRICTLY);
+        statementExecuteUnits = Arrays.asList(statementExecuteUnit, statementExecuteUnit);
+    }
+    
+    @Test
+    public void assertExecuteWithCachedDataSourceMetaData() throws SQLException {
+        SQLExecuteCallback<Integer> sqlExecuteCallback = new SQLExecuteCallback<Integer>(databaseType, true) {
+            
+            @Override
+            protected Integer executeSQL(final RouteUnit routeUnit, final Statement statement, final ConnectionMode connectionMode) {
+                return 1;
+            }
+        };
+        Collection<Integer> actual = sqlExecuteCallback.execute(statementExecuteUnits, true, Collections.<String, Object>emptyMap());
+        assertThat(actual.size(), is(2));
+        sqlExecuteCallback.execute(statementExecuteUnits, false, Collections.<String, Object>emptyMap());
+        verify(databaseMetaData, times(4)).getURL();
+        verify(databaseType, times(1)).getDataSourceMetaData(URL);
+    }
+}
@@ -28,6 +28,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.LinkedList;
@@ -65,6 +66,8 @@ public class AggregationDistinctQueryResultTest {
             when(queryResult.getValue(3, Object.class)).thenReturn(10 * i);
             when(queryResult.getValue(4, Object.class)).thenReturn(10 * i);
             when(queryResult.getValue(5, Object.class)).thenReturn(10 * i);
+            when(queryResult.getColumnType(1)).thenReturn(Types.BIGINT);
+            when(queryResult.getColumnType(3)).thenReturn(Types.DECIMAL);
             result.add(queryResult);
             result.add(queryResult);
         }
@@ -169,4 +172,13 @@ public class AggregationDistinctQueryResultTest {
     public void assertGetColumnIndex() {
         assertThat(aggregationDistinctQueryResult.getColumnIndex("c"), is(2));
     }
+    
+    @Test
+    public void assertGetColumnType() {
+        assertThat(aggregationDistinctQueryResult.getColumnType(1), is(Types.BIGINT));
+        assertThat(aggregationDistinctQueryResult.getColumnType(2), is(Types.INTEGER));
+        assertThat(aggregationDistinctQueryResult.getColumnType(3), is(Types.DECIMAL));
+        assertThat(aggregationDistinctQueryResult.getColumnType(4), is(Types.INTEGER));
+        assertThat(aggregationDistinctQueryResult.getColumnType(5), is(Types.DECIMAL));
+    }
 }
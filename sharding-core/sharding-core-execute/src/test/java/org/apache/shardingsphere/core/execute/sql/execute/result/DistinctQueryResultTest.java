@@ -29,6 +29,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
@@ -63,6 +64,7 @@ public class DistinctQueryResultTest {
             when(queryResult.getColumnLabel(1)).thenReturn("order_id");
             when(queryResult.getValue(1, Object.class)).thenReturn(10 * i);
             when(queryResult.isCaseSensitive(1)).thenReturn(true);
+            when(queryResult.getColumnType(1)).thenReturn(Types.BIGINT);
             result.add(queryResult);
             result.add(queryResult);
         }
@@ -146,6 +148,11 @@ public class DistinctQueryResultTest {
         assertThat(distinctQueryResult.getColumnCount(), is(1));
     }
     
+    @Test
+    public void assertGetColumnType() {
+        assertThat(distinctQueryResult.getColumnType(1), is(Types.BIGINT));
+    }
+    
     @Test
     @SneakyThrows
     public void assertGetColumnLabel() {
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.rule.EncryptRule;
+import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptorEngine;
+import org.apache.shardingsphere.spi.encrypt.ShardingBatchEncryptor;
+import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyListOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MemoryQueryResultTest {
+    
+    @Test
+    public void assertGetValueWithoutEncryptor() throws SQLException {
+        MemoryQueryResult actual = new MemoryQueryResult(getResultSet());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertThat(actual.getValue("cipher", Object.class), is((Object) "encrypt_foo"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is((Object) "encrypt_bar"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueWithBatchEncryptor() throws SQLException {
+        ShardingBatchEncryptor shardingEncryptor = mock(ShardingBatchEncryptor.class);
+        when(shardingEncryptor.batchDecrypt(Arrays.asList("encrypt_foo", "encrypt_bar"))).thenReturn(Arrays.<Object>asList("foo", "bar"));
+        MemoryQueryResult actual = new MemoryQueryResult(getResultSet(), getEncryptRule(shardingEncryptor));
+        verify(shardingEncryptor, never()).batchDecrypt(anyListOf(String.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        verify(shardingEncryptor, never()).batchDecrypt(anyListOf(String.class));
+        assertThat(actual.getValue(2, Object.class), is((Object) "foo"));
+        assertThat(actual.getValue("cipher", Object.class), is((Object) "foo"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is((Object) "bar"));
+        assertThat(actual.getCalendarValue(2, Object.class, null), is((Object) "bar"));
+        verify(shardingEncryptor, times(1)).batchDecrypt(anyListOf(String.class));
+        verify(shardingEncryptor, never()).decrypt("encrypt_foo");
+    }
+    
+    @Test
+    public void assertGetValueWithEncryptor() throws SQLException {
+        ShardingEncryptor shardingEncryptor = mock(ShardingEncryptor.class);
+        when(shardingEncryptor.decrypt("encrypt_foo")).thenReturn("foo");
+        when(shardingEncryptor.decrypt("encrypt_bar")).thenReturn("bar");
+        MemoryQueryResult actual = new MemoryQueryResult(getResultSet(), getEncryptRule(shardingEncryptor));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is((Object) "foo"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is((Object) "bar"));
+        verify(shardingEncryptor, times(1)).decrypt("encrypt_foo");
+        verify(shardingEncryptor, times(1)).decrypt("encrypt_bar");
+    }
+    
+    @Test
+    public void assertGetValueAfterDecryptFailed() throws SQLException {
+        ShardingEncryptor shardingEncryptor = mock(ShardingEncryptor.class);
+        when(shardingEncryptor.decrypt("encrypt_foo")).thenThrow(new IllegalStateException("Invalid key")).thenReturn("foo");
+        when(shardingEncryptor.decrypt("encrypt_bar")).thenReturn("bar");
+        MemoryQueryResult actual = new MemoryQueryResult(getResultSet(), getEncryptRule(shardingEncryptor));
+        assertTrue(actual.next());
+        try {
+            actual.getValue(2, Object.class);
+            fail("Expected IllegalStateException");
+        } catch (final IllegalStateException ex) {
+            assertThat(ex.getMessage(), is("Invalid key"));
+        }
+        assertThat(actual.getValue(2, Object.class), is((Object) "foo"));
+        verify(shardingEncryptor, times(2)).decrypt("encrypt_foo");
+    }
+    
+    @Test
+    public void assertGetValueWithEncryptorAndEmptyResult() throws SQLException {
+        ShardingBatchEncryptor shardingEncryptor = mock(ShardingBatchEncryptor.class);
+        ResultSet resultSet = getResultSet();
+        when(resultSet.next()).thenReturn(false);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet, getEncryptRule(shardingEncryptor));
+        assertFalse(actual.next());
+        verify(shardingEncryptor, never()).batchDecrypt(Collections.<String>emptyList());
+    }
+    
+    private EncryptRule getEncryptRule(final ShardingEncryptor shardingEncryptor) {
+        ShardingEncryptorEngine shardingEncryptorEngine = mock(ShardingEncryptorEngine.class);
+        when(shardingEncryptorEngine.getShardingEncryptor("t_user", "id")).thenReturn(Optional.<ShardingEncryptor>absent());
+        when(shardingEncryptorEngine.getShardingEncryptor("t_user", "cipher")).thenReturn(Optional.of(shardingEncryptor));
+        EncryptRule result = mock(EncryptRule.class);
+        when(result.getEncryptorEngine()).thenReturn(shardingEncryptorEngine);
+        return result;
+    }
+    
+    private ResultSet getResultSet() throws SQLException {
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnName(1)).thenReturn("id");
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("id");
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.getColumnName(2)).thenReturn("cipher");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("cipher");
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(resultSetMetaData.getTableName(1)).thenReturn("t_user");
+        when(resultSetMetaData.getTableName(2)).thenReturn("t_user");
+        ResultSet result = mock(ResultSet.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(result.next()).thenReturn(true, true, false);
+        when(result.getInt(1)).thenReturn(1, 2);
+        when(result.getString(2)).thenReturn("encrypt_foo", "encrypt_bar");
+        return result;
+    }
+}
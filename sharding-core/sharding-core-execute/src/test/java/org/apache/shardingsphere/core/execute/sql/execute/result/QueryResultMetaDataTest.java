@@ -29,6 +29,7 @@ import org.junit.Test;
 
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -74,6 +75,7 @@ public class QueryResultMetaDataTest {
         when(result.getColumnLabel(anyInt())).thenReturn("label");
         when(result.getTableName(anyInt())).thenReturn("table");
         when(result.isCaseSensitive(anyInt())).thenReturn(false);
+        when(result.getColumnType(anyInt())).thenReturn(Types.INTEGER);
         return result;
     }
     
@@ -102,6 +104,11 @@ public class QueryResultMetaDataTest {
         assertFalse(queryResultMetaData.isCaseSensitive(1));
     }
     
+    @Test
+    public void assertGetColumnType() {
+        assertThat(queryResultMetaData.getColumnType(1), is(Types.INTEGER));
+    }
+    
     @Test
     public void assertGetShardingEncryptor() {
         assertThat(queryResultMetaData.getShardingEncryptor(1).get(), is(shardingEncryptor));
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.row;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ColumnarRowsTest {
+    
+    @Test
+    public void assertGetValueWithTypedColumns() {
+        ColumnarRows actual = new ColumnarRows(new int[] {Types.INTEGER, Types.BIGINT, Types.DOUBLE, Types.VARCHAR, Types.DECIMAL});
+        actual.addRow(new Object[] {1, 10L, 1.5D, "foo", new BigDecimal("1.1")});
+        actual.addRow(new Object[] {2, 20L, 2.5D, "bar", new BigDecimal("2.2")});
+        assertThat(actual.getRowCount(), is(2));
+        assertThat(actual.getColumnCount(), is(5));
+        assertThat(actual.getValue(0, 1), is((Object) 1));
+        assertThat(actual.getValue(1, 2), is((Object) 20L));
+        assertThat(actual.getValue(0, 3), is((Object) 1.5D));
+        assertThat(actual.getValue(1, 4), is((Object) "bar"));
+        assertThat(actual.getValue(1, 5), is((Object) new BigDecimal("2.2")));
+    }
+    
+    @Test
+    public void assertGetValueWithNull() {
+        ColumnarRows actual = new ColumnarRows(new int[] {Types.INTEGER, Types.VARCHAR});
+        actual.addRow(new Object[] {null, null});
+        actual.addRow(new Object[] {1, "foo"});
+        assertThat(actual.getValue(0, 1), nullValue());
+        assertThat(actual.getValue(0, 2), nullValue());
+        assertThat(actual.getValue(1, 1), is((Object) 1));
+        assertThat(actual.getValue(1, 2), is((Object) "foo"));
+    }
+    
+    @Test
+    public void assertGetValueWithMismatchedType() {
+        ColumnarRows actual = new ColumnarRows(new int[] {Types.INTEGER});
+        actual.addRow(new Object[] {1});
+        actual.addRow(new Object[] {2L});
+        actual.addRow(new Object[] {"foo"});
+        assertThat(actual.getValue(0, 1), is((Object) 1));
+        assertThat(actual.getValue(1, 1), is((Object) 2L));
+        assertThat(actual.getValue(2, 1), is((Object) "foo"));
+    }
+    
+    @Test
+    public void assertGetValueWithManyRows() {
+        ColumnarRows actual = new ColumnarRows(new int[] {Types.BIGINT, Types.VARCHAR});
+        for (int i = 0; i < 5000; i++) {
+            actual.addRow(new Object[] {(long) i, "value_" + i % 3});
+        }
+        assertThat(actual.getRowCount(), is(5000));
+        assertThat(actual.getValue(1024, 1), is((Object) 1024L));
+        assertThat(actual.getValue(4999, 1), is((Object) 4999L));
+        assertThat(actual.getValue(4999, 2), is((Object) "value_1"));
+    }
+    
+    @Test
+    public void assertGetValueWithUniqueStrings() {
+        ColumnarRows actual = new ColumnarRows(new int[] {Types.VARCHAR});
+        for (int i = 0; i < 5000; i++) {
+            actual.addRow(new Object[] {"value_" + i});
+        }
+        assertThat(actual.getValue(0, 1), is((Object) "value_0"));
+        assertThat(actual.getValue(4999, 1), is((Object) "value_4999"));
+    }
+    
+    @Test
+    public void assertReplaceColumn() {
+        ColumnarRows actual = new ColumnarRows(new int[] {Types.INTEGER, Types.VARCHAR});
+        actual.addRow(new Object[] {1, "foo"});
+        actual.addRow(new Object[] {2, "bar"});
+        actual.replaceColumn(2, Arrays.asList(10L, null));
+        assertThat(actual.getValue(0, 1), is((Object) 1));
+        assertThat(actual.getValue(0, 2), is((Object) 10L));
+        assertThat(actual.getValue(1, 2), nullValue());
+    }
+    
+    @Test
+    public void assertIterator() {
+        ColumnarRows actual = new ColumnarRows(new int[] {Types.INTEGER, Types.VARCHAR});
+        Object[] row = new Object[] {1, "foo"};
+        actual.addRow(row);
+        row[0] = 2;
+        row[1] = "bar";
+        actual.addRow(row);
+        Iterator<Object[]> iterator = actual.iterator();
+        assertTrue(iterator.hasNext());
+        assertThat(iterator.next(), is(new Object[] {1, "foo"}));
+        assertTrue(iterator.hasNext());
+        assertThat(iterator.next(), is(new Object[] {2, "bar"}));
+        assertFalse(iterator.hasNext());
+    }
+}
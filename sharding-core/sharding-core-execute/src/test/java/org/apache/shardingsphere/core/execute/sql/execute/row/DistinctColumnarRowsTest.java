@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.row;
+
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DistinctColumnarRowsTest {
+    
+    @Test
+    public void assertAddWithAllColumns() {
+        DistinctColumnarRows actual = new DistinctColumnarRows(new int[] {Types.INTEGER, Types.VARCHAR}, Collections.<Integer>emptyList());
+        assertTrue(actual.add(new Object[] {1, "foo"}));
+        assertTrue(actual.add(new Object[] {1, "bar"}));
+        assertFalse(actual.add(new Object[] {1, "foo"}));
+        assertTrue(actual.add(new Object[] {null, null}));
+        assertFalse(actual.add(new Object[] {null, null}));
+        assertThat(actual.getRows().getRowCount(), is(3));
+    }
+    
+    @Test
+    public void assertAddWithDistinctColumns() {
+        DistinctColumnarRows actual = new DistinctColumnarRows(new int[] {Types.INTEGER, Types.VARCHAR}, Collections.singletonList(2));
+        assertTrue(actual.add(new Object[] {1, "foo"}));
+        assertFalse(actual.add(new Object[] {2, "foo"}));
+        assertTrue(actual.add(new Object[] {2, "bar"}));
+        assertThat(actual.getRows().getRowCount(), is(2));
+        assertThat(actual.getRows().getRow(1), is(new Object[] {2, "bar"}));
+    }
+    
+    @Test
+    public void assertAddWithManyRows() {
+        DistinctColumnarRows actual = new DistinctColumnarRows(new int[] {Types.BIGINT}, Collections.<Integer>emptyList());
+        for (int i = 0; i < 3000; i++) {
+            assertTrue(actual.add(new Object[] {(long) i}));
+        }
+        for (int i = 0; i < 3000; i++) {
+            assertFalse(actual.add(new Object[] {(long) i}));
+        }
+        assertThat(actual.getRows().getRowCount(), is(3000));
+    }
+}
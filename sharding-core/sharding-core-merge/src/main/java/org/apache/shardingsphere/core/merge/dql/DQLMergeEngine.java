@@ -20,6 +20,8 @@ package org.apache.shardingsphere.core.merge.dql;
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 import lombok.Getter;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.sql.execute.result.AggregationDistinctQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.DistinctQueryResult;
@@ -27,8 +29,10 @@ import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.core.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
+import org.apache.shardingsphere.core.merge.dql.orderby.OrderByLoserTreeMergedResult;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.pagination.LimitDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.pagination.RowNumberDecoratorMergedResult;
@@ -41,6 +45,10 @@ import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -53,8 +61,14 @@ import java.util.TreeMap;
  */
 public final class DQLMergeEngine implements MergeEngine {
     
+    private static final Collection<Integer> SPILLABLE_COLUMN_TYPES = new HashSet<>(Arrays.asList(Types.BIT, Types.BOOLEAN, Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, 
+            Types.NUMERIC, Types.DECIMAL, Types.FLOAT, Types.REAL, Types.DOUBLE, Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR, 
+            Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.DATE, Types.TIME, Types.TIMESTAMP, Types.NULL));
+    
     private final DatabaseType databaseType;
     
+    private final ShardingProperties shardingProperties;
+    
     private final SQLRouteResult routeResult;
     
     private final ShardingSelectOptimizedStatement optimizedStatement;
@@ -64,8 +78,9 @@ public final class DQLMergeEngine implements MergeEngine {
     @Getter
     private final Map<String, Integer> columnLabelIndexMap;
     
-    public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults) throws SQLException {
+    public DQLMergeEngine(final DatabaseType databaseType, final ShardingProperties shardingProperties, final SQLRouteResult routeResult, final List<QueryResult> queryResults) throws SQLException {
         this.databaseType = databaseType;
+        this.shardingProperties = shardingProperties;
         this.routeResult = routeResult;
         this.optimizedStatement = (ShardingSelectOptimizedStatement) routeResult.getOptimizedStatement();
         this.queryResults = getRealQueryResults(queryResults);
@@ -123,14 +138,48 @@ public final class DQLMergeEngine implements MergeEngine {
             return getGroupByMergedResult();
         }
         if (!optimizedStatement.getOrderBy().getItems().isEmpty()) {
-            return new OrderByStreamMergedResult(queryResults, optimizedStatement.getOrderBy().getItems());
+            return getOrderByMergedResult();
         }
         return new IteratorStreamMergedResult(queryResults);
     }
     
+    private MergedResult getOrderByMergedResult() throws SQLException {
+        return shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.MERGE_ORDER_BY_LOSER_TREE_ENABLED)
+                ? new OrderByLoserTreeMergedResult(queryResults, optimizedStatement.getOrderBy().getItems()) : new OrderByStreamMergedResult(queryResults, optimizedStatement.getOrderBy().getItems());
+    }
+    
     private MergedResult getGroupByMergedResult() throws SQLException {
-        return optimizedStatement.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, optimizedStatement) : new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, optimizedStatement);
+        if (optimizedStatement.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, optimizedStatement);
+        }
+        int maxMemoryRows = shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MERGE_GROUP_BY_MEMORY_MAX_ROWS);
+        int topN = getTopN();
+        return maxMemoryRows > 0 && isSpillable() ? new GroupBySpillMergedResult(columnLabelIndexMap, queryResults, optimizedStatement, maxMemoryRows, topN)
+                : new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, optimizedStatement, topN);
+    }
+    
+    private boolean isSpillable() throws SQLException {
+        QueryResult queryResult = queryResults.get(0);
+        for (int i = 1; i <= queryResult.getColumnCount(); i++) {
+            if (!SPILLABLE_COLUMN_TYPES.contains(queryResult.getColumnType(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private int getTopN() {
+        Pagination pagination = optimizedStatement.getPagination();
+        if (!pagination.isHasPagination() || !pagination.getActualRowCount().isPresent() || !isLimitPagination()) {
+            return 0;
+        }
+        long result = (long) pagination.getActualOffset() + pagination.getActualRowCount().get();
+        return result > Integer.MAX_VALUE ? 0 : (int) result;
+    }
+    
+    private boolean isLimitPagination() {
+        String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
+        return "MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName);
     }
     
     private MergedResult decorate(final MergedResult mergedResult) throws SQLException {
@@ -138,10 +187,10 @@ public final class DQLMergeEngine implements MergeEngine {
         if (!pagination.isHasPagination() || 1 == queryResults.size()) {
             return mergedResult;
         }
-        String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
-        if ("MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName)) {
+        if (isLimitPagination()) {
             return new LimitDecoratorMergedResult(mergedResult, pagination);
         }
+        String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
         if ("Oracle".equals(trunkDatabaseName)) {
             return new RowNumberDecoratorMergedResult(mergedResult, pagination);
         }
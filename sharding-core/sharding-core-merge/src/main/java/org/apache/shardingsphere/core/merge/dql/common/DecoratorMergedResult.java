@@ -32,7 +32,7 @@ import java.util.Calendar;
  */
 @RequiredArgsConstructor
 @Getter
-public abstract class DecoratorMergedResult implements MergedResult {
+public abstract class DecoratorMergedResult implements MergedResult, AutoCloseable {
     
     private final MergedResult mergedResult;
         
@@ -70,4 +70,11 @@ public abstract class DecoratorMergedResult implements MergedResult {
     public final boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public final void close() throws Exception {
+        if (mergedResult instanceof AutoCloseable) {
+            ((AutoCloseable) mergedResult).close();
+        }
+    }
 }
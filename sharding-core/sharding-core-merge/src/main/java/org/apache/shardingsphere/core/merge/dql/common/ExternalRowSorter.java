@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * External sorter for memory query result rows.
+ *
+ * <p>
+ * Rows are buffered in memory until max memory rows reached, then sorted and spilled to a temporary file as a run.
+ * If any run was spilled, sorted rows are read back by merging all runs.
+ * Max memory rows which is not greater than 0 means never spill.
+ * At most max merged runs are opened at the same time, extra runs are merged into intermediate runs in multiple passes first.
+ * Temporary files are deleted once read, or when sorter is closed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class ExternalRowSorter implements RowSorter {
+    
+    private static final int DEFAULT_MAX_MERGED_RUNS = 64;
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final int maxMemoryRows;
+    
+    private final int maxMergedRuns;
+    
+    private final List<MemoryQueryResultRow> memoryRows = new ArrayList<>();
+    
+    private final Collection<RowSpillFile> spillFiles = new LinkedList<>();
+    
+    private SpilledRowIterator spilledRowIterator;
+    
+    public ExternalRowSorter(final Comparator<MemoryQueryResultRow> comparator, final int maxMemoryRows) {
+        this(comparator, maxMemoryRows, DEFAULT_MAX_MERGED_RUNS);
+    }
+    
+    @Override
+    public void add(final MemoryQueryResultRow row) {
+        memoryRows.add(row);
+        if (maxMemoryRows > 0 && memoryRows.size() >= maxMemoryRows) {
+            spill();
+        }
+    }
+    
+    private void spill() {
+        Collections.sort(memoryRows, comparator);
+        spillFiles.add(RowSpillFile.write(memoryRows));
+        memoryRows.clear();
+    }
+    
+    /**
+     * Judge whether rows were spilled to temporary files.
+     * 
+     * @return rows were spilled or not
+     */
+    public boolean isSpilled() {
+        return !spillFiles.isEmpty();
+    }
+    
+    @Override
+    public Iterator<MemoryQueryResultRow> sort() {
+        if (spillFiles.isEmpty()) {
+            Collections.sort(memoryRows, comparator);
+            return memoryRows.iterator();
+        }
+        if (!memoryRows.isEmpty()) {
+            spill();
+        }
+        while (spillFiles.size() > maxMergedRuns) {
+            mergeRuns();
+        }
+        spilledRowIterator = new SpilledRowIterator(spillFiles, comparator);
+        return spilledRowIterator;
+    }
+    
+    private void mergeRuns() {
+        Collection<RowSpillFile> mergedRuns = new LinkedList<>();
+        Iterator<RowSpillFile> iterator = spillFiles.iterator();
+        while (iterator.hasNext() && mergedRuns.size() < maxMergedRuns) {
+            mergedRuns.add(iterator.next());
+            iterator.remove();
+        }
+        try {
+            spillFiles.add(RowSpillFile.write(new SpilledRowIterator(mergedRuns, comparator)));
+        } finally {
+            for (RowSpillFile each : mergedRuns) {
+                each.close();
+            }
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (null != spilledRowIterator) {
+            spilledRowIterator.close();
+        }
+        for (RowSpillFile each : spillFiles) {
+            each.close();
+        }
+        spillFiles.clear();
+        memoryRows.clear();
+    }
+    
+    private static final class SpilledRowIterator implements Iterator<MemoryQueryResultRow>, Closeable {
+        
+        private final Queue<RowSpillFile> spillFiles;
+        
+        SpilledRowIterator(final Collection<RowSpillFile> spillFiles, final Comparator<MemoryQueryResultRow> comparator) {
+            this.spillFiles = new PriorityQueue<>(spillFiles.size(), new Comparator<RowSpillFile>() {
+                
+                @Override
+                public int compare(final RowSpillFile o1, final RowSpillFile o2) {
+                    return comparator.compare(o1.getCurrentRow(), o2.getCurrentRow());
+                }
+            });
+            for (RowSpillFile each : spillFiles) {
+                if (each.next()) {
+                    this.spillFiles.offer(each);
+                }
+            }
+        }
+        
+        @Override
+        public void close() {
+            for (RowSpillFile each : spillFiles) {
+                each.close();
+            }
+            spillFiles.clear();
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !spillFiles.isEmpty();
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            RowSpillFile first = spillFiles.poll();
+            MemoryQueryResultRow result = first.getCurrentRow();
+            if (first.next()) {
+                spillFiles.offer(first);
+            }
+            return result;
+        }
+        
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Temporary file which keeps a sorted run of memory query result rows.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class RowSpillFile implements Closeable {
+    
+    private final File file;
+    
+    private final int rowCount;
+    
+    private ObjectInputStream inputStream;
+    
+    private int readRowCount;
+    
+    @Getter
+    private MemoryQueryResultRow currentRow;
+    
+    /**
+     * Write rows to a new temporary file.
+     * 
+     * @param rows rows to be written
+     * @return row spill file
+     */
+    static RowSpillFile write(final Collection<MemoryQueryResultRow> rows) {
+        return write(rows.iterator());
+    }
+    
+    /**
+     * Write rows to a new temporary file.
+     * 
+     * @param rows iterator of rows to be written
+     * @return row spill file
+     */
+    @SneakyThrows
+    static RowSpillFile write(final Iterator<MemoryQueryResultRow> rows) {
+        File file = File.createTempFile("sharding-merge-", ".spill");
+        int rowCount = 0;
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            while (rows.hasNext()) {
+                outputStream.writeObject(rows.next().getData());
+                outputStream.reset();
+                rowCount++;
+            }
+        } catch (final IOException | RuntimeException ex) {
+            delete(file);
+            throw ex;
+        }
+        return new RowSpillFile(file, rowCount);
+    }
+    
+    /**
+     * iterate next row.
+     * 
+     * @return has next row
+     */
+    @SneakyThrows
+    boolean next() {
+        if (readRowCount >= rowCount) {
+            currentRow = null;
+            return false;
+        }
+        if (null == inputStream) {
+            inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+        }
+        currentRow = new MemoryQueryResultRow((Object[]) inputStream.readObject());
+        readRowCount++;
+        if (readRowCount == rowCount) {
+            closeInputStream();
+            delete(file);
+        }
+        return true;
+    }
+    
+    /**
+     * Close file and delete it, rows not read are discarded.
+     */
+    @Override
+    public void close() {
+        readRowCount = rowCount;
+        currentRow = null;
+        closeInputStream();
+        delete(file);
+    }
+    
+    @SneakyThrows
+    private void closeInputStream() {
+        if (null != inputStream) {
+            inputStream.close();
+            inputStream = null;
+        }
+    }
+    
+    private static void delete(final File file) {
+        if (file.exists() && !file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+}
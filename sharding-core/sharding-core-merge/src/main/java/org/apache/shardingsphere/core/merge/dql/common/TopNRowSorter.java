@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sorter which only keeps top N rows of memory query result rows.
+ *
+ * <p>
+ * Rows are kept in a bounded heap whose head is the greatest kept row,
+ * a new row replaces the head only if it is less than the head, so memory is proportional to N.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class TopNRowSorter implements RowSorter {
+    
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final int topN;
+    
+    private final PriorityQueue<MemoryQueryResultRow> rows;
+    
+    public TopNRowSorter(final Comparator<MemoryQueryResultRow> comparator, final int topN) {
+        Preconditions.checkArgument(topN > 0, "Top N must be greater than 0.");
+        this.comparator = comparator;
+        this.topN = topN;
+        rows = new PriorityQueue<>(Math.min(topN, MAX_INITIAL_CAPACITY), Collections.reverseOrder(comparator));
+    }
+    
+    @Override
+    public void add(final MemoryQueryResultRow row) {
+        if (rows.size() < topN) {
+            rows.offer(row);
+            return;
+        }
+        if (comparator.compare(row, rows.peek()) < 0) {
+            rows.poll();
+            rows.offer(row);
+        }
+    }
+    
+    @Override
+    public Iterator<MemoryQueryResultRow> sort() {
+        List<MemoryQueryResultRow> result = new ArrayList<>(rows);
+        Collections.sort(result, comparator);
+        return result.iterator();
+    }
+    
+    @Override
+    public void close() {
+        rows.clear();
+    }
+}
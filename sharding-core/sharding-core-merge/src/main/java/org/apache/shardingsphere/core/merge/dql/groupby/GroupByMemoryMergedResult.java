@@ -24,6 +24,8 @@ import com.google.common.collect.Maps;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.common.RowSorter;
+import org.apache.shardingsphere.core.merge.dql.common.TopNRowSorter;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
@@ -48,22 +50,27 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     
     private final ShardingSelectOptimizedStatement optimizedStatement;
     
+    private final int topN;
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
-    public GroupByMemoryMergedResult(
-            final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final ShardingSelectOptimizedStatement optimizedStatement) throws SQLException {
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, 
+                                     final ShardingSelectOptimizedStatement optimizedStatement, final int topN) throws SQLException {
         super(labelAndIndexMap);
         this.optimizedStatement = optimizedStatement;
+        this.topN = topN;
         memoryResultSetRows = init(queryResults);
     }
     
     private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
         Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        Map<AggregationSelectItem, Integer> aggregationColumnTypes = queryResults.isEmpty()
+                ? Collections.<AggregationSelectItem, Integer>emptyMap() : getAggregationColumnTypes(queryResults.iterator().next());
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, optimizedStatement.getGroupBy().getItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
+                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap, aggregationColumnTypes);
                 aggregate(each, groupByValue, aggregationMap);
             }
         }
@@ -76,8 +83,17 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return result.iterator();
     }
     
+    private Map<AggregationSelectItem, Integer> getAggregationColumnTypes(final QueryResult queryResult) throws SQLException {
+        Map<AggregationSelectItem, Integer> result = new HashMap<>();
+        for (AggregationSelectItem each : optimizedStatement.getSelectItems().getAggregationSelectItems()) {
+            result.put(each, queryResult.getColumnType(each.getIndex()));
+        }
+        return result;
+    }
+    
     private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
+                                          final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap,
+                                          final Map<AggregationSelectItem, Integer> aggregationColumnTypes) throws SQLException {
         if (!dataMap.containsKey(groupByValue)) {
             dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
         }
@@ -86,7 +102,7 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
                 
                 @Override
                 public AggregationUnit apply(final AggregationSelectItem input) {
-                    return AggregationUnitFactory.create(input.getType());
+                    return AggregationUnitFactory.create(input.getType(), aggregationColumnTypes.get(input));
                 }
             });
             aggregationMap.put(groupByValue, map);
@@ -130,8 +146,16 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     }
     
     private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
+        GroupByRowComparator comparator = new GroupByRowComparator(optimizedStatement, valueCaseSensitive);
+        if (topN > 0 && topN < dataMap.size()) {
+            RowSorter rowSorter = new TopNRowSorter(comparator, topN);
+            for (MemoryQueryResultRow each : dataMap.values()) {
+                rowSorter.add(each);
+            }
+            return Lists.newArrayList(rowSorter.sort());
+        }
         List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        Collections.sort(result, new GroupByRowComparator(optimizedStatement, valueCaseSensitive));
+        Collections.sort(result, comparator);
         return result;
     }
     
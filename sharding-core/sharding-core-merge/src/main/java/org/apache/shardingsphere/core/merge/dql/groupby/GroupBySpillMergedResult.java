@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.common.ExternalRowSorter;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.common.RowSorter;
+import org.apache.shardingsphere.core.merge.dql.common.TopNRowSorter;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.item.AggregationSelectItem;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Merged result for group by which spills to temporary files when memory rows exceed limit.
+ *
+ * <p>
+ * Rows are aggregated in memory until group count reaches max memory rows,
+ * then partial aggregation results are spilled as runs sorted by group by values.
+ * Runs are merged back in stream to finish aggregation, and then sorted by order by items with the same memory limit,
+ * or only top N rows are kept if pagination limits the merged rows.
+ * Partial results of average are kept by their derived count and sum items.
+ * Temporary files are deleted if merging fails, or when merged result is closed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class GroupBySpillMergedResult extends MemoryMergedResult implements AutoCloseable {
+    
+    private final ShardingSelectOptimizedStatement optimizedStatement;
+    
+    private final int maxMemoryRows;
+    
+    private final int topN;
+    
+    private final List<AggregationSelectItem> aggregationSelectItems;
+    
+    private final List<AggregationSelectItem> partialAggregationSelectItems;
+    
+    private final Map<AggregationSelectItem, Integer> aggregationColumnTypes;
+    
+    private final RowSorter orderBySorter;
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    public GroupBySpillMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, 
+                                    final ShardingSelectOptimizedStatement optimizedStatement, final int maxMemoryRows, final int topN) throws SQLException {
+        super(labelAndIndexMap);
+        this.optimizedStatement = optimizedStatement;
+        this.maxMemoryRows = maxMemoryRows;
+        this.topN = topN;
+        aggregationSelectItems = optimizedStatement.getSelectItems().getAggregationSelectItems();
+        partialAggregationSelectItems = getPartialAggregationSelectItems();
+        aggregationColumnTypes = queryResults.isEmpty() ? Collections.<AggregationSelectItem, Integer>emptyMap() : getAggregationColumnTypes(queryResults.get(0));
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.<Boolean>emptyList() : getValueCaseSensitive(queryResults.iterator().next());
+        orderBySorter = createOrderBySorter(new GroupByRowComparator(optimizedStatement, valueCaseSensitive));
+        memoryResultSetRows = init(queryResults);
+    }
+    
+    private List<AggregationSelectItem> getPartialAggregationSelectItems() {
+        List<AggregationSelectItem> result = new ArrayList<>(aggregationSelectItems.size());
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            if (each.getDerivedAggregationItems().isEmpty()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Map<AggregationSelectItem, Integer> getAggregationColumnTypes(final QueryResult queryResult) throws SQLException {
+        Map<AggregationSelectItem, Integer> result = new HashMap<>();
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            result.put(each, queryResult.getColumnType(each.getIndex()));
+        }
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
+        ExternalRowSorter groupBySorter = new ExternalRowSorter(new GroupByValueComparator(optimizedStatement.getGroupBy().getItems()), maxMemoryRows);
+        try {
+            return init(queryResults, groupBySorter);
+        } catch (final SQLException | RuntimeException ex) {
+            orderBySorter.close();
+            throw ex;
+        } finally {
+            groupBySorter.close();
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults, final ExternalRowSorter groupBySorter) throws SQLException {
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+        Map<GroupByValue, AggregationUnit[]> aggregationMap = new HashMap<>(1024);
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, optimizedStatement.getGroupBy().getItems());
+                if (!dataMap.containsKey(groupByValue)) {
+                    if (dataMap.size() >= maxMemoryRows) {
+                        spillPartialRows(dataMap, aggregationMap, groupBySorter);
+                    }
+                    dataMap.put(groupByValue, new MemoryQueryResultRow(each));
+                    aggregationMap.put(groupByValue, createAggregationUnits());
+                }
+                aggregate(each, aggregationMap.get(groupByValue));
+            }
+        }
+        if (groupBySorter.isSpilled()) {
+            spillPartialRows(dataMap, aggregationMap, groupBySorter);
+            mergePartialRows(groupBySorter.sort());
+        } else {
+            for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+                orderBySorter.add(getResultRow(entry.getValue(), aggregationMap.get(entry.getKey())));
+            }
+        }
+        return orderBySorter.sort();
+    }
+    
+    private RowSorter createOrderBySorter(final GroupByRowComparator comparator) {
+        return topN > 0 ? new TopNRowSorter(comparator, topN) : new ExternalRowSorter(comparator, maxMemoryRows);
+    }
+    
+    private AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[partialAggregationSelectItems.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = AggregationUnitFactory.create(partialAggregationSelectItems.get(i).getType(), aggregationColumnTypes.get(partialAggregationSelectItems.get(i)));
+        }
+        return result;
+    }
+    
+    private void aggregate(final QueryResult queryResult, final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            Object value = queryResult.getValue(partialAggregationSelectItems.get(i).getIndex(), Object.class);
+            Preconditions.checkState(null == value || value instanceof Comparable, "Aggregation value must implements Comparable");
+            aggregationUnits[i].merge(Collections.<Comparable<?>>singletonList((Comparable<?>) value));
+        }
+    }
+    
+    private void aggregate(final MemoryQueryResultRow partialRow, final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            aggregationUnits[i].merge(Collections.<Comparable<?>>singletonList((Comparable<?>) partialRow.getCell(partialAggregationSelectItems.get(i).getIndex())));
+        }
+    }
+    
+    private void spillPartialRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, AggregationUnit[]> aggregationMap, final ExternalRowSorter groupBySorter) {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            groupBySorter.add(getPartialRow(entry.getValue(), aggregationMap.get(entry.getKey())));
+        }
+        dataMap.clear();
+        aggregationMap.clear();
+    }
+    
+    private void mergePartialRows(final Iterator<MemoryQueryResultRow> partialRows) {
+        GroupByValueComparator groupByValueComparator = new GroupByValueComparator(optimizedStatement.getGroupBy().getItems());
+        MemoryQueryResultRow currentRow = null;
+        AggregationUnit[] aggregationUnits = null;
+        while (partialRows.hasNext()) {
+            MemoryQueryResultRow partialRow = partialRows.next();
+            if (null == currentRow || 0 != groupByValueComparator.compare(currentRow, partialRow)) {
+                if (null != currentRow) {
+                    orderBySorter.add(getResultRow(currentRow, aggregationUnits));
+                }
+                currentRow = partialRow;
+                aggregationUnits = createAggregationUnits();
+            }
+            aggregate(partialRow, aggregationUnits);
+        }
+        if (null != currentRow) {
+            orderBySorter.add(getResultRow(currentRow, aggregationUnits));
+        }
+    }
+    
+    private MemoryQueryResultRow getPartialRow(final MemoryQueryResultRow row, final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            row.setCell(partialAggregationSelectItems.get(i).getIndex(), aggregationUnits[i].getResult());
+        }
+        return row;
+    }
+    
+    private MemoryQueryResultRow getResultRow(final MemoryQueryResultRow row, final AggregationUnit[] aggregationUnits) {
+        getPartialRow(row, aggregationUnits);
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            if (each.getDerivedAggregationItems().isEmpty()) {
+                continue;
+            }
+            List<Comparable<?>> values = new ArrayList<>(each.getDerivedAggregationItems().size());
+            for (AggregationSelectItem derived : each.getDerivedAggregationItems()) {
+                values.add((Comparable<?>) row.getCell(derived.getIndex()));
+            }
+            AggregationUnit aggregationUnit = AggregationUnitFactory.create(each.getType(), aggregationColumnTypes.get(each));
+            aggregationUnit.merge(values);
+            row.setCell(each.getIndex(), aggregationUnit.getResult());
+        }
+        return row;
+    }
+    
+    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult) throws SQLException {
+        List<Boolean> result = Lists.newArrayList(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
+            result.add(queryResult.isCaseSensitive(columnIndex));
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        if (memoryResultSetRows.hasNext()) {
+            setCurrentResultSetRow(memoryResultSetRows.next());
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public void close() {
+        orderBySorter.close();
+    }
+}
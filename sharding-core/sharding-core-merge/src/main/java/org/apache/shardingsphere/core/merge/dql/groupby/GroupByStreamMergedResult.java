@@ -31,6 +31,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -46,6 +47,8 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final ShardingSelectOptimizedStatement optimizedStatement;
     
+    private final Map<AggregationSelectItem, Integer> aggregationColumnTypes;
+    
     private final List<Object> currentRow;
     
     private List<?> currentGroupByValues;
@@ -55,11 +58,20 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         super(queryResults, optimizedStatement.getOrderBy().getItems());
         this.labelAndIndexMap = labelAndIndexMap;
         this.optimizedStatement = optimizedStatement;
+        aggregationColumnTypes = getAggregationColumnTypes(queryResults.get(0));
         currentRow = new ArrayList<>(labelAndIndexMap.size());
         currentGroupByValues = getOrderByValuesQueue().isEmpty()
                 ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), optimizedStatement.getGroupBy().getItems()).getGroupValues();
     }
     
+    private Map<AggregationSelectItem, Integer> getAggregationColumnTypes(final QueryResult queryResult) throws SQLException {
+        Map<AggregationSelectItem, Integer> result = new HashMap<>();
+        for (AggregationSelectItem each : optimizedStatement.getSelectItems().getAggregationSelectItems()) {
+            result.put(each, queryResult.getColumnType(each.getIndex()));
+        }
+        return result;
+    }
+    
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
@@ -82,7 +94,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
                     
                     @Override
                     public AggregationUnit apply(final AggregationSelectItem input) {
-                        return AggregationUnitFactory.create(input.getType());
+                        return AggregationUnitFactory.create(input.getType(), aggregationColumnTypes.get(input));
                     }
                 });
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), optimizedStatement.getGroupBy().getItems()).getGroupValues())) {
@@ -38,9 +38,9 @@ public final class AccumulationAggregationUnit implements AggregationUnit {
             return;
         }
         if (null == result) {
-            result = new BigDecimal("0");
+            result = BigDecimal.ZERO;
         }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        result = result.add(AggregationValueUtil.toBigDecimal(values.get(0)));
     }
     
     @Override
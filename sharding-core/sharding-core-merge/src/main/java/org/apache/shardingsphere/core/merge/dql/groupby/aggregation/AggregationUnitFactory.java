@@ -21,6 +21,8 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.AggregationType;
 
+import java.sql.Types;
+
 /**
  * Aggregation unit factory.
  * 
@@ -33,9 +35,10 @@ public final class AggregationUnitFactory {
      * Create aggregation unit instance.
      * 
      * @param type aggregation function type
+     * @param columnType column type of aggregation value, value of {@code java.sql.Types}
      * @return aggregation unit instance
      */
-    public static AggregationUnit create(final AggregationType type) {
+    public static AggregationUnit create(final AggregationType type, final int columnType) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
@@ -43,11 +46,27 @@ public final class AggregationUnitFactory {
                 return new ComparableAggregationUnit(true);
             case SUM:
             case COUNT:
-                return new AccumulationAggregationUnit();
+                return createAccumulationAggregationUnit(columnType);
             case AVG:
                 return new AverageAggregationUnit();
             default:
                 throw new UnsupportedOperationException(type.name());
         }
     }
+    
+    private static AggregationUnit createAccumulationAggregationUnit(final int columnType) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return new LongAccumulationAggregationUnit();
+            case Types.FLOAT:
+            case Types.REAL:
+            case Types.DOUBLE:
+                return new DoubleAccumulationAggregationUnit();
+            default:
+                return new AccumulationAggregationUnit();
+        }
+    }
 }
@@ -40,13 +40,13 @@ public final class AverageAggregationUnit implements AggregationUnit {
             return;
         }
         if (null == count) {
-            count = new BigDecimal("0");
+            count = BigDecimal.ZERO;
         }
         if (null == sum) {
-            sum = new BigDecimal("0");
+            sum = BigDecimal.ZERO;
         }
-        count = count.add(new BigDecimal(values.get(0).toString()));
-        sum = sum.add(new BigDecimal(values.get(1).toString()));
+        count = count.add(AggregationValueUtil.toBigDecimal(values.get(0)));
+        sum = sum.add(AggregationValueUtil.toBigDecimal(values.get(1)));
     }
     
     @Override
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for approximate numeric column.
+ *
+ * <p>
+ * Values are accumulated as primitive double, which keeps the same precision as database does for float and double column.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class DoubleAccumulationAggregationUnit implements AggregationUnit {
+    
+    private boolean merged;
+    
+    private double result;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        merged = true;
+        Comparable<?> value = values.get(0);
+        result += value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(value.toString());
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return merged ? BigDecimal.valueOf(result) : null;
+    }
+}
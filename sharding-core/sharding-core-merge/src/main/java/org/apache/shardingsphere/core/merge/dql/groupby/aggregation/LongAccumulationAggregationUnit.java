@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for integral column.
+ *
+ * <p>
+ * Values are accumulated as primitive long, and promoted to big decimal when overflow or non integral value occurs.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class LongAccumulationAggregationUnit implements AggregationUnit {
+    
+    private boolean merged;
+    
+    private long longResult;
+    
+    private BigDecimal decimalResult;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        merged = true;
+        Comparable<?> value = values.get(0);
+        if (null == decimalResult && AggregationValueUtil.isIntegral(value)) {
+            long longValue = ((Number) value).longValue();
+            long sum = longResult + longValue;
+            if (((longResult ^ sum) & (longValue ^ sum)) >= 0) {
+                longResult = sum;
+                return;
+            }
+        }
+        if (null == decimalResult) {
+            decimalResult = BigDecimal.valueOf(longResult);
+        }
+        decimalResult = decimalResult.add(AggregationValueUtil.toBigDecimal(value));
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (!merged) {
+            return null;
+        }
+        return null == decimalResult ? BigDecimal.valueOf(longResult) : decimalResult;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Order by key.
+ *
+ * <p>
+ * Order values of current row are extracted once per row into reusable slots.
+ * Integral values are kept as primitive longs, other values are kept as comparable objects.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class OrderByKey {
+    
+    private static final byte NULL_VALUE = 0;
+    
+    private static final byte LONG_VALUE = 1;
+    
+    private static final byte OBJECT_VALUE = 2;
+    
+    @Getter
+    private final QueryResult queryResult;
+    
+    private final int[] columnIndexes;
+    
+    private final boolean[] ascending;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final OrderDirection[] nullOrderDirections;
+    
+    private final boolean[] caseSensitives;
+    
+    private final byte[] valueTypes;
+    
+    private final long[] longValues;
+    
+    private final Comparable<?>[] objectValues;
+    
+    public OrderByKey(final QueryResult queryResult, final Collection<OrderByItem> orderByItems) throws SQLException {
+        this.queryResult = queryResult;
+        int size = orderByItems.size();
+        columnIndexes = new int[size];
+        ascending = new boolean[size];
+        orderDirections = new OrderDirection[size];
+        nullOrderDirections = new OrderDirection[size];
+        caseSensitives = new boolean[size];
+        valueTypes = new byte[size];
+        longValues = new long[size];
+        objectValues = new Comparable<?>[size];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            columnIndexes[i] = each.getIndex();
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullOrderDirections[i] = each.getSegment().getNullOrderDirection();
+            ascending[i] = OrderDirection.ASC == orderDirections[i];
+            caseSensitives[i] = queryResult.isCaseSensitive(each.getIndex());
+            i++;
+        }
+    }
+    
+    /**
+     * iterate next data.
+     *
+     * @return has next data
+     * @throws SQLException SQL Exception
+     */
+    public boolean next() throws SQLException {
+        if (!queryResult.next()) {
+            return false;
+        }
+        for (int i = 0; i < columnIndexes.length; i++) {
+            extractValue(i, queryResult.getValue(columnIndexes[i], Object.class));
+        }
+        return true;
+    }
+    
+    private void extractValue(final int index, final Object value) {
+        if (null == value) {
+            valueTypes[index] = NULL_VALUE;
+            objectValues[index] = null;
+            return;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            valueTypes[index] = LONG_VALUE;
+            longValues[index] = ((Number) value).longValue();
+            objectValues[index] = null;
+            return;
+        }
+        Preconditions.checkState(value instanceof Comparable, "Order by value must implements Comparable");
+        valueTypes[index] = OBJECT_VALUE;
+        objectValues[index] = (Comparable<?>) value;
+    }
+    
+    /**
+     * Compare with other order by key.
+     *
+     * @param o other order by key
+     * @return compare result
+     */
+    public int compareTo(final OrderByKey o) {
+        for (int i = 0; i < columnIndexes.length; i++) {
+            int result = LONG_VALUE == valueTypes[i] && LONG_VALUE == o.valueTypes[i] ? compareLongValue(longValues[i], o.longValues[i], ascending[i])
+                    : CompareUtil.compareTo(getComparableValue(i), o.getComparableValue(i), orderDirections[i], nullOrderDirections[i], caseSensitives[i]);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    private int compareLongValue(final long thisValue, final long otherValue, final boolean ascending) {
+        int result = thisValue < otherValue ? -1 : (thisValue == otherValue ? 0 : 1);
+        return ascending ? result : -result;
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private Comparable getComparableValue(final int index) {
+        return LONG_VALUE == valueTypes[index] ? Long.valueOf(longValues[index]) : objectValues[index];
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.common.StreamMergedResult;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stream merged result for order by with loser tree.
+ *
+ * <p>
+ * Every internal node of the tree keeps the loser of its sub tree, the overall winner is kept in node 0.
+ * After the winner moves to next row, only the path from its leaf to root is replayed,
+ * which costs one comparison per level.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class OrderByLoserTreeMergedResult extends StreamMergedResult {
+    
+    private final OrderByKey[] orderByKeys;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    private boolean isFirstNext;
+    
+    public OrderByLoserTreeMergedResult(final List<QueryResult> queryResults, final Collection<OrderByItem> orderByItems) throws SQLException {
+        int size = queryResults.size();
+        orderByKeys = new OrderByKey[size];
+        exhausted = new boolean[size];
+        tree = new int[size];
+        for (int i = 0; i < size; i++) {
+            orderByKeys[i] = new OrderByKey(queryResults.get(i), orderByItems);
+            exhausted[i] = !orderByKeys[i].next();
+        }
+        buildTree();
+        setCurrentQueryResult(exhausted[tree[0]] ? queryResults.get(0) : orderByKeys[tree[0]].getQueryResult());
+        isFirstNext = true;
+    }
+    
+    private void buildTree() {
+        int size = orderByKeys.length;
+        int[] winners = new int[size * 2];
+        for (int i = 0; i < size; i++) {
+            winners[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            if (isLess(right, left)) {
+                winners[node] = right;
+                tree[node] = left;
+            } else {
+                winners[node] = left;
+                tree[node] = right;
+            }
+        }
+        tree[0] = 1 == size ? 0 : winners[1];
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int node = (orderByKeys.length + leaf) / 2; node > 0; node /= 2) {
+            if (isLess(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isLess(final int thisIndex, final int otherIndex) {
+        if (exhausted[thisIndex]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        return orderByKeys[thisIndex].compareTo(orderByKeys[otherIndex]) < 0;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (isFirstNext) {
+            isFirstNext = false;
+            return !exhausted[tree[0]];
+        }
+        int winner = tree[0];
+        if (exhausted[winner]) {
+            return false;
+        }
+        exhausted[winner] = !orderByKeys[winner].next();
+        replay(winner);
+        if (exhausted[tree[0]]) {
+            return false;
+        }
+        setCurrentQueryResult(orderByKeys[tree[0]].getQueryResult());
+        return true;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExternalRowSorterTest {
+    
+    private final Comparator<MemoryQueryResultRow> comparator = new Comparator<MemoryQueryResultRow>() {
+        
+        @Override
+        public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+            return ((Integer) o1.getCell(1)).compareTo((Integer) o2.getCell(1));
+        }
+    };
+    
+    @Test
+    public void assertSortInMemory() {
+        ExternalRowSorter externalRowSorter = new ExternalRowSorter(comparator, 0);
+        addRows(externalRowSorter, 3, 1, 2);
+        assertFalse(externalRowSorter.isSpilled());
+        assertSortedRows(externalRowSorter.sort(), 1, 2, 3);
+    }
+    
+    @Test
+    public void assertSortWithSpill() {
+        ExternalRowSorter externalRowSorter = new ExternalRowSorter(comparator, 2);
+        addRows(externalRowSorter, 5, 3, 4, 1, 2);
+        assertTrue(externalRowSorter.isSpilled());
+        assertSortedRows(externalRowSorter.sort(), 1, 2, 3, 4, 5);
+    }
+    
+    @Test
+    public void assertSortWithMoreRunsThanMaxMergedRuns() {
+        int originalSpillFileCount = countSpillFiles();
+        ExternalRowSorter externalRowSorter = new ExternalRowSorter(comparator, 2, 3);
+        addRows(externalRowSorter, 17, 5, 12, 3, 20, 9, 1, 14, 8, 19, 2, 11, 16, 6, 13, 4, 18, 10, 7, 15, 21);
+        assertThat(countSpillFiles(), is(originalSpillFileCount + 10));
+        Iterator<MemoryQueryResultRow> actual = externalRowSorter.sort();
+        assertTrue(countSpillFiles() <= originalSpillFileCount + 3);
+        assertSortedRows(actual, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21);
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+    }
+    
+    @Test
+    public void assertCloseAfterPartialIterationWithMoreRunsThanMaxMergedRuns() {
+        int originalSpillFileCount = countSpillFiles();
+        ExternalRowSorter externalRowSorter = new ExternalRowSorter(comparator, 2, 2);
+        addRows(externalRowSorter, 9, 5, 8, 3, 1, 7, 2, 6, 4);
+        Iterator<MemoryQueryResultRow> actual = externalRowSorter.sort();
+        assertThat((Integer) actual.next().getCell(1), is(1));
+        externalRowSorter.close();
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+    }
+    
+    @Test
+    public void assertCloseAfterPartialIteration() {
+        int originalSpillFileCount = countSpillFiles();
+        ExternalRowSorter externalRowSorter = new ExternalRowSorter(comparator, 2);
+        addRows(externalRowSorter, 5, 3, 4, 1, 2);
+        Iterator<MemoryQueryResultRow> actual = externalRowSorter.sort();
+        assertThat(countSpillFiles(), is(originalSpillFileCount + 2));
+        assertThat((Integer) actual.next().getCell(1), is(1));
+        externalRowSorter.close();
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertCloseWithoutSort() {
+        int originalSpillFileCount = countSpillFiles();
+        ExternalRowSorter externalRowSorter = new ExternalRowSorter(comparator, 2);
+        addRows(externalRowSorter, 5, 3, 4, 1, 2);
+        assertThat(countSpillFiles(), is(originalSpillFileCount + 2));
+        externalRowSorter.close();
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+    }
+    
+    private int countSpillFiles() {
+        String[] result = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-merge-") && name.endsWith(".spill");
+            }
+        });
+        return null == result ? 0 : result.length;
+    }
+    
+    private void addRows(final ExternalRowSorter externalRowSorter, final int... values) {
+        for (int each : values) {
+            externalRowSorter.add(new MemoryQueryResultRow(new Object[] {each, "value_" + each}));
+        }
+    }
+    
+    private void assertSortedRows(final Iterator<MemoryQueryResultRow> actual, final int... expected) {
+        for (int each : expected) {
+            assertTrue(actual.hasNext());
+            MemoryQueryResultRow row = actual.next();
+            assertThat((Integer) row.getCell(1), is(each));
+            assertThat(row.getCell(2).toString(), is("value_" + each));
+        }
+        assertFalse(actual.hasNext());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TopNRowSorterTest {
+    
+    private final Comparator<MemoryQueryResultRow> comparator = new Comparator<MemoryQueryResultRow>() {
+        
+        @Override
+        public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+            return ((Integer) o1.getCell(1)).compareTo((Integer) o2.getCell(1));
+        }
+    };
+    
+    @Test
+    public void assertSortWithLessRowsThanTopN() {
+        TopNRowSorter topNRowSorter = new TopNRowSorter(comparator, 5);
+        addRows(topNRowSorter, 3, 1, 2);
+        assertSortedRows(topNRowSorter.sort(), 1, 2, 3);
+    }
+    
+    @Test
+    public void assertSortWithMoreRowsThanTopN() {
+        TopNRowSorter topNRowSorter = new TopNRowSorter(comparator, 3);
+        addRows(topNRowSorter, 5, 3, 7, 4, 1, 6, 2);
+        assertSortedRows(topNRowSorter.sort(), 1, 2, 3);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithInvalidTopN() {
+        new TopNRowSorter(comparator, 0);
+    }
+    
+    private void addRows(final TopNRowSorter topNRowSorter, final int... values) {
+        for (int each : values) {
+            topNRowSorter.add(new MemoryQueryResultRow(new Object[] {each, "value_" + each}));
+        }
+    }
+    
+    private void assertSortedRows(final Iterator<MemoryQueryResultRow> actual, final int... expected) {
+        for (int each : expected) {
+            assertTrue(actual.hasNext());
+            MemoryQueryResultRow row = actual.next();
+            assertThat((Integer) row.getCell(1), is(each));
+            assertThat(row.getCell(2).toString(), is("value_" + each));
+        }
+        assertFalse(actual.hasNext());
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.merge.dql.groupby;
 import com.google.common.collect.Lists;
 import org.apache.shardingsphere.core.constant.AggregationType;
 import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
@@ -37,6 +38,7 @@ import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ord
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.Pagination;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.junit.Before;
@@ -50,6 +52,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -68,6 +71,8 @@ public final class GroupByMemoryMergedResultTest {
     
     private SQLRouteResult routeResult;
     
+    private SelectItems selectItems;
+    
     @Before
     public void setUp() throws SQLException {
         resultSets = Lists.newArrayList(mockResultSet(), mockResultSet(), mockResultSet());
@@ -85,13 +90,16 @@ public final class GroupByMemoryMergedResultTest {
         AggregationSelectItem derivedAggregationSelectItem2 = new AggregationSelectItem(AggregationType.SUM, "(num)", "AVG_DERIVED_SUM_0");
         aggregationSelectItem2.setIndex(5);
         aggregationSelectItem2.getDerivedAggregationItems().add(derivedAggregationSelectItem2);
-        SelectItems selectItems = new SelectItems(Arrays.<SelectItem>asList(aggregationSelectItem1, aggregationSelectItem2), false, 0);
-        OptimizedStatement optimizedStatement = new ShardingSelectOptimizedStatement(
+        selectItems = new SelectItems(Arrays.<SelectItem>asList(aggregationSelectItem1, aggregationSelectItem2), false, 0);
+        routeResult = new SQLRouteResult(createOptimizedStatement(new Pagination(null, null, Collections.emptyList())));
+    }
+    
+    private OptimizedStatement createOptimizedStatement(final Pagination pagination) {
+        return new ShardingSelectOptimizedStatement(
                 new SelectStatement(), Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(), 
                 new GroupBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
                 new OrderBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
-                selectItems, new Pagination(null, null, Collections.emptyList()));
-        routeResult = new SQLRouteResult(optimizedStatement);
+                selectItems, pagination);
     }
     
     private ResultSet mockResultSet() throws SQLException {
@@ -115,14 +123,14 @@ public final class GroupByMemoryMergedResultTest {
     
     @Test
     public void assertNextForResultSetsAllEmpty() throws SQLException {
-        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(new Properties()), routeResult, queryResults);
         MergedResult actual = mergeEngine.merge();
         assertFalse(actual.next());
     }
     
     @Test
     public void assertNextForSomeResultSetsEmpty() throws SQLException {
-        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(new Properties()), routeResult, queryResults);
         when(resultSets.get(0).next()).thenReturn(true, false);
         when(resultSets.get(0).getObject(1)).thenReturn(20);
         when(resultSets.get(0).getObject(2)).thenReturn(0);
@@ -150,4 +158,27 @@ public final class GroupByMemoryMergedResultTest {
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithTopN() throws SQLException {
+        routeResult = new SQLRouteResult(createOptimizedStatement(new Pagination(null, new NumberLiteralLimitValueSegment(0, 0, 1), Collections.emptyList())));
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(new Properties()), routeResult, queryResults);
+        when(resultSets.get(0).next()).thenReturn(true, false);
+        when(resultSets.get(0).getObject(1)).thenReturn(20);
+        when(resultSets.get(0).getObject(2)).thenReturn(0);
+        when(resultSets.get(0).getObject(3)).thenReturn(2);
+        when(resultSets.get(0).getObject(4)).thenReturn(2);
+        when(resultSets.get(0).getObject(5)).thenReturn(20);
+        when(resultSets.get(2).next()).thenReturn(true, true, false);
+        when(resultSets.get(2).getObject(1)).thenReturn(20, 30);
+        when(resultSets.get(2).getObject(2)).thenReturn(0);
+        when(resultSets.get(2).getObject(3)).thenReturn(2, 3);
+        when(resultSets.get(2).getObject(4)).thenReturn(2, 2, 3);
+        when(resultSets.get(2).getObject(5)).thenReturn(20, 20, 30);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertFalse(actual.next());
+    }
 }
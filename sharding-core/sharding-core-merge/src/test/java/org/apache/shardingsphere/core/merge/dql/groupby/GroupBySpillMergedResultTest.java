@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import com.google.common.collect.Lists;
+import org.apache.shardingsphere.core.constant.AggregationType;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
+import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
+import org.apache.shardingsphere.core.optimize.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.encrypt.condition.EncryptCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.groupby.GroupBy;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.item.SelectItem;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.item.SelectItems;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderBy;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.Pagination;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    private DQLMergeEngine mergeEngine;
+    
+    private List<ResultSet> resultSets;
+    
+    private List<QueryResult> queryResults;
+    
+    private SQLRouteResult routeResult;
+    
+    private Properties props;
+    
+    @Before
+    public void setUp() throws SQLException {
+        resultSets = Lists.newArrayList(mockResultSet(), mockResultSet(), mockResultSet());
+        queryResults = new ArrayList<>(resultSets.size());
+        for (ResultSet each : resultSets) {
+            queryResults.add(new TestQueryResult(each));
+        }
+        AggregationSelectItem aggregationSelectItem1 = new AggregationSelectItem(AggregationType.COUNT, "(*)", null);
+        aggregationSelectItem1.setIndex(1);
+        AggregationSelectItem aggregationSelectItem2 = new AggregationSelectItem(AggregationType.AVG, "(num)", null);
+        aggregationSelectItem2.setIndex(2);
+        AggregationSelectItem derivedAggregationSelectItem1 = new AggregationSelectItem(AggregationType.COUNT, "(num)", "AVG_DERIVED_COUNT_0");
+        aggregationSelectItem2.setIndex(4);
+        aggregationSelectItem2.getDerivedAggregationItems().add(derivedAggregationSelectItem1);
+        AggregationSelectItem derivedAggregationSelectItem2 = new AggregationSelectItem(AggregationType.SUM, "(num)", "AVG_DERIVED_SUM_0");
+        aggregationSelectItem2.setIndex(5);
+        aggregationSelectItem2.getDerivedAggregationItems().add(derivedAggregationSelectItem2);
+        SelectItems selectItems = new SelectItems(Arrays.<SelectItem>asList(aggregationSelectItem1, aggregationSelectItem2), false, 0);
+        OptimizedStatement optimizedStatement = new ShardingSelectOptimizedStatement(
+                new SelectStatement(), Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(), 
+                new GroupBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
+                selectItems, new Pagination(null, null, Collections.emptyList()));
+        routeResult = new SQLRouteResult(optimizedStatement);
+        props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MERGE_GROUP_BY_MEMORY_MAX_ROWS.getKey(), "1");
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(5);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("AVG(num)");
+        when(resultSetMetaData.getColumnLabel(3)).thenReturn("id");
+        when(resultSetMetaData.getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(resultSetMetaData.getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        when(resultSetMetaData.getColumnType(anyInt())).thenReturn(Types.INTEGER);
+        return result;
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(props), routeResult, queryResults);
+        MergedResult actual = mergeEngine.merge();
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForSomeResultSetsEmpty() throws SQLException {
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(props), routeResult, queryResults);
+        when(resultSets.get(0).next()).thenReturn(true, false);
+        when(resultSets.get(0).getObject(1)).thenReturn(20);
+        when(resultSets.get(0).getObject(2)).thenReturn(0);
+        when(resultSets.get(0).getObject(3)).thenReturn(2);
+        when(resultSets.get(0).getObject(4)).thenReturn(2);
+        when(resultSets.get(0).getObject(5)).thenReturn(20);
+        when(resultSets.get(2).next()).thenReturn(true, true, false);
+        when(resultSets.get(2).getObject(1)).thenReturn(20, 30);
+        when(resultSets.get(2).getObject(2)).thenReturn(0);
+        when(resultSets.get(2).getObject(3)).thenReturn(2, 3);
+        when(resultSets.get(2).getObject(4)).thenReturn(2, 2, 3);
+        when(resultSets.get(2).getObject(5)).thenReturn(20, 20, 30);
+        MergedResult actual = mergeEngine.merge();
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseAfterPartialIteration() throws Exception {
+        int originalSpillFileCount = countSpillFiles();
+        props.setProperty(ShardingPropertiesConstant.MERGE_GROUP_BY_MEMORY_MAX_ROWS.getKey(), "2");
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(props), routeResult, queryResults);
+        mockRows(resultSets.get(0), 1, 2);
+        mockRows(resultSets.get(2), 3, 4);
+        MergedResult actual = mergeEngine.merge();
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertTrue(actual.next());
+        assertTrue(countSpillFiles() > originalSpillFileCount);
+        ((GroupBySpillMergedResult) actual).close();
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+    }
+    
+    @Test
+    public void assertMergeFailedAfterSpilled() throws SQLException {
+        int originalSpillFileCount = countSpillFiles();
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(props), routeResult, queryResults);
+        mockRows(resultSets.get(0), 1, 2);
+        when(resultSets.get(2).next()).thenReturn(true).thenThrow(new SQLException("connection reset"));
+        when(resultSets.get(2).getObject(anyInt())).thenReturn(3);
+        try {
+            mergeEngine.merge();
+            fail("Expected SQLException");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("connection reset"));
+        }
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+    }
+    
+    @Test
+    public void assertMergeWithNonSerializableColumnType() throws SQLException {
+        when(resultSets.get(0).getMetaData().getColumnType(3)).thenReturn(Types.BLOB);
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(props), routeResult, queryResults);
+        assertThat(mergeEngine.merge(), instanceOf(GroupByMemoryMergedResult.class));
+    }
+    
+    private void mockRows(final ResultSet resultSet, final int... ids) throws SQLException {
+        final AtomicInteger cursor = new AtomicInteger(-1);
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return cursor.incrementAndGet() < ids.length;
+            }
+        });
+        when(resultSet.getObject(1)).thenReturn(10);
+        when(resultSet.getObject(2)).thenReturn(0);
+        when(resultSet.getObject(3)).thenAnswer(new Answer<Integer>() {
+            
+            @Override
+            public Integer answer(final InvocationOnMock invocation) {
+                return ids[cursor.get()];
+            }
+        });
+        when(resultSet.getObject(4)).thenReturn(1);
+        when(resultSet.getObject(5)).thenReturn(10);
+    }
+    
+    private int countSpillFiles() {
+        String[] result = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-merge-") && name.endsWith(".spill");
+            }
+        });
+        return null == result ? 0 : result.length;
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
 import org.apache.shardingsphere.core.constant.AggregationType;
 import org.junit.Test;
 
+import java.sql.Types;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
 
@@ -27,18 +29,30 @@ public final class AggregationUnitFactoryTest {
     
     @Test
     public void assertCreateComparableAggregationUnit() {
-        assertThat(AggregationUnitFactory.create(AggregationType.MIN), instanceOf(ComparableAggregationUnit.class));
-        assertThat(AggregationUnitFactory.create(AggregationType.MAX), instanceOf(ComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.MIN, Types.INTEGER), instanceOf(ComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.MAX, Types.INTEGER), instanceOf(ComparableAggregationUnit.class));
     }
     
     @Test
     public void assertCreateAccumulationAggregationUnit() {
-        assertThat(AggregationUnitFactory.create(AggregationType.SUM), instanceOf(AccumulationAggregationUnit.class));
-        assertThat(AggregationUnitFactory.create(AggregationType.COUNT), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.DECIMAL), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, Types.NUMERIC), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateLongAccumulationAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.INTEGER), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, Types.BIGINT), instanceOf(LongAccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateDoubleAccumulationAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.DOUBLE), instanceOf(DoubleAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.FLOAT), instanceOf(DoubleAccumulationAggregationUnit.class));
     }
     
     @Test
     public void assertCreateAverageAggregationUnit() {
-        assertThat(AggregationUnitFactory.create(AggregationType.AVG), instanceOf(AverageAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, Types.INTEGER), instanceOf(AverageAggregationUnit.class));
     }
 }
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class OrderByKeyTest {
+    
+    @Mock
+    private ResultSet resultSet1;
+    
+    @Mock
+    private ResultSet resultSet2;
+    
+    @Mock
+    private ResultSetMetaData resultSetMetaData;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(resultSet1.next()).thenReturn(true, false);
+        when(resultSet2.next()).thenReturn(true, false);
+        when(resultSet1.getObject(1)).thenReturn("1");
+        when(resultSet1.getObject(2)).thenReturn("2");
+        when(resultSet1.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSet2.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.isCaseSensitive(1)).thenReturn(false);
+        when(resultSetMetaData.isCaseSensitive(1)).thenReturn(true);
+    }
+    
+    @Test
+    public void assertCompareToForAsc() throws SQLException {
+        OrderByKey orderByKey1 = new OrderByKey(new TestQueryResult(resultSet1), 
+                Arrays.asList(
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC)), 
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, OrderDirection.ASC))));
+        assertTrue(orderByKey1.next());
+        when(resultSet2.getObject(1)).thenReturn("3");
+        when(resultSet2.getObject(2)).thenReturn("4");
+        OrderByKey orderByKey2 = new OrderByKey(new TestQueryResult(resultSet2), 
+                Arrays.asList(
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC)),
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, OrderDirection.ASC))));
+        assertTrue(orderByKey2.next());
+        assertTrue(orderByKey1.compareTo(orderByKey2) < 0);
+        assertFalse(orderByKey1.getQueryResult().next());
+        assertFalse(orderByKey2.getQueryResult().next());
+    }
+    
+    @Test
+    public void assertCompareToForDesc() throws SQLException {
+        OrderByKey orderByKey1 = new OrderByKey(new TestQueryResult(resultSet1), 
+                Arrays.asList(
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, OrderDirection.ASC)), 
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))));
+        assertTrue(orderByKey1.next());
+        when(resultSet2.getObject(1)).thenReturn("3");
+        when(resultSet2.getObject(2)).thenReturn("4");
+        OrderByKey orderByKey2 = new OrderByKey(new TestQueryResult(resultSet2), 
+                Arrays.asList(
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, OrderDirection.ASC)), 
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))));
+        assertTrue(orderByKey2.next());
+        assertTrue(orderByKey1.compareTo(orderByKey2) > 0);
+        assertFalse(orderByKey1.getQueryResult().next());
+        assertFalse(orderByKey2.getQueryResult().next());
+    }
+    
+    @Test
+    public void assertCompareToWhenEqual() throws SQLException {
+        OrderByKey orderByKey1 = new OrderByKey(new TestQueryResult(resultSet1), 
+                Arrays.asList(
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC)), 
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))));
+        assertTrue(orderByKey1.next());
+        when(resultSet2.getObject(1)).thenReturn("1");
+        when(resultSet2.getObject(2)).thenReturn("2");
+        OrderByKey orderByKey2 = new OrderByKey(new TestQueryResult(resultSet2), Arrays.asList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC)), 
+                createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))));
+        assertTrue(orderByKey2.next());
+        assertThat(orderByKey1.compareTo(orderByKey2), is(0));
+        assertFalse(orderByKey1.getQueryResult().next());
+        assertFalse(orderByKey2.getQueryResult().next());
+    }
+    
+    @Test
+    public void assertCompareToForLongValues() throws SQLException {
+        when(resultSet1.getObject(1)).thenReturn(10);
+        OrderByKey orderByKey1 = new OrderByKey(new TestQueryResult(resultSet1), 
+                Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC))));
+        assertTrue(orderByKey1.next());
+        when(resultSet2.getObject(1)).thenReturn(9L);
+        OrderByKey orderByKey2 = new OrderByKey(new TestQueryResult(resultSet2), 
+                Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC))));
+        assertTrue(orderByKey2.next());
+        assertTrue(orderByKey1.compareTo(orderByKey2) > 0);
+    }
+    
+    @Test
+    public void assertCompareToForNullValue() throws SQLException {
+        OrderByKey orderByKey1 = new OrderByKey(new TestQueryResult(resultSet1), 
+                Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))));
+        assertTrue(orderByKey1.next());
+        when(resultSet2.getObject(3)).thenReturn(1L);
+        OrderByKey orderByKey2 = new OrderByKey(new TestQueryResult(resultSet2), 
+                Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))));
+        assertTrue(orderByKey2.next());
+        assertTrue(orderByKey1.compareTo(orderByKey2) < 0);
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+}
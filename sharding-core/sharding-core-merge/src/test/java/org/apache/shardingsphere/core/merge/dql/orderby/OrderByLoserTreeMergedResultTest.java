@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import com.google.common.collect.Lists;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
+import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
+import org.apache.shardingsphere.core.optimize.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.encrypt.condition.EncryptCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.groupby.GroupBy;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.item.SelectItem;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.item.SelectItems;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderBy;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.Pagination;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByLoserTreeMergedResultTest {
+    
+    private DQLMergeEngine mergeEngine;
+    
+    private List<QueryResult> queryResults;
+    
+    private SQLRouteResult routeResult;
+    
+    private Properties props;
+    
+    @Before
+    public void setUp() throws SQLException {
+        queryResults = Lists.<QueryResult>newArrayList(
+                new TestQueryResult(mockResultSet()), new TestQueryResult(mockResultSet()), new TestQueryResult(mockResultSet()));
+        OptimizedStatement optimizedStatement = new ShardingSelectOptimizedStatement(
+                new SelectStatement(), Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(), new GroupBy(Collections.<OrderByItem>emptyList(), 0), 
+                new OrderBy(Collections.singletonList(new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC))), false), 
+                new SelectItems(Collections.<SelectItem>emptyList(), false, 0), new Pagination(null, null, Collections.emptyList()));
+        routeResult = new SQLRouteResult(optimizedStatement);
+        props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MERGE_ORDER_BY_LOSER_TREE_ENABLED.getKey(), Boolean.TRUE.toString());
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        return result;
+    }
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(props), routeResult, queryResults);
+        MergedResult actual = mergeEngine.merge();
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForSomeResultSetsEmpty() throws SQLException {
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(props), routeResult, queryResults);
+        when(queryResults.get(0).next()).thenReturn(true, false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn("2");
+        when(queryResults.get(2).next()).thenReturn(true, true, false);
+        when(queryResults.get(2).getValue(1, Object.class)).thenReturn("1", "1", "3", "3");
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("1"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("2"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("3"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForMix() throws SQLException {
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(props), routeResult, queryResults);
+        when(queryResults.get(0).next()).thenReturn(true, false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn("2");
+        when(queryResults.get(1).next()).thenReturn(true, true, true, false);
+        when(queryResults.get(1).getValue(1, Object.class)).thenReturn("2", "2", "3", "3", "4", "4");
+        when(queryResults.get(2).next()).thenReturn(true, true, false);
+        when(queryResults.get(2).getValue(1, Object.class)).thenReturn("1", "1", "3", "3");
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("1"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("2"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("2"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("3"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("3"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("4"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForCaseSensitive() throws SQLException {
+        when(queryResults.get(0).next()).thenReturn(true, false);
+        when(queryResults.get(0).isCaseSensitive(1)).thenReturn(true);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn("b");
+        when(queryResults.get(1).next()).thenReturn(true, true, false);
+        when(queryResults.get(1).isCaseSensitive(1)).thenReturn(true);
+        when(queryResults.get(1).getValue(1, Object.class)).thenReturn("B", "B", "a", "a");
+        when(queryResults.get(2).next()).thenReturn(true, false);
+        when(queryResults.get(2).isCaseSensitive(1)).thenReturn(true);
+        when(queryResults.get(2).getValue(1, Object.class)).thenReturn("A");
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(props), routeResult, queryResults);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("A"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("B"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("a"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("b"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForCaseInsensitive() throws SQLException {
+        when(queryResults.get(0).next()).thenReturn(true, false);
+        when(queryResults.get(0).isCaseSensitive(1)).thenReturn(false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn("b");
+        when(queryResults.get(1).next()).thenReturn(true, true, false);
+        when(queryResults.get(1).isCaseSensitive(1)).thenReturn(false);
+        when(queryResults.get(1).getValue(1, Object.class)).thenReturn("a", "a", "B", "B");
+        when(queryResults.get(2).next()).thenReturn(true, false);
+        when(queryResults.get(2).isCaseSensitive(1)).thenReturn(false);
+        when(queryResults.get(2).getValue(1, Object.class)).thenReturn("A");
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(props), routeResult, queryResults);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("a"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("A"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("B"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("b"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForManyResultSets() throws SQLException {
+        List<QueryResult> manyQueryResults = new ArrayList<>(7);
+        for (int i = 0; i < 7; i++) {
+            QueryResult queryResult = new TestQueryResult(mockResultSet());
+            when(queryResult.next()).thenReturn(true, true, false);
+            when(queryResult.getValue(1, Object.class)).thenReturn(i, i, i + 7, i + 7);
+            manyQueryResults.add(queryResult);
+        }
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingProperties(props), routeResult, manyQueryResults);
+        MergedResult actual = mergeEngine.merge();
+        assertThat(actual, instanceOf(OrderByLoserTreeMergedResult.class));
+        for (int i = 0; i < 14; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is((Object) i));
+        }
+        assertFalse(actual.next());
+    }
+}
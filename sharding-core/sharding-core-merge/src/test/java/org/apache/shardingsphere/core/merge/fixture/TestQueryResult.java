@@ -206,6 +206,11 @@ public final class TestQueryResult implements QueryResult {
         return resultSet.getMetaData().isCaseSensitive(columnIndex);
     }
     
+    @Override
+    public int getColumnType(final int columnIndex) throws SQLException {
+        return resultSet.getMetaData().getColumnType(columnIndex);
+    }
+    
     @Override
     public int getColumnCount() throws SQLException {
         return resultSet.getMetaData().getColumnCount();
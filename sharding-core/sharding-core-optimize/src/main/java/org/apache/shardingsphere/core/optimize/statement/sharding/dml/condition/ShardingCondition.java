@@ -35,4 +35,6 @@ import java.util.List;
 public class ShardingCondition {
     
     private final List<RouteValue> routeValues = new LinkedList<>();
+    
+    private final List<InValueUnit> inValueUnits = new LinkedList<>();
 }
@@ -25,13 +25,18 @@ import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.optimize.statement.PredicateUtils;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.AlwaysFalseRouteValue;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.AlwaysFalseShardingCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.InValueUnit;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.generator.ConditionValue;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.generator.ConditionValueGeneratorFactory;
 import org.apache.shardingsphere.core.parse.sql.context.Column;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.SimpleExpressionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.SubqueryPredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateInRightValue;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.WhereSegmentAvailable;
 import org.apache.shardingsphere.core.rule.ShardingRule;
@@ -43,6 +48,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -83,6 +89,9 @@ public final class WhereClauseShardingConditionEngine {
                 result.addAll(subqueryShardingConditions);
             }
         }
+        if (isInValueUnitsAvailable(sqlStatement, whereSegment, subqueryPredicateSegments, result)) {
+            setInValueUnits(sqlStatement, parameters, whereSegment.get().getAndPredicates().iterator().next(), result.get(0));
+        }
         return result;
     }
     
@@ -174,6 +183,61 @@ public final class WhereClauseShardingConditionEngine {
         return null == value2 ? value1 : value1.intersection(value2);
     }
     
+    private boolean isInValueUnitsAvailable(final SQLStatement sqlStatement, final Optional<WhereSegment> whereSegment, 
+                                            final Collection<SubqueryPredicateSegment> subqueryPredicateSegments, final List<ShardingCondition> shardingConditions) {
+        return whereSegment.isPresent() && 1 == whereSegment.get().getAndPredicates().size() && subqueryPredicateSegments.isEmpty()
+                && 1 == shardingConditions.size() && !(shardingConditions.get(0) instanceof AlwaysFalseShardingCondition) && sqlStatement.getTables().isSingleTable()
+                && !shardingRule.getEncryptRule().getEncryptTableNames().contains(sqlStatement.getTables().getSingleTableName());
+    }
+    
+    private void setInValueUnits(final SQLStatement sqlStatement, final List<Object> parameters, final AndPredicate andPredicate, final ShardingCondition shardingCondition) {
+        for (Entry<Column, Collection<PredicateSegment>> entry : getShardingPredicates(sqlStatement, andPredicate).entrySet()) {
+            PredicateSegment predicate = entry.getValue().iterator().next();
+            if (1 != entry.getValue().size() || !(predicate.getRightValue() instanceof PredicateInRightValue)) {
+                continue;
+            }
+            Collection<InValueUnit> inValueUnits = createInValueUnits(entry.getKey(), (PredicateInRightValue) predicate.getRightValue(), parameters);
+            if (!inValueUnits.isEmpty()) {
+                shardingCondition.getInValueUnits().addAll(inValueUnits);
+                return;
+            }
+        }
+    }
+    
+    private Map<Column, Collection<PredicateSegment>> getShardingPredicates(final SQLStatement sqlStatement, final AndPredicate andPredicate) {
+        Map<Column, Collection<PredicateSegment>> result = new LinkedHashMap<>();
+        for (PredicateSegment each : andPredicate.getPredicates()) {
+            Optional<String> tableName = PredicateUtils.findTableName(each, sqlStatement, shardingTableMetaData);
+            if (!tableName.isPresent() || !shardingRule.isShardingColumn(each.getColumn().getName(), tableName.get())) {
+                continue;
+            }
+            Column column = new Column(each.getColumn().getName(), tableName.get());
+            if (!result.containsKey(column)) {
+                result.put(column, new LinkedList<PredicateSegment>());
+            }
+            result.get(column).add(each);
+        }
+        return result;
+    }
+    
+    private Collection<InValueUnit> createInValueUnits(final Column column, final PredicateInRightValue predicateRightValue, final List<Object> parameters) {
+        if (predicateRightValue.getSqlExpressions().size() < 2) {
+            return Collections.emptyList();
+        }
+        Collection<InValueUnit> result = new LinkedList<>();
+        for (ExpressionSegment each : predicateRightValue.getSqlExpressions()) {
+            if (!(each instanceof SimpleExpressionSegment)) {
+                return Collections.emptyList();
+            }
+            Optional<Comparable> value = new ConditionValue(each, parameters).getValue();
+            if (!value.isPresent()) {
+                return Collections.emptyList();
+            }
+            result.add(new InValueUnit(column, each, value.get()));
+        }
+        return result;
+    }
+    
     private Collection<Comparable<?>> mergeListAndRangeRouteValues(final Collection<Comparable<?>> listValue, final Range<Comparable<?>> rangeValue) {
         Collection<Comparable<?>> result = new LinkedList<>();
         for (Comparable<?> each : listValue) {
@@ -59,7 +59,25 @@ public final class SQLParseEngine {
      * @return SQL statement
      */
     public SQLStatement parse() {
-        SQLAST ast = parserEngine.parse();
+        return parse(parseAST());
+    }
+    
+    /**
+     * Parse SQL to abstract syntax tree.
+     *
+     * @return abstract syntax tree of SQL
+     */
+    public SQLAST parseAST() {
+        return parserEngine.parse();
+    }
+    
+    /**
+     * Parse SQL with abstract syntax tree.
+     *
+     * @param ast abstract syntax tree of SQL
+     * @return SQL statement
+     */
+    public SQLStatement parse(final SQLAST ast) {
         Collection<SQLSegment> sqlSegments = extractorEngine.extract(ast);
         Map<ParserRuleContext, Integer> parameterMarkerIndexes = ast.getParameterMarkerIndexes();
         return fillerEngine.fill(sqlSegments, parameterMarkerIndexes.size(), ast.getSqlStatementRule());
@@ -17,21 +17,54 @@
 
 package org.apache.shardingsphere.core.parse.cache;
 
-import org.apache.commons.collections4.map.AbstractReferenceMap;
-import org.apache.commons.collections4.map.ReferenceMap;
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.parse.fingerprint.SQLASTTemplate;
+import org.apache.shardingsphere.core.parse.fingerprint.SQLFingerprint;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 
-import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Parsing result cache.
  *
+ * <p>
+ * Cache is thread safe and bounded by maximum size, least recently used SQL statements are evicted first.
+ * Abstract syntax tree templates are cached by SQL fingerprint, so SQLs only different in literals are parsed once.
+ * Templates hold whole parse trees, so they are bounded by a separate and smaller maximum size.
+ * </p>
+ *
  * @author zhangliang
  * @author zhaojun
  */
 public final class ParsingResultCache {
     
-    private final Map<String, SQLStatement> cache = new ReferenceMap<>(AbstractReferenceMap.ReferenceStrength.SOFT, AbstractReferenceMap.ReferenceStrength.SOFT, 65535, 1);
+    public static final int DEFAULT_MAXIMUM_SIZE = 65535;
+    
+    public static final int DEFAULT_TEMPLATE_MAXIMUM_SIZE = 1024;
+    
+    private final Cache<String, SQLStatement> cache;
+    
+    private final Cache<String, SQLASTTemplate> templateCache;
+    
+    public ParsingResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public ParsingResultCache(final long maximumSize) {
+        this(maximumSize, DEFAULT_TEMPLATE_MAXIMUM_SIZE);
+    }
+    
+    public ParsingResultCache(final long maximumSize, final long templateMaximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+        templateCache = CacheBuilder.newBuilder().maximumSize(templateMaximumSize).recordStats().build();
+    }
     
     /**
      * Put SQL and parsing result into cache.
@@ -50,13 +83,86 @@ public final class ParsingResultCache {
      * @return SQL statement
      */
     public SQLStatement getSQLStatement(final String sql) {
-        return cache.get(sql);
+        return cache.getIfPresent(sql);
+    }
+    
+    /**
+     * Get SQL statement, load and cache it if absent.
+     *
+     * @param sql SQL
+     * @param loader loader to parse SQL statement
+     * @return SQL statement
+     */
+    @SneakyThrows
+    public SQLStatement getSQLStatement(final String sql, final Callable<SQLStatement> loader) {
+        try {
+            return cache.get(sql, loader);
+        } catch (final ExecutionException | UncheckedExecutionException | ExecutionError ex) {
+            throw ex.getCause();
+        }
+    }
+    
+    /**
+     * Put SQL fingerprint and abstract syntax tree template into cache.
+     *
+     * @param fingerprint fingerprint of SQL
+     * @param template abstract syntax tree template
+     */
+    public void putSQLASTTemplate(final SQLFingerprint fingerprint, final SQLASTTemplate template) {
+        templateCache.put(fingerprint.getValue(), template);
+    }
+    
+    /**
+     * Get abstract syntax tree template.
+     *
+     * @param fingerprint fingerprint of SQL
+     * @return abstract syntax tree template
+     */
+    public Optional<SQLASTTemplate> getSQLASTTemplate(final SQLFingerprint fingerprint) {
+        return Optional.fromNullable(templateCache.getIfPresent(fingerprint.getValue()));
+    }
+    
+    /**
+     * Get cache statistics.
+     *
+     * @return cache statistics, include hit, miss, eviction and load time
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get abstract syntax tree template cache statistics.
+     *
+     * @return template cache statistics, include hit, miss and eviction
+     */
+    public CacheStats getTemplateStats() {
+        return templateCache.stats();
+    }
+    
+    /**
+     * Get count of cached SQL statements.
+     *
+     * @return count of cached SQL statements
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Get count of cached abstract syntax tree templates.
+     *
+     * @return count of cached abstract syntax tree templates
+     */
+    public long templateSize() {
+        return templateCache.size();
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        cache.invalidateAll();
+        templateCache.invalidateAll();
     }
 }
@@ -30,18 +30,15 @@ import org.apache.shardingsphere.spi.database.DatabaseType;
  */
 public final class EncryptSQLParseEntry extends SQLParseEntry {
     
-    private final DatabaseType databaseType;
-    
     private final ShardingTableMetaData shardingTableMetaData;
     
     public EncryptSQLParseEntry(final DatabaseType databaseType, final ShardingTableMetaData shardingTableMetaData) {
-        super(new ParsingResultCache());
-        this.databaseType = databaseType;
+        super(databaseType, new ParsingResultCache());
         this.shardingTableMetaData = shardingTableMetaData;
     }
     
     @Override
-    protected SQLParseEngine getSQLParseEngine(final String sql) {
+    protected SQLParseEngine getSQLParseEngine(final DatabaseType databaseType, final String sql) {
         return new SQLParseEngine(EncryptParseRuleRegistry.getInstance(), databaseType, sql, shardingTableMetaData);
     }
 }
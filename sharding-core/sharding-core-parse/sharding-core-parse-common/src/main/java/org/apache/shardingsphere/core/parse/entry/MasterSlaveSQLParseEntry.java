@@ -29,15 +29,12 @@ import org.apache.shardingsphere.spi.database.DatabaseType;
  */
 public final class MasterSlaveSQLParseEntry extends SQLParseEntry {
     
-    private final DatabaseType databaseType;
-    
     public MasterSlaveSQLParseEntry(final DatabaseType databaseType) {
-        super(new ParsingResultCache());
-        this.databaseType = databaseType;
+        super(databaseType, new ParsingResultCache());
     }
     
     @Override
-    protected SQLParseEngine getSQLParseEngine(final String sql) {
+    protected SQLParseEngine getSQLParseEngine(final DatabaseType databaseType, final String sql) {
         return new SQLParseEngine(MasterSlaveParseRuleRegistry.getInstance(), databaseType, sql, null);
     }
 }
@@ -21,7 +21,14 @@ import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.fingerprint.SQLASTTemplate;
+import org.apache.shardingsphere.core.parse.fingerprint.SQLFingerprint;
+import org.apache.shardingsphere.core.parse.fingerprint.SQLFingerprintLexer;
+import org.apache.shardingsphere.core.parse.parser.SQLAST;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.util.concurrent.Callable;
 
 /**
  * SQL parse entry.
@@ -31,6 +38,8 @@ import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 @RequiredArgsConstructor
 public abstract class SQLParseEntry {
     
+    private final DatabaseType databaseType;
+    
     private final ParsingResultCache parsingResultCache;
     
     /**
@@ -41,20 +50,35 @@ public abstract class SQLParseEntry {
      * @return SQL statement
      */
     public final SQLStatement parse(final String sql, final boolean useCache) {
-        Optional<SQLStatement> cachedSQLStatement = getSQLStatementFromCache(sql, useCache);
-        if (cachedSQLStatement.isPresent()) {
-            return cachedSQLStatement.get();
-        }
-        SQLStatement result = getSQLParseEngine(sql).parse();
-        if (useCache) {
-            parsingResultCache.put(sql, result);
+        if (!useCache) {
+            return parseWithTemplate(sql);
         }
-        return result;
+        return parsingResultCache.getSQLStatement(sql, new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                return parseWithTemplate(sql);
+            }
+        });
     }
     
-    private Optional<SQLStatement> getSQLStatementFromCache(final String sql, final boolean useCache) {
-        return useCache ? Optional.fromNullable(parsingResultCache.getSQLStatement(sql)) : Optional.<SQLStatement>absent();
+    private SQLStatement parseWithTemplate(final String sql) {
+        SQLParseEngine parseEngine = getSQLParseEngine(databaseType, sql);
+        Optional<SQLFingerprint> fingerprint = new SQLFingerprintLexer(databaseType, sql).lex();
+        if (!fingerprint.isPresent()) {
+            return parseEngine.parse();
+        }
+        Optional<SQLASTTemplate> template = parsingResultCache.getSQLASTTemplate(fingerprint.get());
+        if (template.isPresent()) {
+            return parseEngine.parse(template.get().rebind(fingerprint.get()));
+        }
+        SQLAST ast = parseEngine.parseAST();
+        Optional<SQLASTTemplate> newTemplate = SQLASTTemplate.newInstance(ast, fingerprint.get());
+        if (newTemplate.isPresent()) {
+            parsingResultCache.putSQLASTTemplate(fingerprint.get(), newTemplate.get());
+        }
+        return parseEngine.parse(ast);
     }
     
-    protected abstract SQLParseEngine getSQLParseEngine(String sql);
+    protected abstract SQLParseEngine getSQLParseEngine(DatabaseType databaseType, String sql);
 }
@@ -30,18 +30,15 @@ import org.apache.shardingsphere.spi.database.DatabaseType;
  */
 public final class ShardingSQLParseEntry extends SQLParseEntry {
     
-    private final DatabaseType databaseType;
-    
     private final ShardingTableMetaData shardingTableMetaData;
     
     public ShardingSQLParseEntry(final DatabaseType databaseType, final ShardingTableMetaData shardingTableMetaData, final ParsingResultCache parsingResultCache) {
-        super(parsingResultCache);
-        this.databaseType = databaseType;
+        super(databaseType, parsingResultCache);
         this.shardingTableMetaData = shardingTableMetaData;
     }
     
     @Override
-    protected SQLParseEngine getSQLParseEngine(final String sql) {
+    protected SQLParseEngine getSQLParseEngine(final DatabaseType databaseType, final String sql) {
         return new SQLParseEngine(ShardingParseRuleRegistry.getInstance(), databaseType, sql, shardingTableMetaData);
     }
 }
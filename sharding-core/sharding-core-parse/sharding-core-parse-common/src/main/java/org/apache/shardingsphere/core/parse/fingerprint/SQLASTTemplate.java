@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fingerprint;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ErrorNodeImpl;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.apache.shardingsphere.core.parse.parser.SQLAST;
+
+import java.lang.reflect.Constructor;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Abstract syntax tree template of SQL.
+ * 
+ * <p>
+ * Template is parsed from one SQL, and can be rebound to other SQLs with same fingerprint without parsing.
+ * Rebinding copies the tree, replaces text of literal tokens and shifts indexes of tokens after literals.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLASTTemplate {
+    
+    private static final Map<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private final SQLAST ast;
+    
+    private final List<SQLLiteral> literals;
+    
+    private final Map<Token, Integer> literalTokenIndexes;
+    
+    /**
+     * Create abstract syntax tree template.
+     * 
+     * @param ast abstract syntax tree of SQL
+     * @param fingerprint fingerprint of SQL
+     * @return abstract syntax tree template, absent if literals of fingerprint do not match tokens of abstract syntax tree
+     */
+    public static Optional<SQLASTTemplate> newInstance(final SQLAST ast, final SQLFingerprint fingerprint) {
+        Map<Token, Integer> literalTokenIndexes = new IdentityHashMap<>();
+        if (!isLiteralTokensMatched(ast.getParserRuleContext(), fingerprint.getLiterals(), literalTokenIndexes) || literalTokenIndexes.size() != fingerprint.getLiterals().size()) {
+            return Optional.absent();
+        }
+        return Optional.of(new SQLASTTemplate(ast, fingerprint.getLiterals(), literalTokenIndexes));
+    }
+    
+    private static boolean isLiteralTokensMatched(final ParseTree node, final List<SQLLiteral> literals, final Map<Token, Integer> literalTokenIndexes) {
+        if (node instanceof TerminalNode) {
+            return isLiteralTokenMatched(((TerminalNode) node).getSymbol(), literals, literalTokenIndexes);
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            if (!isLiteralTokensMatched(node.getChild(i), literals, literalTokenIndexes)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isLiteralTokenMatched(final Token token, final List<SQLLiteral> literals, final Map<Token, Integer> literalTokenIndexes) {
+        if (Token.EOF == token.getType()) {
+            return true;
+        }
+        int startLiteralIndex = findLiteralIndex(literals, token.getStartIndex());
+        int stopLiteralIndex = findLiteralIndex(literals, token.getStopIndex());
+        if (startLiteralIndex != stopLiteralIndex) {
+            return false;
+        }
+        if (-1 == startLiteralIndex || !isLiteral(literals.get(startLiteralIndex), token)) {
+            return -1 == startLiteralIndex;
+        }
+        literalTokenIndexes.put(token, startLiteralIndex);
+        return true;
+    }
+    
+    private static boolean isLiteral(final SQLLiteral literal, final Token token) {
+        return literal.getStartIndex() == token.getStartIndex() && literal.getStopIndex() == token.getStopIndex();
+    }
+    
+    private static int findLiteralIndex(final List<SQLLiteral> literals, final int index) {
+        int result = findLastLiteralIndexBefore(literals, index);
+        return -1 != result && index <= literals.get(result).getStopIndex() ? result : -1;
+    }
+    
+    private static int findLastLiteralIndexBefore(final List<SQLLiteral> literals, final int index) {
+        int low = 0;
+        int high = literals.size() - 1;
+        int result = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (literals.get(middle).getStartIndex() <= index) {
+                result = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Rebind template to SQL.
+     * 
+     * @param fingerprint fingerprint of SQL, which must be same with fingerprint of template
+     * @return abstract syntax tree of SQL
+     */
+    public SQLAST rebind(final SQLFingerprint fingerprint) {
+        Map<Token, Token> copiedTokens = new IdentityHashMap<>();
+        Map<ParserRuleContext, ParserRuleContext> copiedNodes = new IdentityHashMap<>();
+        ParserRuleContext parserRuleContext = copyNode(ast.getParserRuleContext(), null, fingerprint.getLiterals(), copiedTokens, copiedNodes);
+        Map<ParserRuleContext, Integer> parameterMarkerIndexes = new HashMap<>(ast.getParameterMarkerIndexes().size(), 1);
+        for (Entry<ParserRuleContext, Integer> entry : ast.getParameterMarkerIndexes().entrySet()) {
+            parameterMarkerIndexes.put(copiedNodes.get(entry.getKey()), entry.getValue());
+        }
+        return new SQLAST(parserRuleContext, parameterMarkerIndexes, ast.getSqlStatementRule());
+    }
+    
+    @SneakyThrows
+    private ParserRuleContext copyNode(final ParserRuleContext node, final ParserRuleContext parent, 
+                                       final List<SQLLiteral> newLiterals, final Map<Token, Token> copiedTokens, final Map<ParserRuleContext, ParserRuleContext> copiedNodes) {
+        ParserRuleContext result = (ParserRuleContext) getConstructor(node.getClass()).newInstance(parent, node.invokingState);
+        result.start = copyToken(node.start, newLiterals, copiedTokens);
+        result.stop = copyToken(node.stop, newLiterals, copiedTokens);
+        result.exception = node.exception;
+        copiedNodes.put(node, result);
+        for (int i = 0; i < node.getChildCount(); i++) {
+            ParseTree child = node.getChild(i);
+            if (child instanceof ParserRuleContext) {
+                result.addChild(copyNode((ParserRuleContext) child, result, newLiterals, copiedTokens, copiedNodes));
+            } else if (child instanceof ErrorNode) {
+                result.addErrorNode(new ErrorNodeImpl(copyToken(((ErrorNode) child).getSymbol(), newLiterals, copiedTokens)));
+            } else if (child instanceof TerminalNode) {
+                result.addChild(new TerminalNodeImpl(copyToken(((TerminalNode) child).getSymbol(), newLiterals, copiedTokens)));
+            }
+        }
+        return result;
+    }
+    
+    private Constructor<?> getConstructor(final Class<?> nodeClass) throws NoSuchMethodException {
+        Constructor<?> result = CONSTRUCTORS.get(nodeClass);
+        if (null == result) {
+            result = nodeClass.getConstructor(ParserRuleContext.class, int.class);
+            CONSTRUCTORS.put(nodeClass, result);
+        }
+        return result;
+    }
+    
+    private Token copyToken(final Token token, final List<SQLLiteral> newLiterals, final Map<Token, Token> copiedTokens) {
+        if (null == token) {
+            return null;
+        }
+        Token result = copiedTokens.get(token);
+        if (null != result) {
+            return result;
+        }
+        CommonToken commonToken = new CommonToken(token);
+        Integer literalIndex = literalTokenIndexes.get(token);
+        if (null == literalIndex) {
+            commonToken.setText(token.getText());
+            commonToken.setStartIndex(getNewIndex(token.getStartIndex(), newLiterals));
+            commonToken.setStopIndex(getNewIndex(token.getStopIndex(), newLiterals));
+        } else {
+            SQLLiteral newLiteral = newLiterals.get(literalIndex);
+            commonToken.setText(newLiteral.getText());
+            commonToken.setStartIndex(newLiteral.getStartIndex());
+            commonToken.setStopIndex(newLiteral.getStopIndex());
+        }
+        copiedTokens.put(token, commonToken);
+        return commonToken;
+    }
+    
+    private int getNewIndex(final int index, final List<SQLLiteral> newLiterals) {
+        int literalIndex = findLastLiteralIndexBefore(literals, index);
+        return -1 == literalIndex ? index : index + newLiterals.get(literalIndex).getStopIndex() - literals.get(literalIndex).getStopIndex();
+    }
+}
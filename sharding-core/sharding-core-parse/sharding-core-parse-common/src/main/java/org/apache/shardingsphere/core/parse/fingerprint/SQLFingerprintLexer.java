@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fingerprint;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SQL fingerprint lexer.
+ * 
+ * <p>
+ * Lexer replaces string and number literals with placeholders, quoted identifiers and comments are kept as they are.
+ * It is only a pre-lexer for caching, literals found by it are verified with tokens of SQL parser before used.
+ * Backslash escapes strings for MySQL only, SQL with backslash in strings can not be lexed for other databases.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class SQLFingerprintLexer {
+    
+    private static final char PLACEHOLDER_PREFIX = '\u0000';
+    
+    private static final char STRING_PLACEHOLDER = 'S';
+    
+    private static final char INTEGER_PLACEHOLDER = 'I';
+    
+    private static final char DECIMAL_PLACEHOLDER = 'D';
+    
+    private static final Collection<String> BACKSLASH_ESCAPED_DATABASE_NAMES = Arrays.asList("MySQL", "MariaDB");
+    
+    private final DatabaseType databaseType;
+    
+    private final String sql;
+    
+    /**
+     * Lex SQL to fingerprint.
+     * 
+     * @return fingerprint of SQL, absent if no literal in SQL or SQL can not be lexed
+     */
+    public Optional<SQLFingerprint> lex() {
+        if (-1 != sql.indexOf(PLACEHOLDER_PREFIX)) {
+            return Optional.absent();
+        }
+        StringBuilder value = new StringBuilder(sql.length());
+        List<SQLLiteral> literals = new ArrayList<>();
+        int position = 0;
+        while (position < sql.length()) {
+            int end = lexToken(position, value, literals);
+            if (-1 == end) {
+                return Optional.absent();
+            }
+            position = end;
+        }
+        return literals.isEmpty() ? Optional.<SQLFingerprint>absent() : Optional.of(new SQLFingerprint(value.toString(), literals));
+    }
+    
+    private int lexToken(final int start, final StringBuilder value, final List<SQLLiteral> literals) {
+        char current = sql.charAt(start);
+        int result;
+        if ('\'' == current) {
+            result = skipQuotedString(start);
+            return -1 == result ? -1 : appendLiteral(start, result, STRING_PLACEHOLDER, value, literals);
+        }
+        if (isDigit(current) && (0 == start || '.' != sql.charAt(start - 1))) {
+            return lexNumber(start, value, literals);
+        }
+        if (isIdentifierPart(current)) {
+            result = skipIdentifier(start);
+            if (result < sql.length() && '\'' == sql.charAt(result)) {
+                result = skipQuotedString(result);
+            }
+        } else if ('"' == current || '`' == current) {
+            result = skipQuoted(start, current, false);
+        } else if ('[' == current) {
+            result = skipTo(start, "]");
+        } else if (isStartsWith(start, "--") || '#' == current) {
+            result = skipLine(start);
+        } else if (isStartsWith(start, "/*")) {
+            result = skipTo(start + 2, "*/");
+        } else {
+            result = start + 1;
+        }
+        if (-1 != result) {
+            value.append(sql, start, result);
+        }
+        return result;
+    }
+    
+    private int lexNumber(final int start, final StringBuilder value, final List<SQLLiteral> literals) {
+        int result = skipDigits(start);
+        char placeholder = INTEGER_PLACEHOLDER;
+        if (result + 1 < sql.length() && '.' == sql.charAt(result) && isDigit(sql.charAt(result + 1))) {
+            result = skipDigits(result + 1);
+            placeholder = DECIMAL_PLACEHOLDER;
+        }
+        if (result < sql.length() && (isIdentifierPart(sql.charAt(result)) || '.' == sql.charAt(result))) {
+            result = skipIdentifier(result);
+            value.append(sql, start, result);
+            return result;
+        }
+        return appendLiteral(start, result, placeholder, value, literals);
+    }
+    
+    private int appendLiteral(final int start, final int end, final char placeholder, final StringBuilder value, final List<SQLLiteral> literals) {
+        literals.add(new SQLLiteral(start, end - 1, sql.substring(start, end)));
+        value.append(PLACEHOLDER_PREFIX).append(placeholder);
+        return end;
+    }
+    
+    private int skipQuotedString(final int start) {
+        boolean backslashEscaped = BACKSLASH_ESCAPED_DATABASE_NAMES.contains(databaseType.getName());
+        int result = skipQuoted(start, '\'', backslashEscaped);
+        if (-1 == result || backslashEscaped) {
+            return result;
+        }
+        int backslashIndex = sql.indexOf('\\', start);
+        return -1 != backslashIndex && backslashIndex < result ? -1 : result;
+    }
+    
+    private int skipQuoted(final int start, final char quote, final boolean backslashEscaped) {
+        int result = start + 1;
+        while (result < sql.length()) {
+            char current = sql.charAt(result);
+            if (backslashEscaped && '\\' == current) {
+                result += 2;
+            } else if (quote == current) {
+                if (result + 1 < sql.length() && quote == sql.charAt(result + 1)) {
+                    result += 2;
+                } else {
+                    return result + 1;
+                }
+            } else {
+                result++;
+            }
+        }
+        return -1;
+    }
+    
+    private int skipIdentifier(final int start) {
+        int result = start;
+        while (result < sql.length() && isIdentifierPart(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int skipDigits(final int start) {
+        int result = start;
+        while (result < sql.length() && isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int skipLine(final int start) {
+        int result = sql.indexOf('\n', start);
+        return -1 == result ? sql.length() : result + 1;
+    }
+    
+    private int skipTo(final int start, final String terminator) {
+        int result = sql.indexOf(terminator, start);
+        return -1 == result ? -1 : result + terminator.length();
+    }
+    
+    private boolean isStartsWith(final int start, final String prefix) {
+        return sql.startsWith(prefix, start);
+    }
+    
+    private boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+    
+    private boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+}
@@ -52,7 +52,7 @@ public final class SQLParserEngine {
      * @return abstract syntax tree of SQL
      */
     public SQLAST parse() {
-        ParseTree parseTree = SQLParserFactory.newInstance(databaseType, sql).execute().getChild(0);
+        ParseTree parseTree = SQLParserFactory.getInstance(databaseType, sql).execute().getChild(0);
         if (parseTree instanceof ErrorNode) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
         }
@@ -24,6 +24,7 @@ import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.parse.api.SQLParser;
@@ -32,12 +33,22 @@ import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
 import org.apache.shardingsphere.spi.database.BranchDatabaseType;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
+import java.lang.reflect.Constructor;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * SQL parser factory.
  * 
+ * <p>
+ * Constructors of lexer and parser are resolved only once for every database type.
+ * Parser of current thread can be reused for next SQL, DFA caches of ANTLR are shared by all parsers of same database type.
+ * </p>
+ * 
  * @author duhongjun
  * @author zhangliang
  */
@@ -46,11 +57,29 @@ public final class SQLParserFactory {
     
     private static final Collection<DatabaseType> DATABASE_TYPES = new HashSet<>();
     
+    private static final Map<DatabaseType, SQLParserEntry> PARSER_ENTRIES = new HashMap<>();
+    
+    private static final ConcurrentMap<DatabaseType, Constructor<? extends Lexer>> LEXER_CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private static final ConcurrentMap<DatabaseType, Constructor<? extends SQLParser>> PARSER_CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private static final ThreadLocal<Map<DatabaseType, SQLParser>> THREAD_LOCAL_PARSERS = new ThreadLocal<Map<DatabaseType, SQLParser>>() {
+        
+        @Override
+        protected Map<DatabaseType, SQLParser> initialValue() {
+            return new HashMap<>();
+        }
+    };
+    
     static {
         NewInstanceServiceLoader.register(SQLParserEntry.class);
         for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
+            DatabaseType databaseType = DatabaseTypes.getActualDatabaseType(each.getDatabaseType());
             if (!(each instanceof BranchDatabaseType)) {
-                DATABASE_TYPES.add(DatabaseTypes.getActualDatabaseType(each.getDatabaseType()));
+                DATABASE_TYPES.add(databaseType);
+            }
+            if (!PARSER_ENTRIES.containsKey(databaseType)) {
+                PARSER_ENTRIES.put(databaseType, each);
             }
         }
     }
@@ -71,18 +100,58 @@ public final class SQLParserFactory {
      * @param sql SQL
      * @return SQL parser
      */
+    @SneakyThrows
     public static SQLParser newInstance(final DatabaseType databaseType, final String sql) {
-        for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
-            if (DatabaseTypes.getActualDatabaseType(each.getDatabaseType()) == databaseType) {
-                return createSQLParser(sql, each);
-            }
+        if (!PARSER_ENTRIES.containsKey(databaseType)) {
+            throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        }
+        Lexer lexer = getLexerConstructor(databaseType).newInstance(CharStreams.fromString(sql));
+        return getParserConstructor(databaseType).newInstance(new CommonTokenStream(lexer));
+    }
+    
+    @SneakyThrows
+    private static Constructor<? extends Lexer> getLexerConstructor(final DatabaseType databaseType) {
+        Constructor<? extends Lexer> result = LEXER_CONSTRUCTORS.get(databaseType);
+        if (null == result) {
+            result = PARSER_ENTRIES.get(databaseType).getLexerClass().getConstructor(CharStream.class);
+            LEXER_CONSTRUCTORS.putIfAbsent(databaseType, result);
         }
-        throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        return result;
     }
     
     @SneakyThrows
-    private static SQLParser createSQLParser(final String sql, final SQLParserEntry parserEntry) {
-        Lexer lexer = parserEntry.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
-        return parserEntry.getParserClass().getConstructor(TokenStream.class).newInstance(new CommonTokenStream(lexer));
+    private static Constructor<? extends SQLParser> getParserConstructor(final DatabaseType databaseType) {
+        Constructor<? extends SQLParser> result = PARSER_CONSTRUCTORS.get(databaseType);
+        if (null == result) {
+            result = PARSER_ENTRIES.get(databaseType).getParserClass().getConstructor(TokenStream.class);
+            PARSER_CONSTRUCTORS.putIfAbsent(databaseType, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Get SQL parser of current thread.
+     * 
+     * <p>
+     * Lexer and parser of current thread are reset to parse the SQL, so the parser must be executed before getting parser again in same thread.
+     * </p>
+     *
+     * @param databaseType database type
+     * @param sql SQL
+     * @return SQL parser
+     */
+    public static SQLParser getInstance(final DatabaseType databaseType, final String sql) {
+        Map<DatabaseType, SQLParser> parsers = THREAD_LOCAL_PARSERS.get();
+        SQLParser result = parsers.get(databaseType);
+        if (null == result) {
+            result = newInstance(databaseType, sql);
+            parsers.put(databaseType, result);
+            return result;
+        }
+        Parser parser = (Parser) result;
+        Lexer lexer = (Lexer) parser.getTokenStream().getTokenSource();
+        lexer.setInputStream(CharStreams.fromString(sql));
+        parser.setTokenStream(new CommonTokenStream(lexer));
+        return result;
     }
 }
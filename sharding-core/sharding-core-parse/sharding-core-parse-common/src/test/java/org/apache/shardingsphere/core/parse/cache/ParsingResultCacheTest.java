@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.core.parse.fingerprint.SQLASTTemplate;
+import org.apache.shardingsphere.core.parse.fingerprint.SQLFingerprint;
+import org.apache.shardingsphere.core.parse.fingerprint.SQLLiteral;
+import org.apache.shardingsphere.core.parse.parser.SQLAST;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.Callable;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ParsingResultCacheTest {
+    
+    @Test
+    public void assertGetSQLStatementWithLoader() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        final SQLStatement sqlStatement = new SelectStatement();
+        Callable<SQLStatement> loader = new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                return sqlStatement;
+            }
+        };
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1", loader), is(sqlStatement));
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1", loader), is(sqlStatement));
+        assertThat(parsingResultCache.getStats().missCount(), is(1L));
+        assertThat(parsingResultCache.getStats().hitCount(), is(1L));
+        assertThat(parsingResultCache.getStats().loadSuccessCount(), is(1L));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetSQLStatementWithLoaderFailure() {
+        new ParsingResultCache().getSQLStatement("SELECT 1", new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                throw new IllegalStateException();
+            }
+        });
+    }
+    
+    @Test
+    public void assertPutWithMaximumSize() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(1);
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.put("SELECT 2", new SelectStatement());
+        assertThat(parsingResultCache.size(), is(1L));
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1"), nullValue());
+        assertThat(parsingResultCache.getStats().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertPutSQLASTTemplateWithTemplateMaximumSize() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(10, 1);
+        SQLFingerprint fingerprint1 = new SQLFingerprint("SELECT ?", Collections.<SQLLiteral>emptyList());
+        SQLFingerprint fingerprint2 = new SQLFingerprint("SELECT ?, ?", Collections.<SQLLiteral>emptyList());
+        parsingResultCache.putSQLASTTemplate(fingerprint1, createSQLASTTemplate(fingerprint1));
+        parsingResultCache.putSQLASTTemplate(fingerprint2, createSQLASTTemplate(fingerprint2));
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.put("SELECT 2", new SelectStatement());
+        assertThat(parsingResultCache.templateSize(), is(1L));
+        assertThat(parsingResultCache.size(), is(2L));
+        assertFalse(parsingResultCache.getSQLASTTemplate(fingerprint1).isPresent());
+        assertTrue(parsingResultCache.getSQLASTTemplate(fingerprint2).isPresent());
+        assertThat(parsingResultCache.getTemplateStats().evictionCount(), is(1L));
+        assertThat(parsingResultCache.getTemplateStats().missCount(), is(1L));
+        assertThat(parsingResultCache.getTemplateStats().hitCount(), is(1L));
+        assertThat(parsingResultCache.getStats().evictionCount(), is(0L));
+    }
+    
+    private SQLASTTemplate createSQLASTTemplate(final SQLFingerprint fingerprint) {
+        return SQLASTTemplate.newInstance(new SQLAST(new ParserRuleContext(), Collections.<ParserRuleContext, Integer>emptyMap(), null), fingerprint).get();
+    }
+    
+    @Test
+    public void assertClear() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.clear();
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1"), nullValue());
+    }
+}
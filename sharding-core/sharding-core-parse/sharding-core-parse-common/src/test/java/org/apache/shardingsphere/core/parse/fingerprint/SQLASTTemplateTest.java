@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fingerprint;
+
+import com.google.common.base.Optional;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.parser.SQLAST;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLASTTemplateTest {
+    
+    private static final String TEMPLATE_SQL = "SELECT * FROM t_order WHERE order_id = 100 AND user_id = ? AND status = 'init' AND price > 1.5 AND remark = ?";
+    
+    @Test
+    public void assertRebindWithLongerLiterals() {
+        assertRebind("SELECT * FROM t_order WHERE order_id = 1000000 AND user_id = ? AND status = 'initialized' AND price > 10000.25 AND remark = ?");
+    }
+    
+    @Test
+    public void assertRebindWithShorterLiterals() {
+        assertRebind("SELECT * FROM t_order WHERE order_id = 1 AND user_id = ? AND status = '' AND price > 1.5 AND remark = ?");
+    }
+    
+    @Test
+    public void assertRebindWithMixedLengthLiterals() {
+        assertRebind("SELECT * FROM t_order WHERE order_id = 1 AND user_id = ? AND status = 'it''s init' AND price > 0.5 AND remark = ?");
+    }
+    
+    @Test
+    public void assertNewInstanceWithLiteralAcrossTokens() {
+        String sql = "SELECT * FROM t_order WHERE status = 'a b'";
+        assertFalse(SQLASTTemplate.newInstance(createAST(sql), lex(sql)).isPresent());
+    }
+    
+    private void assertRebind(final String sql) {
+        SQLAST templateAST = createAST(TEMPLATE_SQL);
+        Optional<SQLASTTemplate> template = SQLASTTemplate.newInstance(templateAST, lex(TEMPLATE_SQL));
+        assertTrue(template.isPresent());
+        SQLFingerprint fingerprint = lex(sql);
+        assertThat(fingerprint.getValue(), is(lex(TEMPLATE_SQL).getValue()));
+        SQLAST actual = template.get().rebind(fingerprint);
+        assertThat(actual.getParserRuleContext(), not(sameInstance(templateAST.getParserRuleContext())));
+        List<Token> tokens = getTokens(actual.getParserRuleContext());
+        assertThat(tokens.size(), is(getTokens(templateAST.getParserRuleContext()).size()));
+        for (Token each : tokens) {
+            assertThat(each.getText(), is(sql.substring(each.getStartIndex(), each.getStopIndex() + 1)));
+        }
+        assertThat(actual.getParserRuleContext().start, sameInstance(tokens.get(0)));
+        assertThat(actual.getParserRuleContext().stop, sameInstance(tokens.get(tokens.size() - 1)));
+        assertParameterMarkerIndexes(actual, sql);
+    }
+    
+    private void assertParameterMarkerIndexes(final SQLAST actual, final String sql) {
+        assertThat(actual.getParameterMarkerIndexes().size(), is(2));
+        int firstParameterMarkerIndex = sql.indexOf('?');
+        int secondParameterMarkerIndex = sql.indexOf('?', firstParameterMarkerIndex + 1);
+        for (Entry<ParserRuleContext, Integer> entry : actual.getParameterMarkerIndexes().entrySet()) {
+            assertThat(entry.getKey().getParent(), sameInstance((Object) actual.getParserRuleContext()));
+            assertThat(entry.getKey().start, sameInstance(((TerminalNode) entry.getKey().getChild(0)).getSymbol()));
+            assertThat(entry.getKey().start.getStartIndex(), is(0 == entry.getValue() ? firstParameterMarkerIndex : secondParameterMarkerIndex));
+        }
+    }
+    
+    private SQLFingerprint lex(final String sql) {
+        return new SQLFingerprintLexer(DatabaseTypes.getActualDatabaseType("MySQL"), sql).lex().get();
+    }
+    
+    private SQLAST createAST(final String sql) {
+        ParserRuleContext parserRuleContext = new ParserRuleContext();
+        Map<ParserRuleContext, Integer> parameterMarkerIndexes = new HashMap<>();
+        int startIndex = 0;
+        for (String each : sql.split(" ")) {
+            CommonToken token = new CommonToken(1, each);
+            token.setStartIndex(startIndex);
+            token.setStopIndex(startIndex + each.length() - 1);
+            startIndex += each.length() + 1;
+            if (null == parserRuleContext.start) {
+                parserRuleContext.start = token;
+            }
+            parserRuleContext.stop = token;
+            if ("?".equals(each)) {
+                ParserRuleContext parameterMarker = new ParserRuleContext(parserRuleContext, 0);
+                parameterMarker.start = token;
+                parameterMarker.stop = token;
+                parameterMarker.addChild(new TerminalNodeImpl(token));
+                parserRuleContext.addChild(parameterMarker);
+                parameterMarkerIndexes.put(parameterMarker, parameterMarkerIndexes.size());
+            } else {
+                parserRuleContext.addChild(new TerminalNodeImpl(token));
+            }
+        }
+        return new SQLAST(parserRuleContext, parameterMarkerIndexes, null);
+    }
+    
+    private List<Token> getTokens(final ParseTree node) {
+        List<Token> result = new LinkedList<>();
+        if (node instanceof TerminalNode) {
+            result.add(((TerminalNode) node).getSymbol());
+            return result;
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            result.addAll(getTokens(node.getChild(i)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fingerprint;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLFingerprintLexerTest {
+    
+    private static final DatabaseType MYSQL = DatabaseTypes.getActualDatabaseType("MySQL");
+    
+    @Test
+    public void assertLexWithLiterals() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintLexer(MYSQL, "SELECT * FROM t_order WHERE order_id = 10 AND status = 'init' AND price > 1.5").lex();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLiterals().size(), is(3));
+        assertLiteral(actual.get().getLiterals().get(0), 39, 40, "10");
+        assertLiteral(actual.get().getLiterals().get(1), 55, 60, "'init'");
+        assertLiteral(actual.get().getLiterals().get(2), 74, 76, "1.5");
+    }
+    
+    @Test
+    public void assertLexWithSameShape() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintLexer(MYSQL, "SELECT * FROM t_order WHERE order_id = 10 AND status = 'init'").lex();
+        Optional<SQLFingerprint> expected = new SQLFingerprintLexer(MYSQL, "SELECT * FROM t_order WHERE order_id = 1000 AND status = 'it''s'").lex();
+        assertThat(actual.get().getValue(), is(expected.get().getValue()));
+    }
+    
+    @Test
+    public void assertLexWithDifferentLiteralTypes() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintLexer(MYSQL, "SELECT * FROM t_order WHERE order_id = 10").lex();
+        Optional<SQLFingerprint> expected = new SQLFingerprintLexer(MYSQL, "SELECT * FROM t_order WHERE order_id = '10'").lex();
+        assertThat(actual.get().getValue(), not(expected.get().getValue()));
+    }
+    
+    @Test
+    public void assertLexWithIdentifiersAndComments() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintLexer(MYSQL, "SELECT `t_order_1`.order_id, \"c1\" FROM t_order_1 /* 1 */ WHERE order_id = 1 -- 2").lex();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLiterals().size(), is(1));
+        assertThat(actual.get().getLiterals().get(0).getText(), is("1"));
+    }
+    
+    @Test
+    public void assertLexWithoutLiterals() {
+        assertFalse(new SQLFingerprintLexer(MYSQL, "SELECT * FROM t_order WHERE order_id = ?").lex().isPresent());
+    }
+    
+    @Test
+    public void assertLexWithUnclosedString() {
+        assertFalse(new SQLFingerprintLexer(MYSQL, "SELECT * FROM t_order WHERE status = 'init").lex().isPresent());
+    }
+    
+    @Test
+    public void assertLexWithBackslashEscapedStringForMySQL() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintLexer(MYSQL, "SELECT * FROM t_order WHERE status = 'it\\'s' AND order_id = 1").lex();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLiterals().size(), is(2));
+        assertLiteral(actual.get().getLiterals().get(0), 37, 43, "'it\\'s'");
+    }
+    
+    @Test
+    public void assertLexWithBackslashInStringForPostgreSQL() {
+        assertFalse(new SQLFingerprintLexer(DatabaseTypes.getActualDatabaseType("PostgreSQL"), "SELECT * FROM t_order WHERE status = 'c:\\' AND order_id = 1").lex().isPresent());
+    }
+    
+    @Test
+    public void assertLexWithBackslashInPrefixedStringForSQLServer() {
+        assertFalse(new SQLFingerprintLexer(DatabaseTypes.getActualDatabaseType("SQLServer"), "SELECT * FROM t_order WHERE status = N'c:\\' AND order_id = 1").lex().isPresent());
+    }
+    
+    @Test
+    public void assertLexWithoutBackslashForOracle() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintLexer(DatabaseTypes.getActualDatabaseType("Oracle"), "SELECT * FROM t_order WHERE status = 'it''s' AND order_id = 1").lex();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLiterals().size(), is(2));
+        assertLiteral(actual.get().getLiterals().get(0), 37, 43, "'it''s'");
+    }
+    
+    private void assertLiteral(final SQLLiteral actual, final int startIndex, final int stopIndex, final String text) {
+        assertThat(actual.getStartIndex(), is(startIndex));
+        assertThat(actual.getStopIndex(), is(stopIndex));
+        assertThat(actual.getText(), is(text));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.integrate.engine.sharding;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.entry.ShardingSQLParseEntry;
+import org.apache.shardingsphere.core.parse.fingerprint.SQLFingerprint;
+import org.apache.shardingsphere.core.parse.fingerprint.SQLFingerprintLexer;
+import org.apache.shardingsphere.core.parse.fingerprint.SQLLiteral;
+import org.apache.shardingsphere.core.parse.fixture.ParsingTestCaseFixtureBuilder;
+import org.apache.shardingsphere.core.parse.integrate.asserts.ShardingSQLStatementAssert;
+import org.apache.shardingsphere.core.parse.integrate.jaxb.ParserResultSetRegistry;
+import org.apache.shardingsphere.core.parse.integrate.jaxb.ShardingParserResultSetRegistry;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.apache.shardingsphere.test.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.loader.SQLCasesLoader;
+import org.apache.shardingsphere.test.sql.loader.sharding.ShardingSQLCasesRegistry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Collection;
+import java.util.LinkedList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+@RequiredArgsConstructor
+public final class ShardingParameterizedTemplateParsingTest {
+    
+    private static SQLCasesLoader sqlCasesLoader = ShardingSQLCasesRegistry.getInstance().getSqlCasesLoader();
+    
+    private static ParserResultSetRegistry parserResultSetRegistry = ShardingParserResultSetRegistry.getInstance().getRegistry();
+    
+    private static ShardingTableMetaData shardingTableMetaData = ParsingTestCaseFixtureBuilder.buildShardingTableMetaData();
+    
+    private final String sqlCaseId;
+    
+    private final String databaseType;
+    
+    @Parameters(name = "{0} -> {1}")
+    public static Collection<Object[]> getTestParameters() {
+        Collection<Object[]> result = new LinkedList<>();
+        for (Object[] each : sqlCasesLoader.getSQLTestParameters()) {
+            if (SQLCaseType.Literal == each[2]) {
+                result.add(new Object[] {each[0], each[1]});
+            }
+        }
+        return result;
+    }
+    
+    @Test
+    public void assertSupportedSQLWithTemplateOfOtherLiterals() {
+        String sql = sqlCasesLoader.getSQL(sqlCaseId, SQLCaseType.Literal, parserResultSetRegistry.get(sqlCaseId).getParameters());
+        DatabaseType trunkDatabaseType = DatabaseTypes.getTrunkDatabaseType(databaseType);
+        Optional<SQLFingerprint> fingerprint = new SQLFingerprintLexer(trunkDatabaseType, sql).lex();
+        ShardingSQLParseEntry parseEntry = new ShardingSQLParseEntry(trunkDatabaseType, shardingTableMetaData, new ParsingResultCache());
+        if (fingerprint.isPresent()) {
+            String otherLiteralsSQL = getOtherLiteralsSQL(sql, fingerprint.get());
+            assertThat(new SQLFingerprintLexer(trunkDatabaseType, otherLiteralsSQL).lex().get().getValue(), is(fingerprint.get().getValue()));
+            parseEntry.parse(otherLiteralsSQL, false);
+        }
+        SQLStatement sqlStatement = parseEntry.parse(sql, false);
+        new ShardingSQLStatementAssert(sqlStatement, sqlCaseId, SQLCaseType.Literal).assertSQLStatement();
+    }
+    
+    private String getOtherLiteralsSQL(final String sql, final SQLFingerprint fingerprint) {
+        StringBuilder result = new StringBuilder(sql.length() * 2);
+        int position = 0;
+        for (SQLLiteral each : fingerprint.getLiterals()) {
+            result.append(sql, position, each.getStartIndex());
+            String text = each.getText();
+            result.append('\'' == text.charAt(0) ? text.substring(0, text.length() - 1) + "_other'" : text + "0");
+            position = each.getStopIndex() + 1;
+        }
+        result.append(sql.substring(position));
+        return result.toString();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.exception.SQLParsingException;
+import org.apache.shardingsphere.core.parse.rule.registry.ShardingParseRuleRegistry;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public final class SQLParserEngineTest {
+    
+    private static final DatabaseType MYSQL = DatabaseTypes.getActualDatabaseType("MySQL");
+    
+    @Test
+    public void assertParse() {
+        SQLAST actual = new SQLParserEngine(ShardingParseRuleRegistry.getInstance(), MYSQL, "SELECT order_id FROM t_order WHERE user_id = ? AND order_id = ?").parse();
+        assertThat(actual.getParserRuleContext().getClass().getSimpleName(), is("SelectContext"));
+        assertThat(actual.getParameterMarkerIndexes().size(), is(2));
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertParseUnsupportedSQL() {
+        new SQLParserEngine(ShardingParseRuleRegistry.getInstance(), MYSQL, "FOO BAR").parse();
+    }
+    
+    @Test
+    public void assertParseAfterUnsupportedSQL() {
+        try {
+            new SQLParserEngine(ShardingParseRuleRegistry.getInstance(), MYSQL, "FOO BAR").parse();
+            fail("Expected SQLParsingException");
+        } catch (final SQLParsingException ignored) {
+        }
+        SQLAST actual = new SQLParserEngine(ShardingParseRuleRegistry.getInstance(), MYSQL, "DELETE FROM t_order WHERE order_id = ?").parse();
+        assertThat(actual.getParserRuleContext().getClass().getSimpleName(), is("DeleteContext"));
+        assertThat(actual.getParameterMarkerIndexes().size(), is(1));
+    }
+}
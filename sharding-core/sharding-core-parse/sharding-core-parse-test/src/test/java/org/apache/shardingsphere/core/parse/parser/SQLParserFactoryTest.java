@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParserFactoryTest {
+    
+    private static final DatabaseType MYSQL = DatabaseTypes.getActualDatabaseType("MySQL");
+    
+    private static final String SQL = "SELECT o.order_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.status IN ('init', 'paid')";
+    
+    @Test
+    public void assertGetInstanceInSameThread() {
+        assertThat(SQLParserFactory.getInstance(MYSQL, SQL), sameInstance(SQLParserFactory.getInstance(MYSQL, SQL)));
+    }
+    
+    @Test
+    public void assertGetInstanceInDifferentThreads() throws InterruptedException {
+        final AtomicReference<SQLParser> actual = new AtomicReference<>();
+        Thread thread = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                actual.set(SQLParserFactory.getInstance(MYSQL, SQL));
+            }
+        });
+        thread.start();
+        thread.join();
+        assertThat(actual.get(), not(sameInstance(SQLParserFactory.getInstance(MYSQL, SQL))));
+    }
+    
+    @Test
+    public void assertGetInstanceWithDifferentDatabaseTypes() {
+        assertThat(SQLParserFactory.getInstance(MYSQL, SQL), not(sameInstance(SQLParserFactory.getInstance(DatabaseTypes.getActualDatabaseType("PostgreSQL"), SQL))));
+    }
+    
+    @Test
+    public void assertGetInstanceAfterSyntaxError() {
+        SQLParser invalidParser = SQLParserFactory.getInstance(MYSQL, "SELECT * FROM WHERE user_id = ?");
+        invalidParser.execute();
+        assertTrue(((Parser) invalidParser).getNumberOfSyntaxErrors() > 0);
+        SQLParser actual = SQLParserFactory.getInstance(MYSQL, SQL);
+        ParserRuleContext actualTree = actual.execute();
+        assertThat(((Parser) actual).getNumberOfSyntaxErrors(), is(0));
+        assertThat(actualTree.toStringTree((Parser) actual), is(getExpectedTree(SQL)));
+    }
+    
+    @Test
+    public void assertGetInstanceForNextSQL() {
+        String nextSQL = "UPDATE t_order SET status = ? WHERE order_id = ?";
+        SQLParserFactory.getInstance(MYSQL, SQL).execute();
+        SQLParser actual = SQLParserFactory.getInstance(MYSQL, nextSQL);
+        assertThat(actual.execute().toStringTree((Parser) actual), is(getExpectedTree(nextSQL)));
+    }
+    
+    private String getExpectedTree(final String sql) {
+        SQLParser result = SQLParserFactory.newInstance(MYSQL, sql);
+        return result.execute().toStringTree((Parser) result);
+    }
+}
@@ -19,16 +19,23 @@ package org.apache.shardingsphere.core.rewrite.builder;
 
 import com.google.common.base.Optional;
 import lombok.Getter;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.InValueUnit;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.Pagination;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeSet;
 
 /**
  * Base parameter builder.
@@ -44,6 +51,8 @@ public final class BaseParameterBuilder implements ParameterBuilder {
     
     private final Map<Integer, Object> replacedIndexAndParameters = new HashMap<>();
     
+    private final List<InValueUnit> inValueUnits = new LinkedList<>();
+    
     public BaseParameterBuilder(final List<Object> parameters) {
         originalParameters.addAll(parameters);
     }
@@ -51,6 +60,7 @@ public final class BaseParameterBuilder implements ParameterBuilder {
     public BaseParameterBuilder(final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
         this(parameters);
         setReplacedIndexAndParameters(sqlRouteResult);
+        setInValueUnits(sqlRouteResult);
     }
     
     private void setReplacedIndexAndParameters(final SQLRouteResult sqlRouteResult) {
@@ -80,6 +90,16 @@ public final class BaseParameterBuilder implements ParameterBuilder {
         replacedIndexAndParameters.put(rowCountParameterIndex, pagination.getRevisedRowCount((ShardingSelectOptimizedStatement) sqlRouteResult.getOptimizedStatement()));
     }
     
+    private void setInValueUnits(final SQLRouteResult sqlRouteResult) {
+        if (!(sqlRouteResult.getOptimizedStatement() instanceof ShardingWhereOptimizedStatement) || sqlRouteResult.getRoutingResult().isSingleRouting()) {
+            return;
+        }
+        List<ShardingCondition> shardingConditions = ((ShardingWhereOptimizedStatement) sqlRouteResult.getOptimizedStatement()).getShardingConditions().getConditions();
+        if (1 == shardingConditions.size()) {
+            inValueUnits.addAll(shardingConditions.get(0).getInValueUnits());
+        }
+    }
+    
     @Override
     public List<Object> getParameters() {
         List<Object> result = new LinkedList<>(originalParameters);
@@ -94,6 +114,38 @@ public final class BaseParameterBuilder implements ParameterBuilder {
     
     @Override
     public List<Object> getParameters(final RoutingUnit routingUnit) {
-        return getParameters();
+        List<Object> result = getParameters();
+        if (null == routingUnit || inValueUnits.isEmpty()) {
+            return result;
+        }
+        Collection<Integer> removedIndexes = new TreeSet<>();
+        boolean isAnyValueRouted = false;
+        for (InValueUnit each : inValueUnits) {
+            if (isRoutedTo(each, routingUnit)) {
+                isAnyValueRouted = true;
+            } else if (each.getExpression() instanceof ParameterMarkerExpressionSegment) {
+                removedIndexes.add(((ParameterMarkerExpressionSegment) each.getExpression()).getParameterMarkerIndex());
+            }
+        }
+        if (!isAnyValueRouted) {
+            return result;
+        }
+        int removedCount = 0;
+        for (int each : removedIndexes) {
+            result.remove(each - removedCount++);
+        }
+        return result;
+    }
+    
+    private boolean isRoutedTo(final InValueUnit inValueUnit, final RoutingUnit routingUnit) {
+        if (inValueUnit.getDataNodes().isEmpty()) {
+            return true;
+        }
+        for (DataNode each : inValueUnit.getDataNodes()) {
+            if (routingUnit.getTableUnit(each.getDataSourceName(), each.getTableName()).isPresent()) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -17,12 +17,12 @@
 
 package org.apache.shardingsphere.core.rewrite.builder;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.rewrite.token.pojo.Alterable;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.Substitutable;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -30,17 +30,69 @@ import java.util.Map;
 /**
  * SQL builder.
  *
+ * <p>
+ * SQL tokens are compiled once into a template of literal fragments and alterable holes.
+ * Literals of tokens which do not depend on routing unit are merged into fragments,
+ * so converting to SQL for each routing unit only fills actual table and index names.
+ * </p>
+ *
  * @author gaohongtao
  * @author zhangliang
  * @author maxiaoguang
  * @author panjuan
  */
-@RequiredArgsConstructor
 public final class SQLBuilder {
     
-    private final String logicSQL;
+    private static final int ESTIMATED_HOLE_LENGTH = 16;
+    
+    private final String[] literals;
+    
+    private final Alterable[] holes;
+    
+    private final int capacity;
+    
+    public SQLBuilder(final String logicSQL, final List<SQLToken> sqlTokens) {
+        List<String> compiledLiterals = new ArrayList<>(sqlTokens.size() + 1);
+        List<Alterable> compiledHoles = new ArrayList<>(sqlTokens.size());
+        compile(logicSQL, new ArrayList<>(sqlTokens), compiledLiterals, compiledHoles);
+        literals = compiledLiterals.toArray(new String[compiledLiterals.size()]);
+        holes = compiledHoles.toArray(new Alterable[compiledHoles.size()]);
+        capacity = getLiteralsLength() + holes.length * ESTIMATED_HOLE_LENGTH;
+    }
+    
+    private void compile(final String logicSQL, final List<SQLToken> sqlTokens, final List<String> compiledLiterals, final List<Alterable> compiledHoles) {
+        if (sqlTokens.isEmpty()) {
+            compiledLiterals.add(logicSQL);
+            return;
+        }
+        StringBuilder literal = new StringBuilder(logicSQL.length());
+        literal.append(logicSQL, 0, sqlTokens.get(0).getStartIndex());
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            SQLToken each = sqlTokens.get(i);
+            if (each instanceof Alterable) {
+                compiledLiterals.add(literal.toString());
+                literal.setLength(0);
+                compiledHoles.add((Alterable) each);
+            } else {
+                literal.append(each.toString());
+            }
+            int stopIndex = sqlTokens.size() - 1 == i ? logicSQL.length() : sqlTokens.get(i + 1).getStartIndex();
+            literal.append(logicSQL, Math.min(getStartIndex(each), logicSQL.length()), stopIndex);
+        }
+        compiledLiterals.add(literal.toString());
+    }
+    
+    private int getStartIndex(final SQLToken sqlToken) {
+        return sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+    }
     
-    private final List<SQLToken> sqlTokens;
+    private int getLiteralsLength() {
+        int result = 0;
+        for (String each : literals) {
+            result += each.length();
+        }
+        return result;
+    }
     
     /**
      * Convert to SQL.
@@ -59,33 +111,14 @@ public final class SQLBuilder {
      * @return SQL
      */
     public String toSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        if (sqlTokens.isEmpty()) {
-            return logicSQL;
+        if (0 == holes.length) {
+            return literals[0];
         }
-        return createLogicSQL(routingUnit, logicAndActualTables);
-    }
-    
-    private String createLogicSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        StringBuilder result = new StringBuilder();
-        result.append(logicSQL.substring(0, sqlTokens.get(0).getStartIndex()));
-        for (SQLToken each : sqlTokens) {
-            result.append(getSQLTokenLiterals(each, routingUnit, logicAndActualTables));
-            result.append(getConjunctionLiterals(each));
+        StringBuilder result = new StringBuilder(capacity);
+        for (int i = 0; i < holes.length; i++) {
+            result.append(literals[i]).append(holes[i].toString(routingUnit, logicAndActualTables));
         }
+        result.append(literals[holes.length]);
         return result.toString();
     }
-    
-    private String getSQLTokenLiterals(final SQLToken sqlToken, final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        return sqlToken instanceof Alterable ? ((Alterable) sqlToken).toString(routingUnit, logicAndActualTables) : sqlToken.toString();
-    }
-    
-    private String getConjunctionLiterals(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
-        int stopIndex = sqlTokens.size() - 1 == currentSQLTokenIndex ? logicSQL.length() : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
-        return logicSQL.substring(getStartIndex(sqlToken) > logicSQL.length() ? logicSQL.length() : getStartIndex(sqlToken), stopIndex);
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        return sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-    }
 }
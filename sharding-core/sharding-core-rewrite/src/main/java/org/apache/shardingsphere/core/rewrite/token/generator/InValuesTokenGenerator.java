@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.generator;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.optimize.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.InValueUnit;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
+import org.apache.shardingsphere.core.rewrite.builder.ParameterBuilder;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InValuesToken;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.util.List;
+
+/**
+ * IN values token generator.
+ *
+ * @author zhangliang
+ */
+public final class InValuesTokenGenerator implements OptionalSQLTokenGenerator<ShardingRule>, IgnoreForSingleRoute {
+    
+    @Override
+    public Optional<InValuesToken> generateSQLToken(final OptimizedStatement optimizedStatement, final ParameterBuilder parameterBuilder, final ShardingRule shardingRule) {
+        if (!(optimizedStatement instanceof ShardingWhereOptimizedStatement) || 1 != ((ShardingWhereOptimizedStatement) optimizedStatement).getShardingConditions().getConditions().size()) {
+            return Optional.absent();
+        }
+        ShardingCondition shardingCondition = ((ShardingWhereOptimizedStatement) optimizedStatement).getShardingConditions().getConditions().get(0);
+        List<InValueUnit> inValueUnits = shardingCondition.getInValueUnits();
+        if (inValueUnits.isEmpty()) {
+            return Optional.absent();
+        }
+        int startIndex = inValueUnits.get(0).getExpression().getStartIndex();
+        int stopIndex = inValueUnits.get(inValueUnits.size() - 1).getExpression().getStopIndex();
+        return Optional.of(new InValuesToken(startIndex, stopIndex, optimizedStatement.getSQLStatement().getLogicSQL(), inValueUnits));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.pojo;
+
+import lombok.Getter;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.InValueUnit;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IN values token.
+ *
+ * @author zhangliang
+ */
+@Getter
+public final class InValuesToken extends SQLToken implements Substitutable, Alterable {
+    
+    private final int stopIndex;
+    
+    private final String logicSQL;
+    
+    private final List<InValueUnit> inValueUnits;
+    
+    public InValuesToken(final int startIndex, final int stopIndex, final String logicSQL, final List<InValueUnit> inValueUnits) {
+        super(startIndex);
+        this.stopIndex = stopIndex;
+        this.logicSQL = logicSQL;
+        this.inValueUnits = inValueUnits;
+    }
+    
+    @Override
+    public String toString(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
+        StringBuilder result = new StringBuilder();
+        for (InValueUnit each : inValueUnits) {
+            if (isToAppendInValueUnit(routingUnit, each)) {
+                result.append(logicSQL, each.getExpression().getStartIndex(), each.getExpression().getStopIndex() + 1).append(", ");
+            }
+        }
+        return 0 == result.length() ? logicSQL.substring(getStartIndex(), stopIndex + 1) : result.substring(0, result.length() - 2);
+    }
+    
+    private boolean isToAppendInValueUnit(final RoutingUnit routingUnit, final InValueUnit unit) {
+        if (unit.getDataNodes().isEmpty() || null == routingUnit) {
+            return true;
+        }
+        for (DataNode each : unit.getDataNodes()) {
+            if (routingUnit.getTableUnit(each.getDataSourceName(), each.getTableName()).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -18,11 +18,18 @@
 package org.apache.shardingsphere.core.rewrite.builder;
 
 import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.InValueUnit;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingConditions;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.Pagination;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.context.Column;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -55,6 +62,7 @@ public final class BaseParameterBuilderTest {
         when(pagination.getRevisedRowCount(any(ShardingSelectOptimizedStatement.class))).thenReturn(6);
         ShardingSelectOptimizedStatement optimizedStatement = mock(ShardingSelectOptimizedStatement.class);
         when(optimizedStatement.getPagination()).thenReturn(pagination);
+        when(optimizedStatement.getShardingConditions()).thenReturn(new ShardingConditions(Collections.<ShardingCondition>emptyList()));
         SQLRouteResult result = new SQLRouteResult(optimizedStatement);
         result.setRoutingResult(new RoutingResult());
         return result;
@@ -66,6 +74,37 @@ public final class BaseParameterBuilderTest {
         assertThat(baseParameterBuilder.getParameters(mock(RoutingUnit.class)), is(Arrays.<Object>asList(1, 2, 0, 6, 7)));
     }
     
+    @Test
+    public void assertGetParametersWithInValueUnits() {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getInValueUnits().add(createInValueUnit(0, 1, "ds_0"));
+        shardingCondition.getInValueUnits().add(createInValueUnit(1, 2, "ds_1"));
+        shardingCondition.getInValueUnits().add(createInValueUnit(2, 3, "ds_0"));
+        ShardingSelectOptimizedStatement optimizedStatement = mock(ShardingSelectOptimizedStatement.class);
+        when(optimizedStatement.getPagination()).thenReturn(mock(Pagination.class));
+        when(optimizedStatement.getShardingConditions()).thenReturn(new ShardingConditions(Collections.singletonList(shardingCondition)));
+        SQLRouteResult sqlRouteResult = new SQLRouteResult(optimizedStatement);
+        sqlRouteResult.setRoutingResult(new RoutingResult());
+        sqlRouteResult.getRoutingResult().getRoutingUnits().add(createRoutingUnit("ds_0"));
+        sqlRouteResult.getRoutingResult().getRoutingUnits().add(createRoutingUnit("ds_1"));
+        BaseParameterBuilder actual = new BaseParameterBuilder(Arrays.<Object>asList(1, 2, 3, 4), sqlRouteResult);
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(1, 2, 3, 4)));
+        assertThat(actual.getParameters(createRoutingUnit("ds_0")), is(Arrays.<Object>asList(1, 3, 4)));
+        assertThat(actual.getParameters(createRoutingUnit("ds_1")), is(Arrays.<Object>asList(2, 4)));
+    }
+    
+    private InValueUnit createInValueUnit(final int parameterMarkerIndex, final int value, final String dataSourceName) {
+        InValueUnit result = new InValueUnit(new Column("order_id", "t_order"), new ParameterMarkerExpressionSegment(0, 0, parameterMarkerIndex), value);
+        result.getDataNodes().add(new DataNode(dataSourceName, "t_order_0"));
+        return result;
+    }
+    
+    private RoutingUnit createRoutingUnit(final String dataSourceName) {
+        RoutingUnit result = new RoutingUnit(dataSourceName);
+        result.getTableUnits().add(new TableUnit("t_order", "t_order_0"));
+        return result;
+    }
+    
     @Test
     public void assertGetOriginalParameters() {
         assertThat(baseParameterBuilder.getOriginalParameters(), is(Arrays.<Object>asList(1, 2, 1, 5)));
@@ -18,12 +18,19 @@
 package org.apache.shardingsphere.core.rewrite.builder;
 
 import org.apache.shardingsphere.core.parse.constant.QuoteCharacter;
+import org.apache.shardingsphere.core.rewrite.token.pojo.OffsetToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.RowCountToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.TableToken;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -50,4 +57,27 @@ public final class SQLBuilderTest {
     public void assertToSQLWithTokens() {
         assertThat(sqlBuilderWithTokens.toSQL(null, Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0 WHERE order_id > 1"));
     }
+    
+    @Test
+    public void assertToSQLWithTokensForMultipleRoutingUnits() {
+        List<SQLToken> sqlTokens = new LinkedList<>();
+        sqlTokens.add(new TableToken(14, 20, "t_order", QuoteCharacter.NONE));
+        sqlTokens.add(new TableToken(29, 40, "t_order_item", QuoteCharacter.NONE));
+        sqlTokens.add(new OffsetToken(77, 78, 0));
+        sqlTokens.add(new RowCountToken(81, 82, 30));
+        SQLBuilder sqlBuilder = new SQLBuilder("SELECT * FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id LIMIT 10, 20", sqlTokens);
+        Map<String, String> logicAndActualTables = new HashMap<>(2, 1);
+        logicAndActualTables.put("t_order", "t_order_0");
+        logicAndActualTables.put("t_order_item", "t_order_item_0");
+        assertThat(sqlBuilder.toSQL(null, logicAndActualTables), is("SELECT * FROM t_order_0 o JOIN t_order_item_0 i ON o.order_id = i.order_id LIMIT 0, 30"));
+        logicAndActualTables.put("t_order", "t_order_1");
+        logicAndActualTables.put("t_order_item", "t_order_item_1");
+        assertThat(sqlBuilder.toSQL(null, logicAndActualTables), is("SELECT * FROM t_order_1 o JOIN t_order_item_1 i ON o.order_id = i.order_id LIMIT 0, 30"));
+    }
+    
+    @Test
+    public void assertToSQLWithoutAlterableTokens() {
+        SQLBuilder sqlBuilder = new SQLBuilder("SELECT * FROM t_config LIMIT 10, 20", Arrays.<SQLToken>asList(new OffsetToken(29, 30, 0), new RowCountToken(33, 34, 30)));
+        assertThat(sqlBuilder.toSQL(), is("SELECT * FROM t_config LIMIT 0, 30"));
+    }
 }
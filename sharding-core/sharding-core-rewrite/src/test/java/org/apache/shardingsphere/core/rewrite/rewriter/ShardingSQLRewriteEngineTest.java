@@ -25,6 +25,7 @@ import org.apache.shardingsphere.core.optimize.statement.OptimizedStatement;
 import org.apache.shardingsphere.core.optimize.statement.encrypt.condition.EncryptCondition;
 import org.apache.shardingsphere.core.optimize.statement.encrypt.condition.EncryptConditions;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.InValueUnit;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingConditions;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.ShardingInsertColumns;
@@ -40,6 +41,7 @@ import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ord
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.Pagination;
 import org.apache.shardingsphere.core.optimize.statement.transparent.TransparentOptimizedStatement;
 import org.apache.shardingsphere.core.parse.constant.QuoteCharacter;
+import org.apache.shardingsphere.core.parse.sql.context.Column;
 import org.apache.shardingsphere.core.parse.sql.context.Table;
 import org.apache.shardingsphere.core.parse.sql.segment.common.SchemaSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.common.TableSegment;
@@ -1086,6 +1088,42 @@ public final class ShardingSQLRewriteEngineTest {
         return result;
     }
     
+    @Test
+    public void assertRewriteInValuesByRoutingUnit() {
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(createRouteResultForInValues(), Arrays.<Object>asList(1, 2));
+        RoutingUnit routingUnit0 = new RoutingUnit("db0");
+        routingUnit0.getTableUnits().add(new TableUnit("table_x", "table_1"));
+        RoutingUnit routingUnit1 = new RoutingUnit("db1");
+        routingUnit1.getTableUnits().add(new TableUnit("table_x", "table_1"));
+        assertThat(rewriteEngine.generateSQL(routingUnit0, logicTableAndActualTables).getSql(), is("SELECT x.id FROM table_1 x WHERE x.id IN (?, 3)"));
+        assertThat(rewriteEngine.generateSQL(routingUnit0, logicTableAndActualTables).getParameters(), is(Collections.<Object>singletonList(1)));
+        assertThat(rewriteEngine.generateSQL(routingUnit1, logicTableAndActualTables).getSql(), is("SELECT x.id FROM table_1 x WHERE x.id IN (?)"));
+        assertThat(rewriteEngine.generateSQL(routingUnit1, logicTableAndActualTables).getParameters(), is(Collections.<Object>singletonList(2)));
+    }
+    
+    private SQLRouteResult createRouteResultForInValues() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setLogicSQL("SELECT x.id FROM table_x x WHERE x.id IN (?, ?, 3)");
+        selectStatement.getSQLSegments().add(new TableSegment(17, 23, "table_x"));
+        Column column = new Column("id", "table_x");
+        InValueUnit inValueUnit1 = new InValueUnit(column, new ParameterMarkerExpressionSegment(42, 42, 0), 1);
+        inValueUnit1.getDataNodes().add(new DataNode("db0", "table_1"));
+        InValueUnit inValueUnit2 = new InValueUnit(column, new ParameterMarkerExpressionSegment(45, 45, 1), 2);
+        inValueUnit2.getDataNodes().add(new DataNode("db1", "table_1"));
+        InValueUnit inValueUnit3 = new InValueUnit(column, new LiteralExpressionSegment(48, 48, 3), 3);
+        inValueUnit3.getDataNodes().add(new DataNode("db0", "table_1"));
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getInValueUnits().addAll(Arrays.asList(inValueUnit1, inValueUnit2, inValueUnit3));
+        SQLRouteResult result = new SQLRouteResult(new ShardingSelectOptimizedStatement(selectStatement, Collections.singletonList(shardingCondition), Collections.<EncryptCondition>emptyList(),
+                new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false),
+                new SelectItems(Collections.<SelectItem>emptyList(), false, 0), new Pagination(null, null, Collections.emptyList())));
+        RoutingResult routingResult = new RoutingResult();
+        routingResult.getRoutingUnits().add(new RoutingUnit("db0"));
+        routingResult.getRoutingUnits().add(new RoutingUnit("db1"));
+        result.setRoutingResult(routingResult);
+        return result;
+    }
+    
     private SQLRewriteEngine createSQLRewriteEngine(final SQLRouteResult routeResult, final List<Object> parameters) {
         return new SQLRewriteEngine(shardingRule, routeResult, parameters, routeResult.getRoutingResult().isSingleRouting());
     }
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.optimize.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.InsertOptimizeResultUnit;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.ShardingInsertOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Batch route template.
+ *
+ * <p>
+ * Template is available for single row insert of sharding table without generated key, whose sharding columns are given by parameters or literals.
+ * Rewritten SQL of this kind of insert depends on routed data node only, so it is recorded once for every data node.
+ * Following rows of batch are routed by evaluating sharding strategies with their sharding values only,
+ * and reuse rewritten SQL of routed data node with their own parameters.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BatchRouteTemplate {
+    
+    private final String logicTableName;
+    
+    private final TableRule tableRule;
+    
+    private final ShardingStrategy databaseShardingStrategy;
+    
+    private final ShardingStrategy tableShardingStrategy;
+    
+    private final Map<String, ExpressionSegment> databaseShardingExpressions;
+    
+    private final Map<String, ExpressionSegment> tableShardingExpressions;
+    
+    private final Map<DataNode, RouteUnit> routeUnits = new HashMap<>();
+    
+    /**
+     * Create batch route template.
+     *
+     * @param shardingRule sharding rule
+     * @param routeResult route result of first row
+     * @return batch route template, absent if SQL cannot be routed by template
+     */
+    public static Optional<BatchRouteTemplate> newInstance(final ShardingRule shardingRule, final SQLRouteResult routeResult) {
+        OptimizedStatement optimizedStatement = routeResult.getOptimizedStatement();
+        if (!(optimizedStatement instanceof ShardingInsertOptimizedStatement) || 1 != ((ShardingInsertOptimizedStatement) optimizedStatement).getUnits().size()) {
+            return Optional.absent();
+        }
+        ShardingInsertOptimizedStatement insertOptimizedStatement = (ShardingInsertOptimizedStatement) optimizedStatement;
+        if (insertOptimizedStatement.getGeneratedKey().isPresent()) {
+            return Optional.absent();
+        }
+        String logicTableName = insertOptimizedStatement.getSQLStatement().getTables().getSingleTableName();
+        Optional<TableRule> tableRule = shardingRule.findTableRule(logicTableName);
+        if (!tableRule.isPresent() || shardingRule.getEncryptRule().getEncryptorEngine().getEncryptTableNames().contains(logicTableName)) {
+            return Optional.absent();
+        }
+        ShardingStrategy databaseShardingStrategy = shardingRule.getDatabaseShardingStrategy(tableRule.get());
+        ShardingStrategy tableShardingStrategy = shardingRule.getTableShardingStrategy(tableRule.get());
+        if (databaseShardingStrategy instanceof HintShardingStrategy || tableShardingStrategy instanceof HintShardingStrategy) {
+            return Optional.absent();
+        }
+        InsertOptimizeResultUnit unit = insertOptimizedStatement.getUnits().get(0);
+        Optional<Map<String, ExpressionSegment>> databaseShardingExpressions = findShardingExpressions(databaseShardingStrategy, unit);
+        Optional<Map<String, ExpressionSegment>> tableShardingExpressions = findShardingExpressions(tableShardingStrategy, unit);
+        if (!databaseShardingExpressions.isPresent() || !tableShardingExpressions.isPresent()) {
+            return Optional.absent();
+        }
+        return Optional.of(new BatchRouteTemplate(
+                logicTableName, tableRule.get(), databaseShardingStrategy, tableShardingStrategy, databaseShardingExpressions.get(), tableShardingExpressions.get()));
+    }
+    
+    private static Optional<Map<String, ExpressionSegment>> findShardingExpressions(final ShardingStrategy shardingStrategy, final InsertOptimizeResultUnit unit) {
+        Map<String, ExpressionSegment> result = new LinkedHashMap<>();
+        for (String each : unit.getColumnNames()) {
+            if (shardingStrategy.getShardingColumns().contains(each)) {
+                ExpressionSegment expressionSegment = unit.getColumnSQLExpression(each);
+                if (!(expressionSegment instanceof ParameterMarkerExpressionSegment || expressionSegment instanceof LiteralExpressionSegment)) {
+                    return Optional.absent();
+                }
+                result.put(each, expressionSegment);
+            }
+        }
+        return result.size() == shardingStrategy.getShardingColumns().size() ? Optional.of(result) : Optional.<Map<String, ExpressionSegment>>absent();
+    }
+    
+    /**
+     * Record route unit of data node routed by full routing.
+     *
+     * @param routeResult route result
+     * @param parameters SQL parameters
+     * @return route unit is recorded or not, not recorded means this SQL should not be routed by template
+     */
+    public boolean record(final SQLRouteResult routeResult, final List<Object> parameters) {
+        if (1 != routeResult.getRouteUnits().size()) {
+            return false;
+        }
+        List<DataNode> dataNodes = ((ShardingInsertOptimizedStatement) routeResult.getOptimizedStatement()).getUnits().get(0).getDataNodes();
+        Optional<DataNode> dataNode = routeDataNode(parameters);
+        if (1 != dataNodes.size() || !dataNode.isPresent() || !dataNode.get().equals(dataNodes.get(0))) {
+            return false;
+        }
+        RouteUnit routeUnit = routeResult.getRouteUnits().iterator().next();
+        if (!routeUnit.getSqlUnit().getParameters().equals(parameters)) {
+            return false;
+        }
+        routeUnits.put(dataNode.get(), new RouteUnit(routeUnit.getDataSourceName(), new SQLUnit(routeUnit.getSqlUnit().getSql(), Collections.emptyList())));
+        return true;
+    }
+    
+    /**
+     * Route by template.
+     *
+     * @param parameters SQL parameters
+     * @return route unit, absent if no route unit recorded for routed data node
+     */
+    public Optional<RouteUnit> route(final List<Object> parameters) {
+        if (HintManager.isDatabaseShardingOnly()) {
+            return Optional.absent();
+        }
+        Optional<DataNode> dataNode = routeDataNode(parameters);
+        if (!dataNode.isPresent()) {
+            return Optional.absent();
+        }
+        RouteUnit routeUnit = routeUnits.get(dataNode.get());
+        return null == routeUnit ? Optional.<RouteUnit>absent()
+                : Optional.of(new RouteUnit(routeUnit.getDataSourceName(), new SQLUnit(routeUnit.getSqlUnit().getSql(), new ArrayList<>(parameters))));
+    }
+    
+    private Optional<DataNode> routeDataNode(final List<Object> parameters) {
+        Optional<String> dataSourceName = doSharding(databaseShardingStrategy, databaseShardingExpressions, tableRule.getActualDatasourceNames(), parameters);
+        if (!dataSourceName.isPresent()) {
+            return Optional.absent();
+        }
+        Optional<String> tableName = doSharding(tableShardingStrategy, tableShardingExpressions, tableRule.getActualTableNames(dataSourceName.get()), parameters);
+        return tableName.isPresent() ? Optional.of(new DataNode(dataSourceName.get(), tableName.get())) : Optional.<DataNode>absent();
+    }
+    
+    private Optional<String> doSharding(final ShardingStrategy shardingStrategy, 
+                                        final Map<String, ExpressionSegment> shardingExpressions, final Collection<String> availableTargetNames, final List<Object> parameters) {
+        Collection<String> result;
+        if (shardingExpressions.isEmpty()) {
+            result = availableTargetNames;
+        } else {
+            Optional<List<RouteValue>> shardingValues = getShardingValues(shardingExpressions, parameters);
+            if (!shardingValues.isPresent()) {
+                return Optional.absent();
+            }
+            result = shardingStrategy.doSharding(availableTargetNames, shardingValues.get());
+        }
+        return 1 == result.size() ? Optional.of(result.iterator().next()) : Optional.<String>absent();
+    }
+    
+    private Optional<List<RouteValue>> getShardingValues(final Map<String, ExpressionSegment> shardingExpressions, final List<Object> parameters) {
+        List<RouteValue> result = new ArrayList<>(shardingExpressions.size());
+        for (Entry<String, ExpressionSegment> entry : shardingExpressions.entrySet()) {
+            Object value = entry.getValue() instanceof ParameterMarkerExpressionSegment
+                    ? parameters.get(((ParameterMarkerExpressionSegment) entry.getValue()).getParameterMarkerIndex()) : ((LiteralExpressionSegment) entry.getValue()).getLiterals();
+            if (!(value instanceof Comparable)) {
+                return Optional.absent();
+            }
+            result.add(new ListRouteValue<>(entry.getKey(), logicTableName, Collections.singletonList((Comparable<?>) value)));
+        }
+        return Optional.of(result);
+    }
+}
@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -41,13 +42,20 @@ public final class BatchRouteUnit {
     
     private final RouteUnit routeUnit;
     
+    private final int insertValuesCount;
+    
     private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
     
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
     public BatchRouteUnit(final RouteUnit routeUnit) {
+        this(routeUnit, 1);
+    }
+    
+    public BatchRouteUnit(final RouteUnit routeUnit, final int insertValuesCount) {
         this.routeUnit = routeUnit;
+        this.insertValuesCount = insertValuesCount;
     }
     
     /**
@@ -59,6 +67,18 @@ public final class BatchRouteUnit {
         jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
     }
     
+    /**
+     * Map times of use JDBC API call addBatch and times of actual call addBatch for insert values coalesced into one actual call.
+     *
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch for every coalesced insert value
+     */
+    public void mapAddBatchCount(final Collection<Integer> jdbcAddBatchTimes) {
+        for (int each : jdbcAddBatchTimes) {
+            jdbcAndActualAddBatchCallTimesMap.put(each, actualCallAddBatchTimes);
+        }
+        actualCallAddBatchTimes++;
+    }
+    
     /**
      * Get parameter sets.
      * 
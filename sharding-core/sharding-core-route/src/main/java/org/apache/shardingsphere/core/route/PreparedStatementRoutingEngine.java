@@ -46,7 +46,13 @@ public final class PreparedStatementRoutingEngine {
     
     public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule,
                                           final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
+        this(logicSQL, null, shardingRule, shardingMetaData, databaseType, parsingResultCache);
+    }
+    
+    public PreparedStatementRoutingEngine(final String logicSQL, final SQLStatement sqlStatement, final ShardingRule shardingRule,
+                                          final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
         this.logicSQL = logicSQL;
+        this.sqlStatement = sqlStatement;
         shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
     }
@@ -54,7 +60,7 @@ public final class PreparedStatementRoutingEngine {
     /**
      * SQL route.
      * 
-     * <p>First routing time will parse SQL, after second time will reuse first parsed result.</p>
+     * <p>First routing time will parse SQL if no parsed statement given, after second time will reuse first parsed result.</p>
      * 
      * @param parameters parameters of SQL placeholder
      * @return route result
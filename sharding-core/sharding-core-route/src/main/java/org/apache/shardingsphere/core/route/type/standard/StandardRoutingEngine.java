@@ -22,6 +22,7 @@ import com.google.common.base.Preconditions;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.InValueUnit;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.InsertOptimizeResultUnit;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.ShardingInsertOptimizedStatement;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.core.rule.DataNode;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.complex.ComplexShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
@@ -112,22 +114,53 @@ public final class StandardRoutingEngine implements RoutingEngine {
     }
     
     private Collection<DataNode> routeByShardingConditionsWithCondition(final TableRule tableRule) {
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new LinkedHashSet<>();
         for (ShardingCondition each : optimizedStatement.getShardingConditions().getConditions()) {
-            Collection<DataNode> dataNodes = route(tableRule, getShardingValuesFromShardingConditions(shardingRule.getDatabaseShardingStrategy(tableRule).getShardingColumns(), each),
-                    getShardingValuesFromShardingConditions(shardingRule.getTableShardingStrategy(tableRule).getShardingColumns(), each));
+            List<RouteValue> databaseShardingValues = getShardingValuesFromShardingConditions(shardingRule.getDatabaseShardingStrategy(tableRule).getShardingColumns(), each);
+            List<RouteValue> tableShardingValues = getShardingValuesFromShardingConditions(shardingRule.getTableShardingStrategy(tableRule).getShardingColumns(), each);
+            Collection<DataNode> dataNodes = isRoutingByInValueUnits(tableRule, each)
+                    ? routeByInValueUnits(tableRule, each.getInValueUnits(), databaseShardingValues, tableShardingValues) : route(tableRule, databaseShardingValues, tableShardingValues);
             reviseInsertOptimizeResult(each, dataNodes);
             result.addAll(dataNodes);
         }
         return result;
     }
     
+    private boolean isRoutingByInValueUnits(final TableRule tableRule, final ShardingCondition shardingCondition) {
+        return !shardingCondition.getInValueUnits().isEmpty() 
+                && !(shardingRule.getDatabaseShardingStrategy(tableRule) instanceof ComplexShardingStrategy) && !(shardingRule.getTableShardingStrategy(tableRule) instanceof ComplexShardingStrategy);
+    }
+    
+    private Collection<DataNode> routeByInValueUnits(
+            final TableRule tableRule, final Collection<InValueUnit> inValueUnits, final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues) {
+        Collection<DataNode> result = new LinkedHashSet<>();
+        for (InValueUnit each : inValueUnits) {
+            Collection<DataNode> dataNodes = new LinkedList<>();
+            for (String dataSourceName : doRouteDataSources(tableRule, getInValueRouteValues(databaseShardingValues, each))) {
+                dataNodes.addAll(doRouteTables(tableRule, dataSourceName, getInValueRouteValues(tableShardingValues, each)));
+            }
+            each.getDataNodes().addAll(dataNodes);
+            result.addAll(dataNodes);
+        }
+        Preconditions.checkState(!result.isEmpty(), "no table route info");
+        return result;
+    }
+    
+    private List<RouteValue> getInValueRouteValues(final List<RouteValue> routeValues, final InValueUnit inValueUnit) {
+        List<RouteValue> result = new ArrayList<>(routeValues.size());
+        for (RouteValue each : routeValues) {
+            result.add(inValueUnit.getColumn().getName().equals(each.getColumnName()) && inValueUnit.getColumn().getTableName().equals(each.getTableName())
+                    ? new ListRouteValue<>(each.getColumnName(), each.getTableName(), Collections.<Comparable<?>>singletonList(inValueUnit.getValue())) : each);
+        }
+        return result;
+    }
+    
     private Collection<DataNode> routeByMixedConditions(final TableRule tableRule) {
         return optimizedStatement.getShardingConditions().getConditions().isEmpty() ? routeByMixedConditionsWithHint(tableRule) : routeByMixedConditionsWithCondition(tableRule);
     }
     
     private Collection<DataNode> routeByMixedConditionsWithCondition(final TableRule tableRule) {
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new LinkedHashSet<>();
         for (ShardingCondition each : optimizedStatement.getShardingConditions().getConditions()) {
             Collection<DataNode> dataNodes = route(tableRule, getDatabaseShardingValues(tableRule, each), getTableShardingValues(tableRule, each));
             reviseInsertOptimizeResult(each, dataNodes);
@@ -193,20 +226,29 @@ public final class StandardRoutingEngine implements RoutingEngine {
     }
     
     private Collection<String> routeDataSources(final TableRule tableRule, final List<RouteValue> databaseShardingValues) {
+        Collection<String> result = doRouteDataSources(tableRule, databaseShardingValues);
+        Preconditions.checkState(databaseShardingValues.isEmpty() || !result.isEmpty(), "no database route info");
+        return result;
+    }
+    
+    private Collection<String> doRouteDataSources(final TableRule tableRule, final List<RouteValue> databaseShardingValues) {
         Collection<String> availableTargetDatabases = tableRule.getActualDatasourceNames();
         if (databaseShardingValues.isEmpty()) {
             return availableTargetDatabases;
         }
-        Collection<String> result = new LinkedHashSet<>(shardingRule.getDatabaseShardingStrategy(tableRule).doSharding(availableTargetDatabases, databaseShardingValues));
-        Preconditions.checkState(!result.isEmpty(), "no database route info");
-        return result;
+        return new LinkedHashSet<>(shardingRule.getDatabaseShardingStrategy(tableRule).doSharding(availableTargetDatabases, databaseShardingValues));
     }
     
     private Collection<DataNode> routeTables(final TableRule tableRule, final String routedDataSource, final List<RouteValue> tableShardingValues) {
+        Collection<DataNode> result = doRouteTables(tableRule, routedDataSource, tableShardingValues);
+        Preconditions.checkState(!result.isEmpty(), "no table route info");
+        return result;
+    }
+    
+    private Collection<DataNode> doRouteTables(final TableRule tableRule, final String routedDataSource, final List<RouteValue> tableShardingValues) {
         Collection<String> availableTargetTables = tableRule.getActualTableNames(routedDataSource);
         Collection<String> routedTables = new LinkedHashSet<>(tableShardingValues.isEmpty() ? availableTargetTables
                 : shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues));
-        Preconditions.checkState(!routedTables.isEmpty(), "no table route info");
         Collection<DataNode> result = new LinkedList<>();
         for (String each : routedTables) {
             result.add(new DataNode(routedDataSource, each));
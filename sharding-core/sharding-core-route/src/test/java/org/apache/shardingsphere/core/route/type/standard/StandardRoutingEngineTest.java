@@ -21,6 +21,7 @@ import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.optimize.statement.encrypt.condition.EncryptCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.InValueUnit;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.groupby.GroupBy;
@@ -29,9 +30,12 @@ import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ite
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderBy;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.Pagination;
+import org.apache.shardingsphere.core.parse.sql.context.Column;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
@@ -49,6 +53,8 @@ import static org.junit.Assert.assertThat;
 
 public final class StandardRoutingEngineTest {
     
+    private ShardingRule shardingRule;
+    
     private StandardRoutingEngine standardRoutingEngine;
     
     @Before
@@ -57,16 +63,18 @@ public final class StandardRoutingEngineTest {
         shardingRuleConfig.getTableRuleConfigs().add(new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}"));
         shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
         shardingRuleConfig.setDefaultTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
-        List<ShardingCondition> shardingConditions = new ArrayList<>();
         RouteValue shardingValue1 = new ListRouteValue<>("user_id", "t_order", Collections.singleton(1L));
         RouteValue shardingValue2 = new ListRouteValue<>("order_id", "t_order", Collections.singleton(1L));
         ShardingCondition shardingCondition = new ShardingCondition();
         shardingCondition.getRouteValues().add(shardingValue1);
         shardingCondition.getRouteValues().add(shardingValue2);
-        shardingConditions.add(shardingCondition);
-        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
-        standardRoutingEngine = new StandardRoutingEngine(
-                shardingRule, "t_order", new ShardingSelectOptimizedStatement(new SelectStatement(), shardingConditions, Collections.<EncryptCondition>emptyList(), 
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        standardRoutingEngine = createStandardRoutingEngine(shardingCondition);
+    }
+    
+    private StandardRoutingEngine createStandardRoutingEngine(final ShardingCondition shardingCondition) {
+        return new StandardRoutingEngine(
+                shardingRule, "t_order", new ShardingSelectOptimizedStatement(new SelectStatement(), Collections.singletonList(shardingCondition), Collections.<EncryptCondition>emptyList(), 
                 new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false), new SelectItems(Collections.<SelectItem>emptyList(), false, 0), 
                 new Pagination(null, null, Collections.emptyList())));
     }
@@ -82,4 +90,26 @@ public final class StandardRoutingEngineTest {
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getLogicTableName(), is("t_order"));
     }
+    
+    @Test
+    public void assertRouteByInValueUnits() {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getRouteValues().add(new ListRouteValue<>("user_id", "t_order", Collections.singleton(1L)));
+        shardingCondition.getRouteValues().add(new ListRouteValue<>("order_id", "t_order", Arrays.asList(1L, 2L, 3L)));
+        Column column = new Column("order_id", "t_order");
+        InValueUnit inValueUnit1 = new InValueUnit(column, new LiteralExpressionSegment(0, 0, 1L), 1L);
+        InValueUnit inValueUnit2 = new InValueUnit(column, new LiteralExpressionSegment(3, 3, 2L), 2L);
+        InValueUnit inValueUnit3 = new InValueUnit(column, new LiteralExpressionSegment(6, 6, 3L), 3L);
+        shardingCondition.getInValueUnits().addAll(Arrays.asList(inValueUnit1, inValueUnit2, inValueUnit3));
+        RoutingResult routingResult = createStandardRoutingEngine(shardingCondition).route();
+        List<RoutingUnit> routingUnits = new ArrayList<>(routingResult.getRoutingUnits());
+        assertThat(routingUnits.size(), is(2));
+        assertThat(routingUnits.get(0).getDataSourceName(), is("ds_1"));
+        assertThat(routingUnits.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
+        assertThat(routingUnits.get(1).getDataSourceName(), is("ds_1"));
+        assertThat(routingUnits.get(1).getTableUnits().get(0).getActualTableName(), is("t_order_0"));
+        assertThat(inValueUnit1.getDataNodes(), is(Collections.singletonList(new DataNode("ds_1", "t_order_1"))));
+        assertThat(inValueUnit2.getDataNodes(), is(Collections.singletonList(new DataNode("ds_1", "t_order_0"))));
+        assertThat(inValueUnit3.getDataNodes(), is(Collections.singletonList(new DataNode("ds_1", "t_order_1"))));
+    }
 }
@@ -20,19 +20,24 @@ package org.apache.shardingsphere.shardingjdbc.executor;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
-import com.google.common.collect.Collections2;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareCallback;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.InsertOptimizeResultUnit;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.ShardingInsertOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InsertValueToken;
 import org.apache.shardingsphere.core.route.BatchRouteUnit;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 
 import java.sql.Connection;
@@ -40,7 +45,10 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -55,17 +63,22 @@ import java.util.Map.Entry;
  */
 public final class BatchPreparedStatementExecutor extends AbstractStatementExecutor {
     
-    private final Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+    private final Map<RouteUnit, BatchRouteUnit> routeUnits = new LinkedHashMap<>();
+    
+    private final Map<RouteUnit, BatchRouteUnit> executeRouteUnits = new LinkedHashMap<>();
     
     @Getter
     private final boolean returnGeneratedKeys;
     
+    private final int insertValuesMaxSize;
+    
     private int batchCount;
     
     public BatchPreparedStatementExecutor(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final boolean returnGeneratedKeys,
                                           final ShardingConnection shardingConnection) {
         super(resultSetType, resultSetConcurrency, resultSetHoldability, shardingConnection);
         this.returnGeneratedKeys = returnGeneratedKeys;
+        insertValuesMaxSize = shardingConnection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.BATCH_INSERT_VALUES_MAX_SIZE);
     }
     
     /**
@@ -76,12 +89,66 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      */
     public void init(final SQLRouteResult routeResult) throws SQLException {
         setSqlStatement(routeResult.getOptimizedStatement().getSQLStatement());
-        getExecuteGroups().addAll(obtainExecuteGroups(routeUnits));
+        Optional<InsertOptimizeResultUnit> insertValue = 1 < insertValuesMaxSize ? findCoalescibleInsertValue(routeResult) : Optional.<InsertOptimizeResultUnit>absent();
+        for (BatchRouteUnit each : routeUnits.values()) {
+            for (BatchRouteUnit batchRouteUnit : insertValue.isPresent() ? coalesceInsertValues(each, insertValue.get()) : Collections.singletonList(each)) {
+                executeRouteUnits.put(batchRouteUnit.getRouteUnit(), batchRouteUnit);
+            }
+        }
+        getExecuteGroups().addAll(obtainExecuteGroups(executeRouteUnits.values()));
+    }
+    
+    private Optional<InsertOptimizeResultUnit> findCoalescibleInsertValue(final SQLRouteResult routeResult) {
+        if (!(routeResult.getOptimizedStatement() instanceof ShardingInsertOptimizedStatement) || !isAccumulate()) {
+            return Optional.absent();
+        }
+        InsertStatement insertStatement = (InsertStatement) routeResult.getOptimizedStatement().getSQLStatement();
+        List<InsertOptimizeResultUnit> units = ((ShardingInsertOptimizedStatement) routeResult.getOptimizedStatement()).getUnits();
+        if (1 != insertStatement.getValues().size() || 1 != units.size() || 0 == units.get(0).getParameters().length
+                || insertStatement.getValues().iterator().next().getParametersCount() != insertStatement.getParametersCount()) {
+            return Optional.absent();
+        }
+        return Optional.of(units.get(0));
+    }
+    
+    private Collection<BatchRouteUnit> coalesceInsertValues(final BatchRouteUnit batchRouteUnit, final InsertOptimizeResultUnit insertValue) {
+        String sql = batchRouteUnit.getRouteUnit().getSqlUnit().getSql();
+        String insertValueSQL = new InsertValueToken(new ArrayList<>(insertValue.getColumnNames()), Arrays.asList(insertValue.getValues()), insertValue.getDataNodes()).toString();
+        List<Integer> jdbcAddBatchTimes = new ArrayList<>(batchRouteUnit.getJdbcAndActualAddBatchCallTimesMap().keySet());
+        List<Object> parameters = batchRouteUnit.getRouteUnit().getSqlUnit().getParameters();
+        if (jdbcAddBatchTimes.size() < 2 || !sql.endsWith(insertValueSQL) || parameters.size() != jdbcAddBatchTimes.size() * insertValue.getParameters().length) {
+            return Collections.singletonList(batchRouteUnit);
+        }
+        String insertPrefixSQL = sql.substring(0, sql.length() - insertValueSQL.length());
+        int insertValuesCount = Math.min(insertValuesMaxSize, jdbcAddBatchTimes.size());
+        int coalescedCount = jdbcAddBatchTimes.size() / insertValuesCount * insertValuesCount;
+        Collection<BatchRouteUnit> result = new LinkedList<>();
+        result.add(createCoalescedBatchRouteUnit(batchRouteUnit.getRouteUnit().getDataSourceName(), insertPrefixSQL, insertValueSQL, insertValuesCount, 
+                jdbcAddBatchTimes.subList(0, coalescedCount), parameters.subList(0, coalescedCount * insertValue.getParameters().length)));
+        if (coalescedCount < jdbcAddBatchTimes.size()) {
+            result.add(createCoalescedBatchRouteUnit(batchRouteUnit.getRouteUnit().getDataSourceName(), insertPrefixSQL, insertValueSQL, jdbcAddBatchTimes.size() - coalescedCount,
+                    jdbcAddBatchTimes.subList(coalescedCount, jdbcAddBatchTimes.size()), parameters.subList(coalescedCount * insertValue.getParameters().length, parameters.size())));
+        }
+        return result;
+    }
+    
+    private BatchRouteUnit createCoalescedBatchRouteUnit(final String dataSourceName, final String insertPrefixSQL, final String insertValueSQL, 
+                                                         final int insertValuesCount, final List<Integer> jdbcAddBatchTimes, final List<Object> parameters) {
+        StringBuilder sql = new StringBuilder(insertPrefixSQL);
+        for (int i = 0; i < insertValuesCount; i++) {
+            sql.append(insertValueSQL).append(", ");
+        }
+        sql.delete(sql.length() - 2, sql.length());
+        BatchRouteUnit result = new BatchRouteUnit(new RouteUnit(dataSourceName, new SQLUnit(sql.toString(), new ArrayList<>(parameters))), insertValuesCount);
+        for (List<Integer> each : Lists.partition(jdbcAddBatchTimes, insertValuesCount)) {
+            result.mapAddBatchCount(each);
+        }
+        return result;
     }
     
     private Collection<ShardingExecuteGroup<StatementExecuteUnit>> obtainExecuteGroups(final Collection<BatchRouteUnit> routeUnits) throws SQLException {
         return getSqlExecutePrepareTemplate().getExecuteUnitGroups(Lists.transform(new ArrayList<>(routeUnits), new Function<BatchRouteUnit, RouteUnit>() {
-    
+            
             @Override
             public RouteUnit apply(final BatchRouteUnit input) {
                 return input.getRouteUnit();
@@ -112,45 +179,31 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      * @param routeResult route result
      */
     public void addBatchForRouteUnits(final SQLRouteResult routeResult) {
-        handleOldRouteUnits(createBatchRouteUnits(routeResult.getRouteUnits()));
-        handleNewRouteUnits(createBatchRouteUnits(routeResult.getRouteUnits()));
-        batchCount++;
-    }
-    
-    private Collection<BatchRouteUnit> createBatchRouteUnits(final Collection<RouteUnit> routeUnits) {
-        Collection<BatchRouteUnit> result = new LinkedList<>();
-        for (RouteUnit each : routeUnits) {
-            result.add(new BatchRouteUnit(each));
-        }
-        return result;
-    }
-    
-    private void handleOldRouteUnits(final Collection<BatchRouteUnit> newRouteUnits) {
-        for (final BatchRouteUnit each : newRouteUnits) {
-            Optional<BatchRouteUnit> batchRouteUnitOptional = Iterators.tryFind(routeUnits.iterator(), new Predicate<BatchRouteUnit>() {
-                
-                @Override
-                public boolean apply(final BatchRouteUnit input) {
-                    return input.equals(each);
-                }
-            });
-            if (batchRouteUnitOptional.isPresent()) {
-                reviseBatchRouteUnit(batchRouteUnitOptional.get(), each);
-            }
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            addRouteUnit(each);
         }
+        batchCount++;
     }
     
-    private void reviseBatchRouteUnit(final BatchRouteUnit oldBatchRouteUnit, final BatchRouteUnit newBatchRouteUnit) {
-        oldBatchRouteUnit.getRouteUnit().getSqlUnit().getParameters().addAll(newBatchRouteUnit.getRouteUnit().getSqlUnit().getParameters());
-        oldBatchRouteUnit.mapAddBatchCount(batchCount);
+    /**
+     * Add batch for route unit.
+     *
+     * @param routeUnit route unit
+     */
+    public void addBatchForRouteUnit(final RouteUnit routeUnit) {
+        addRouteUnit(routeUnit);
+        batchCount++;
     }
     
-    private void handleNewRouteUnits(final Collection<BatchRouteUnit> newRouteUnits) {
-        newRouteUnits.removeAll(routeUnits);
-        for (BatchRouteUnit each : newRouteUnits) {
-            each.mapAddBatchCount(batchCount);
+    private void addRouteUnit(final RouteUnit routeUnit) {
+        BatchRouteUnit batchRouteUnit = routeUnits.get(routeUnit);
+        if (null == batchRouteUnit) {
+            batchRouteUnit = new BatchRouteUnit(routeUnit);
+            routeUnits.put(routeUnit, batchRouteUnit);
+        } else {
+            batchRouteUnit.getRouteUnit().getSqlUnit().getParameters().addAll(routeUnit.getSqlUnit().getParameters());
         }
-        routeUnits.addAll(newRouteUnits);
+        batchRouteUnit.mapAddBatchCount(batchCount);
     }
     
     /**
@@ -181,15 +234,9 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         int count = 0;
         for (ShardingExecuteGroup<StatementExecuteUnit> each : getExecuteGroups()) {
             for (StatementExecuteUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = null;
-                for (BatchRouteUnit eachRouteUnit : routeUnits) {
-                    if (eachRouteUnit.getRouteUnit().equals(eachUnit.getRouteUnit())) {
-                        jdbcAndActualAddBatchCallTimesMap = eachRouteUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
-                }
-                for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
-                    int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
+                BatchRouteUnit batchRouteUnit = executeRouteUnits.get(eachUnit.getRouteUnit());
+                for (Entry<Integer, Integer> entry : batchRouteUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+                    int value = null == results.get(count) ? 0 : getUpdateCount(results.get(count)[entry.getValue()], batchRouteUnit.getInsertValuesCount());
                     result[entry.getKey()] += value;
                 }
                 count++;
@@ -198,6 +245,13 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         return result;
     }
     
+    private int getUpdateCount(final int actualUpdateCount, final int insertValuesCount) {
+        if (1 == insertValuesCount) {
+            return actualUpdateCount;
+        }
+        return 0 <= actualUpdateCount && 0 == actualUpdateCount % insertValuesCount ? actualUpdateCount / insertValuesCount : Statement.SUCCESS_NO_INFO;
+    }
+    
     /**
      * Get statements.
      *
@@ -247,15 +301,7 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
     }
     
     private List<List<Object>> getParameterSets(final StatementExecuteUnit executeUnit) {
-        List<List<Object>> result;
-        result = Collections2.filter(routeUnits, new Predicate<BatchRouteUnit>() {
-
-            @Override
-            public boolean apply(final BatchRouteUnit input) {
-                return input.getRouteUnit().equals(executeUnit.getRouteUnit());
-            }
-        }).iterator().next().getParameterSets();
-        return result;
+        return executeRouteUnits.get(executeUnit.getRouteUnit()).getParameterSets();
     }
     
     @Override
@@ -263,6 +309,7 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         super.clear();
         batchCount = 0;
         routeUnits.clear();
+        executeRouteUnits.clear();
     }
 }
 
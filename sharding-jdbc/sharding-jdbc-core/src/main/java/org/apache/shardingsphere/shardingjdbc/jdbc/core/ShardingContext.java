@@ -69,11 +69,13 @@ public final class ShardingContext implements AutoCloseable {
         this.databaseType = databaseType;
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
         int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        executeEngine = new ShardingExecuteEngine(executorSize);
+        executeEngine = new ShardingExecuteEngine(executorSize, shardingProperties.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE));
         ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType);
-        ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(getTableMetaDataInitializer(dataSourceMap, shardingDataSourceMetaData).load(shardingRule));
+        ShardingTableMetaData shardingTableMetaData = getTableMetaDataInitializer(dataSourceMap, shardingDataSourceMetaData).load(
+                shardingRule, shardingProperties.<String>getValue(ShardingPropertiesConstant.TABLE_METADATA_SNAPSHOT_FILE));
         metaData = new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
-        parsingResultCache = new ParsingResultCache();
+        parsingResultCache = new ParsingResultCache(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_SIZE), 
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PARSING_TEMPLATE_CACHE_MAX_SIZE));
     }
     
     private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap) throws SQLException {
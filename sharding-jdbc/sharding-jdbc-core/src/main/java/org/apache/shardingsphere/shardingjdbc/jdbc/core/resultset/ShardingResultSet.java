@@ -56,6 +56,30 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
         return mergeResultSet.next();
     }
     
+    @Override
+    public void close() throws SQLException {
+        try {
+            super.close();
+        } finally {
+            closeMergedResult();
+        }
+    }
+    
+    private void closeMergedResult() throws SQLException {
+        if (!(mergeResultSet instanceof AutoCloseable)) {
+            return;
+        }
+        try {
+            ((AutoCloseable) mergeResultSet).close();
+        } catch (final SQLException ex) {
+            throw ex;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new SQLException(ex);
+        }
+    }
+    
     @Override
     public boolean wasNull() throws SQLException {
         return mergeResultSet.wasNull();
@@ -23,6 +23,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Collections2;
 import lombok.Getter;
 import org.apache.shardingsphere.core.PreparedQueryShardingEngine;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
@@ -33,6 +34,8 @@ import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.Sha
 import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.BatchRouteTemplate;
+import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.shardingjdbc.executor.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.executor.PreparedStatementExecutor;
@@ -73,6 +76,10 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private SQLRouteResult routeResult;
     
+    private BatchRouteTemplate batchRouteTemplate;
+    
+    private boolean batchRouteTemplateDisabled;
+    
     private ResultSet currentResultSet;
     
     public ShardingPreparedStatement(final ShardingConnection connection, final String sql) {
@@ -100,6 +107,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
                 shardingContext.getShardingProperties(), shardingContext.getMetaData(), shardingContext.getDatabaseType(), shardingContext.getParsingResultCache());
         preparedStatementExecutor = new PreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
+        batchRouteTemplateDisabled = shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW);
     }
     
     @Override
@@ -110,7 +118,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
             shard();
             initPreparedStatementExecutor();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), preparedStatementExecutor.executeQuery());
+                    connection.getShardingContext().getShardingRule(), connection.getShardingContext().getShardingProperties(), routeResult, connection.getShardingContext().getMetaData().getTable(), preparedStatementExecutor.executeQuery());
             result = getResultSet(mergeEngine);
         } finally {
             clearBatch();
@@ -137,7 +145,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
         if (routeResult.getOptimizedStatement() instanceof ShardingSelectOptimizedStatement || routeResult.getOptimizedStatement().getSQLStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(),
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults);
+                    connection.getShardingContext().getShardingRule(), connection.getShardingContext().getShardingProperties(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults);
             currentResultSet = getCurrentResultSet(resultSets, mergeEngine);
         }
         return currentResultSet;
@@ -212,14 +220,33 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     @Override
     public void addBatch() {
         try {
+            Optional<RouteUnit> routeUnit = null == batchRouteTemplate ? Optional.<RouteUnit>absent() : batchRouteTemplate.route(getParameters());
+            if (routeUnit.isPresent()) {
+                batchPreparedStatementExecutor.addBatchForRouteUnit(routeUnit.get());
+                return;
+            }
             shard();
             batchPreparedStatementExecutor.addBatchForRouteUnits(routeResult);
+            recordBatchRouteTemplate();
         } finally {
             currentResultSet = null;
             clearParameters();
         }
     }
     
+    private void recordBatchRouteTemplate() {
+        if (batchRouteTemplateDisabled) {
+            return;
+        }
+        if (null == batchRouteTemplate) {
+            batchRouteTemplate = BatchRouteTemplate.newInstance(connection.getShardingContext().getShardingRule(), routeResult).orNull();
+        }
+        batchRouteTemplateDisabled = null == batchRouteTemplate || !batchRouteTemplate.record(routeResult, getParameters());
+        if (batchRouteTemplateDisabled) {
+            batchRouteTemplate = null;
+        }
+    }
+    
     private void shard() {
         routeResult = shardingEngine.shard(sql, getParameters());
     }
@@ -34,8 +34,10 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -125,26 +127,29 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
         List<StatementExecuteUnit> preparedStatementExecuteUnits = new LinkedList<>();
         executeGroups.add(new ShardingExecuteGroup<>(preparedStatementExecuteUnits));
-        Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+        Map<RouteUnit, BatchRouteUnit> routeUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             RouteUnit routeUnit = new RouteUnit("ds_0", new SQLUnit(SQL, Collections.singletonList((Object) 1)));
             BatchRouteUnit batchRouteUnit = new BatchRouteUnit(routeUnit);
             batchRouteUnit.mapAddBatchCount(0);
             batchRouteUnit.mapAddBatchCount(1);
-            routeUnits.add(batchRouteUnit);
+            routeUnits.put(routeUnit, batchRouteUnit);
             preparedStatementExecuteUnits.add(new StatementExecuteUnit(routeUnit, each, ConnectionMode.MEMORY_STRICTLY));
         }
         setFields(executeGroups, routeUnits);
     }
     
     @SneakyThrows
-    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Collection<BatchRouteUnit> routeUnits) {
+    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Map<RouteUnit, BatchRouteUnit> routeUnits) {
         Field field = BatchPreparedStatementExecutor.class.getSuperclass().getDeclaredField("executeGroups");
         field.setAccessible(true);
         field.set(actual, executeGroups);
         field = BatchPreparedStatementExecutor.class.getDeclaredField("routeUnits");
         field.setAccessible(true);
         field.set(actual, routeUnits);
+        field = BatchPreparedStatementExecutor.class.getDeclaredField("executeRouteUnits");
+        field.setAccessible(true);
+        field.set(actual, routeUnits);
         field = BatchPreparedStatementExecutor.class.getDeclaredField("batchCount");
         field.setAccessible(true);
         field.set(actual, 2);
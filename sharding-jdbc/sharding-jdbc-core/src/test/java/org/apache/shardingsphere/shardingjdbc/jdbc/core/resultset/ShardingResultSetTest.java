@@ -56,7 +56,9 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public final class ShardingResultSetTest {
     
@@ -108,6 +110,13 @@ public final class ShardingResultSetTest {
         assertFalse(shardingResultSet.wasNull());
     }
     
+    @Test
+    public void assertCloseWithCloseableMergedResult() throws Exception {
+        MergedResult closeableMergedResult = mock(MergedResult.class, withSettings().extraInterfaces(AutoCloseable.class));
+        new ShardingResultSet(getResultSets(), closeableMergedResult, getShardingStatement()).close();
+        verify((AutoCloseable) closeableMergedResult).close();
+    }
+    
     @Test
     public void assertGetBooleanWithColumnIndex() throws SQLException {
         when(mergeResultSet.getValue(1, boolean.class)).thenReturn(true);
@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
 
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingjdbc.common.base.AbstractShardingJDBCDatabaseAndTableTest;
 import org.apache.shardingsphere.shardingjdbc.jdbc.JDBCTestSQL;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSource;
 import org.junit.Test;
 
 import java.sql.Connection;
@@ -26,6 +28,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -181,6 +185,69 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
         }
     }
     
+    @Test
+    public void assertAddBatchWithoutKeyGenerator() throws SQLException {
+        String sql = "INSERT INTO t_order(order_id, user_id, status) VALUES (?, ?, ?)";
+        try (
+            Connection connection = getShardingDataSource().getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+            Statement queryStatement = connection.createStatement()) {
+            for (int i = 0; i < 6; i++) {
+                preparedStatement.setInt(1, 2001 + i);
+                preparedStatement.setInt(2, 10 + i / 2);
+                preparedStatement.setString(3, "BATCH");
+                preparedStatement.addBatch();
+            }
+            int[] result = preparedStatement.executeBatch();
+            assertThat(result.length, is(6));
+            for (int each : result) {
+                assertThat(each, is(1));
+            }
+            for (int i = 0; i < 6; i++) {
+                try (ResultSet rs = queryStatement.executeQuery(String.format("SELECT user_id, status FROM t_order WHERE order_id = %d AND user_id = %d", 2001 + i, 10 + i / 2))) {
+                    assertTrue(rs.next());
+                    assertThat(rs.getInt(1), is(10 + i / 2));
+                    assertThat(rs.getString(2), is("BATCH"));
+                    assertFalse(rs.next());
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void assertAddBatchWithCoalescedInsertValues() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.BATCH_INSERT_VALUES_MAX_SIZE.getKey(), "2");
+        ShardingDataSource shardingDataSource = new ShardingDataSource(
+                getShardingDataSource().getDataSourceMap(), getShardingDataSource().getShardingContext().getShardingRule(), props);
+        String sql = "INSERT INTO t_order(order_id, user_id, status) VALUES (?, ?, ?)";
+        try (
+            Connection connection = shardingDataSource.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+            Statement queryStatement = connection.createStatement()) {
+            for (int i = 0; i < 6; i++) {
+                preparedStatement.setInt(1, 3000 + i * 2);
+                preparedStatement.setInt(2, 5 == i ? 11 : 10);
+                preparedStatement.setString(3, "BATCH");
+                preparedStatement.addBatch();
+            }
+            int[] result = preparedStatement.executeBatch();
+            assertThat(result.length, is(6));
+            for (int each : result) {
+                assertThat(each, is(1));
+            }
+            for (int i = 0; i < 6; i++) {
+                try (ResultSet rs = queryStatement.executeQuery(String.format("SELECT status FROM t_order WHERE order_id = %d AND user_id = %d", 3000 + i * 2, 5 == i ? 11 : 10))) {
+                    assertTrue(rs.next());
+                    assertThat(rs.getString(1), is("BATCH"));
+                    assertFalse(rs.next());
+                }
+            }
+        } finally {
+            shardingDataSource.close(Collections.<String>emptyList());
+        }
+    }
+    
     @Test
     public void assertUpdateBatch() throws SQLException {
         String sql = "UPDATE t_order SET status=? WHERE status=?";
@@ -204,6 +271,26 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
         }
     }
     
+    @Test
+    public void assertExecuteQueryWithInValues() throws SQLException {
+        String sql = "SELECT order_id FROM t_order WHERE user_id = ? AND order_id IN (?, ?, ?) ORDER BY order_id";
+        try (
+            Connection connection = getShardingDataSource().getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setInt(1, 10);
+            preparedStatement.setInt(2, 1000);
+            preparedStatement.setInt(3, 1001);
+            preparedStatement.setInt(4, 1100);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(1000));
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(1001));
+                assertFalse(resultSet.next());
+            }
+        }
+    }
+    
     @Test
     public void assertClearBatch() throws SQLException {
         try (
@@ -37,14 +37,30 @@ public final class OpenTracingRootInvokeHook implements RootInvokeHook {
     
     private ActiveSpan activeSpan;
     
+    private ActiveSpan.Continuation continuation;
+    
     @Override
     public void start() {
         activeSpan = ShardingTracer.get().buildSpan(OPERATION_NAME).withTag(Tags.COMPONENT.getKey(), ShardingTags.COMPONENT_NAME).startActive();
         ShardingExecuteDataMap.getDataMap().put(ACTIVE_SPAN_CONTINUATION, activeSpan.capture());
     }
     
+    @Override
+    public void suspend() {
+        continuation = activeSpan.capture();
+        activeSpan.deactivate();
+        ShardingExecuteDataMap.getDataMap().remove(ACTIVE_SPAN_CONTINUATION);
+    }
+    
+    @Override
+    public void resume() {
+        activeSpan = continuation.activate();
+        continuation = null;
+    }
+    
     @Override
     public void finish(final int connectionCount) {
         activeSpan.setTag(ShardingTags.CONNECTION_COUNT.getKey(), connectionCount).deactivate();
+        ShardingExecuteDataMap.getDataMap().remove(ACTIVE_SPAN_CONTINUATION);
     }
 }
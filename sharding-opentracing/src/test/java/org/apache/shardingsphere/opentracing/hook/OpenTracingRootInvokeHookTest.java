@@ -21,9 +21,17 @@ import org.apache.shardingsphere.core.execute.ShardingExecuteDataMap;
 import org.apache.shardingsphere.core.execute.hook.RootInvokeHook;
 import org.apache.shardingsphere.core.execute.hook.SPIRootInvokeHook;
 import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
+import org.apache.shardingsphere.opentracing.ShardingTracer;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public final class OpenTracingRootInvokeHookTest extends BaseOpenTracingHookTest {
@@ -40,5 +48,30 @@ public final class OpenTracingRootInvokeHookTest extends BaseOpenTracingHookTest
         rootInvokeHook.start();
         assertTrue(ShardingExecuteDataMap.getDataMap().containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION));
         rootInvokeHook.finish(1);
+        assertFalse(ShardingExecuteDataMap.getDataMap().containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION));
+        assertNull(ShardingTracer.get().activeSpan());
+    }
+    
+    @Test
+    public void assertRootInvokeResumedInAnotherThread() throws InterruptedException, ExecutionException {
+        rootInvokeHook.start();
+        rootInvokeHook.suspend();
+        assertFalse(ShardingExecuteDataMap.getDataMap().containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION));
+        assertNull(ShardingTracer.get().activeSpan());
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            executorService.submit(new Runnable() {
+                
+                @Override
+                public void run() {
+                    rootInvokeHook.resume();
+                    assertNotNull(ShardingTracer.get().activeSpan());
+                    rootInvokeHook.finish(1);
+                    assertNull(ShardingTracer.get().activeSpan());
+                }
+            }).get();
+        } finally {
+            executorService.shutdown();
+        }
     }
 }
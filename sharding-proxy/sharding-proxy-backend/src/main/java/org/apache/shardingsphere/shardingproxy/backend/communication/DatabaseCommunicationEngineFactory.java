@@ -19,6 +19,7 @@ package org.apache.shardingsphere.shardingproxy.backend.communication;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
@@ -71,6 +72,21 @@ public final class DatabaseCommunicationEngineFactory {
      * @return instance of text protocol backend handler
      */
     public DatabaseCommunicationEngine newBinaryProtocolInstance(final LogicSchema logicSchema, final String sql, final List<Object> parameters, final BackendConnection backendConnection) {
-        return new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, new PreparedStatementExecutorWrapper(logicSchema, parameters)));
+        return new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, new PreparedStatementExecutorWrapper(logicSchema, parameters, backendConnection)));
+    }
+    
+    /**
+     * Create new instance of binary protocol backend handler with parsed SQL statement.
+     *
+     * @param logicSchema logic schema
+     * @param sql SQL to be executed
+     * @param sqlStatement SQL statement parsed when statement prepared
+     * @param parameters SQL parameters
+     * @param backendConnection backend connection
+     * @return instance of binary protocol backend handler
+     */
+    public DatabaseCommunicationEngine newBinaryProtocolInstance(
+            final LogicSchema logicSchema, final String sql, final SQLStatement sqlStatement, final List<Object> parameters, final BackendConnection backendConnection) {
+        return new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, new PreparedStatementExecutorWrapper(logicSchema, sqlStatement, parameters, backendConnection)));
     }
 }
@@ -25,13 +25,16 @@ import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterVisitedManager;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -78,6 +81,9 @@ public final class BackendConnection implements AutoCloseable {
     
     private final ConnectionStateHandler stateHandler = new ConnectionStateHandler(resourceSynchronizer);
     
+    private final PreparedStatementCache preparedStatementCache = new PreparedStatementCache(
+            ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE));
+    
     public BackendConnection(final TransactionType transactionType) {
         this.transactionType = transactionType;
     }
@@ -207,13 +213,28 @@ public final class BackendConnection implements AutoCloseable {
         return cachedConnections.values().size();
     }
     
+    /**
+     * Prepare statement, which is reused if prepared statement cache is enabled.
+     *
+     * @param connection physical connection
+     * @param sql SQL
+     * @param isReturnGeneratedKeys is return generated keys or not
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    public PreparedStatement prepareStatement(final Connection connection, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+        return preparedStatementCache.getPreparedStatement(connection, sql, isReturnGeneratedKeys);
+    }
+    
     /**
      * Add statement.
      *
      * @param statement statement to be added
      */
     public void add(final Statement statement) {
-        cachedStatements.add(statement);
+        if (!preparedStatementCache.isCached(statement)) {
+            cachedStatements.add(statement);
+        }
     }
     
     /**
@@ -241,6 +262,7 @@ public final class BackendConnection implements AutoCloseable {
         MasterVisitedManager.clear();
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
+        preparedStatementCache.release();
         if (!stateHandler.isInTransaction() || forceClose) {
             exceptions.addAll(releaseConnections(forceClose));
         }
@@ -275,7 +297,7 @@ public final class BackendConnection implements AutoCloseable {
     }
     
     Collection<SQLException> releaseConnections(final boolean forceRollback) {
-        Collection<SQLException> result = new LinkedList<>();
+        Collection<SQLException> result = new LinkedList<>(preparedStatementCache.clear());
         for (Connection each : cachedConnections.values()) {
             try {
                 if (forceRollback && stateHandler.isInTransaction()) {
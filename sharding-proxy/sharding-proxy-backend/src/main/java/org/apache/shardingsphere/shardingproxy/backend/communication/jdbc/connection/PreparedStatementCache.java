@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Prepared statement cache of backend connection.
+ *
+ * <p>
+ * Prepared statements are cached per physical connection with least recently used order, keyed by SQL and whether return generated keys or not.
+ * A cached prepared statement is borrowed by only one execute unit until released, other execute units with same key use new prepared statements.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class PreparedStatementCache {
+    
+    private final int maxSize;
+    
+    private final Map<PreparedStatementKey, PreparedStatement> cachedStatements = new LinkedHashMap<>(16, 0.75f, true);
+    
+    private final Set<Statement> borrowedStatements = Collections.newSetFromMap(new IdentityHashMap<Statement, Boolean>());
+    
+    /**
+     * Get prepared statement.
+     *
+     * @param connection physical connection
+     * @param sql SQL
+     * @param isReturnGeneratedKeys is return generated keys or not
+     * @return prepared statement, which is borrowed if cached
+     * @throws SQLException SQL exception
+     */
+    public synchronized PreparedStatement getPreparedStatement(final Connection connection, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+        if (maxSize <= 0) {
+            return prepareStatement(connection, sql, isReturnGeneratedKeys);
+        }
+        PreparedStatementKey key = new PreparedStatementKey(connection, sql, isReturnGeneratedKeys);
+        PreparedStatement result = cachedStatements.get(key);
+        if (null != result) {
+            if (borrowedStatements.contains(result)) {
+                return prepareStatement(connection, sql, isReturnGeneratedKeys);
+            }
+            result.clearParameters();
+            result.setFetchSize(0);
+            borrowedStatements.add(result);
+            return result;
+        }
+        result = prepareStatement(connection, sql, isReturnGeneratedKeys);
+        if (evictIfNecessary()) {
+            cachedStatements.put(key, result);
+            borrowedStatements.add(result);
+        }
+        return result;
+    }
+    
+    private PreparedStatement prepareStatement(final Connection connection, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+        return isReturnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+    }
+    
+    private boolean evictIfNecessary() {
+        if (cachedStatements.size() < maxSize) {
+            return true;
+        }
+        Iterator<PreparedStatement> iterator = cachedStatements.values().iterator();
+        while (iterator.hasNext()) {
+            PreparedStatement each = iterator.next();
+            if (!borrowedStatements.contains(each)) {
+                iterator.remove();
+                closeQuietly(each);
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void closeQuietly(final Statement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    /**
+     * Judge statement is cached or not.
+     *
+     * @param statement statement
+     * @return statement is cached or not
+     */
+    public synchronized boolean isCached(final Statement statement) {
+        return borrowedStatements.contains(statement);
+    }
+    
+    /**
+     * Release all borrowed prepared statements for reusing.
+     */
+    public synchronized void release() {
+        borrowedStatements.clear();
+    }
+    
+    /**
+     * Close and remove all cached prepared statements.
+     *
+     * @return SQL exceptions thrown when closing
+     */
+    public synchronized Collection<SQLException> clear() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (Entry<PreparedStatementKey, PreparedStatement> entry : cachedStatements.entrySet()) {
+            try {
+                entry.getValue().close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedStatements.clear();
+        borrowedStatements.clear();
+        return result;
+    }
+    
+    /**
+     * Get size of cached prepared statements.
+     *
+     * @return size of cached prepared statements
+     */
+    public synchronized int size() {
+        return cachedStatements.size();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class PreparedStatementKey {
+        
+        private final Connection connection;
+        
+        private final String sql;
+        
+        private final boolean returnGeneratedKeys;
+    }
+}
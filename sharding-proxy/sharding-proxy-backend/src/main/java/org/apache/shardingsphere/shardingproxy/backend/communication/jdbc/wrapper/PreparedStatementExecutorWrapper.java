@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.PreparedQueryShardingEngine;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.optimize.OptimizeEngineFactory;
@@ -29,6 +28,7 @@ import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterSlaveRouter;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.schema.EncryptSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.MasterSlaveSchema;
@@ -48,15 +48,29 @@ import java.util.List;
  * @author zhangliang
  * @author panjuan
  */
-@RequiredArgsConstructor
 public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapper {
     
     private static final ShardingProxyContext SHARDING_PROXY_CONTEXT = ShardingProxyContext.getInstance();
     
     private final LogicSchema logicSchema;
     
+    private final SQLStatement sqlStatement;
+    
     private final List<Object> parameters;
     
+    private final BackendConnection backendConnection;
+    
+    public PreparedStatementExecutorWrapper(final LogicSchema logicSchema, final List<Object> parameters, final BackendConnection backendConnection) {
+        this(logicSchema, null, parameters, backendConnection);
+    }
+    
+    public PreparedStatementExecutorWrapper(final LogicSchema logicSchema, final SQLStatement sqlStatement, final List<Object> parameters, final BackendConnection backendConnection) {
+        this.logicSchema = logicSchema;
+        this.sqlStatement = sqlStatement;
+        this.parameters = parameters;
+        this.backendConnection = backendConnection;
+    }
+    
     @Override
     public SQLRouteResult route(final String sql, final DatabaseType databaseType) {
         if (logicSchema instanceof ShardingSchema) {
@@ -69,7 +83,7 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     }
     
     private SQLRouteResult doShardingRoute(final String sql, final DatabaseType databaseType) {
-        PreparedQueryShardingEngine shardingEngine = new PreparedQueryShardingEngine(sql, logicSchema.getShardingRule(), 
+        PreparedQueryShardingEngine shardingEngine = new PreparedQueryShardingEngine(sql, sqlStatement, logicSchema.getShardingRule(), 
                 ShardingProxyContext.getInstance().getShardingProperties(), logicSchema.getMetaData(), databaseType, logicSchema.getParsingResultCache());
         return shardingEngine.shard(sql, parameters);
     }
@@ -99,7 +113,7 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     
     @Override
     public Statement createStatement(final Connection connection, final SQLUnit sqlUnit, final boolean isReturnGeneratedKeys) throws SQLException {
-        PreparedStatement result = isReturnGeneratedKeys ? connection.prepareStatement(sqlUnit.getSql(), Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sqlUnit.getSql());
+        PreparedStatement result = backendConnection.prepareStatement(connection, sqlUnit.getSql(), isReturnGeneratedKeys);
         for (int i = 0; i < sqlUnit.getParameters().size(); i++) {
             result.setObject(i + 1, sqlUnit.getParameters().get(i));
         }
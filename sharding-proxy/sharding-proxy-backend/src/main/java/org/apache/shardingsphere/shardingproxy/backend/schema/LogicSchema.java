@@ -55,7 +55,9 @@ public abstract class LogicSchema {
     
     public LogicSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources) {
         this.name = name;
-        parsingResultCache = new ParsingResultCache();
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        parsingResultCache = new ParsingResultCache(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_SIZE), 
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PARSING_TEMPLATE_CACHE_MAX_SIZE));
         backendDataSource = new JDBCBackendDataSource(dataSources);
         ShardingOrchestrationEventBus.getInstance().register(this);
     }
@@ -22,6 +22,7 @@ import com.google.common.base.Strings;
 import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
@@ -40,6 +41,7 @@ import org.apache.shardingsphere.orchestration.internal.registry.state.schema.Or
 import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationMasterSlaveRule;
 import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationShardingRule;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.util.Collection;
 import java.util.Map;
@@ -73,10 +75,15 @@ public final class ShardingSchema extends LogicSchema {
     
     private ShardingMetaData createShardingMetaData() {
         ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(getDataSources()), shardingRule, LogicSchemas.getInstance().getDatabaseType());
-        ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(getTableMetaDataInitializer(shardingDataSourceMetaData).load(shardingRule));
+        ShardingTableMetaData shardingTableMetaData = getTableMetaDataInitializer(shardingDataSourceMetaData).load(shardingRule, getTableMetaDataSnapshotFile());
         return new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
     }
     
+    private String getTableMetaDataSnapshotFile() {
+        String result = ShardingProxyContext.getInstance().getShardingProperties().getValue(ShardingPropertiesConstant.TABLE_METADATA_SNAPSHOT_FILE);
+        return result.isEmpty() ? result : String.format("%s.%s", result, getName());
+    }
+    
     /**
      * Renew sharding rule.
      *
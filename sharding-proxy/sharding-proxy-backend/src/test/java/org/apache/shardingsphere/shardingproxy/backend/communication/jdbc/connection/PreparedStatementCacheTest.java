@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PreparedStatementCacheTest {
+    
+    @Mock
+    private Connection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(connection.prepareStatement("SELECT 1")).thenReturn(mock(PreparedStatement.class), mock(PreparedStatement.class), mock(PreparedStatement.class));
+        when(connection.prepareStatement("SELECT 2")).thenReturn(mock(PreparedStatement.class));
+        when(connection.prepareStatement("INSERT INTO t_order VALUES (?)", Statement.RETURN_GENERATED_KEYS)).thenReturn(mock(PreparedStatement.class));
+    }
+    
+    @Test
+    public void assertGetPreparedStatementWithoutCache() throws SQLException {
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(0);
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, "SELECT 1", false);
+        preparedStatementCache.release();
+        assertThat(preparedStatementCache.getPreparedStatement(connection, "SELECT 1", false), not(actual));
+        assertFalse(preparedStatementCache.isCached(actual));
+        assertThat(preparedStatementCache.size(), is(0));
+    }
+    
+    @Test
+    public void assertGetPreparedStatementAfterReleased() throws SQLException {
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(16);
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, "SELECT 1", false);
+        assertTrue(preparedStatementCache.isCached(actual));
+        preparedStatementCache.release();
+        assertFalse(preparedStatementCache.isCached(actual));
+        assertThat(preparedStatementCache.getPreparedStatement(connection, "SELECT 1", false), is(actual));
+        verify(actual).clearParameters();
+        verify(connection, times(1)).prepareStatement("SELECT 1");
+    }
+    
+    @Test
+    public void assertGetPreparedStatementWhenBorrowed() throws SQLException {
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(16);
+        PreparedStatement borrowed = preparedStatementCache.getPreparedStatement(connection, "SELECT 1", false);
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, "SELECT 1", false);
+        assertThat(actual, not(borrowed));
+        assertFalse(preparedStatementCache.isCached(actual));
+    }
+    
+    @Test
+    public void assertGetPreparedStatementWithGeneratedKeys() throws SQLException {
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(16);
+        preparedStatementCache.getPreparedStatement(connection, "INSERT INTO t_order VALUES (?)", true);
+        verify(connection).prepareStatement("INSERT INTO t_order VALUES (?)", Statement.RETURN_GENERATED_KEYS);
+        assertThat(preparedStatementCache.size(), is(1));
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsed() throws SQLException {
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(1);
+        PreparedStatement evicted = preparedStatementCache.getPreparedStatement(connection, "SELECT 1", false);
+        preparedStatementCache.release();
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, "SELECT 2", false);
+        assertTrue(preparedStatementCache.isCached(actual));
+        assertThat(preparedStatementCache.size(), is(1));
+        verify(evicted).close();
+    }
+    
+    @Test
+    public void assertClear() throws SQLException {
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(16);
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, "SELECT 1", false);
+        assertTrue(preparedStatementCache.clear().isEmpty());
+        assertThat(preparedStatementCache.size(), is(0));
+        assertFalse(preparedStatementCache.isCached(actual));
+        verify(actual).close();
+    }
+}
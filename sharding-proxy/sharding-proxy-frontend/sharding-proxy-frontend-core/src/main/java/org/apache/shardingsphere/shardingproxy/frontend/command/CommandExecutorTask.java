@@ -59,41 +59,54 @@ public final class CommandExecutorTask implements Runnable {
         rootInvokeHook.start();
         int connectionSize = 0;
         boolean isNeedFlush = false;
-        try (BackendConnection backendConnection = this.backendConnection;
-             PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
+        QueryDataWriteTask queryDataWriteTask = null;
+        try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
             backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
             backendConnection.getStateHandler().setRunningStatusIfNecessary();
-            isNeedFlush = executeCommand(context, payload, backendConnection);
+            CommandExecutor commandExecutor = getCommandExecutor(payload, backendConnection);
+            Collection<DatabasePacket> responsePackets = commandExecutor.execute();
             connectionSize = backendConnection.getConnectionSize();
+            for (DatabasePacket each : responsePackets) {
+                context.write(each);
+            }
+            if (!responsePackets.isEmpty() && commandExecutor instanceof QueryCommandExecutor) {
+                queryDataWriteTask = new QueryDataWriteTask(
+                        databaseProtocolFrontendEngine, backendConnection, context, (QueryCommandExecutor) commandExecutor, responsePackets.size(), rootInvokeHook, connectionSize);
+            } else {
+                isNeedFlush = !responsePackets.isEmpty() && databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
+                backendConnection.close();
+            }
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
             log.error("Exception occur: ", ex);
             context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
+            closeBackendConnection();
         } finally {
             if (isNeedFlush) {
                 context.flush();
             }
-            rootInvokeHook.finish(connectionSize);
+            if (null == queryDataWriteTask) {
+                rootInvokeHook.finish(connectionSize);
+            }
+        }
+        if (null != queryDataWriteTask) {
+            queryDataWriteTask.run();
         }
     }
     
-    private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
+    private CommandExecutor getCommandExecutor(final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
         CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
         CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
         CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
-        CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
-        Collection<DatabasePacket> responsePackets = commandExecutor.execute();
-        if (responsePackets.isEmpty()) {
-            return false;
-        }
-        for (DatabasePacket each : responsePackets) {
-            context.write(each);
-        }
-        if (commandExecutor instanceof QueryCommandExecutor) {
-            commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
-            return true;
+        return commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
+    }
+    
+    private void closeBackendConnection() {
+        try {
+            backendConnection.close();
+        } catch (final SQLException ex) {
+            log.error("Exception occur: ", ex);
         }
-        return databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
     }
 }
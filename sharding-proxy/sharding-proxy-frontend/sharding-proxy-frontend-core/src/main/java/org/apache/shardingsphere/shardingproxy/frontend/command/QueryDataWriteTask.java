@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.hook.RootInvokeHook;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.CommandExecutorSelector;
+import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+
+import java.sql.SQLException;
+
+/**
+ * Query data write task.
+ *
+ * <p>
+ * Query data are written only while channel is writable, so slow clients never block command executor threads.
+ * Task is suspended when channel becomes unwritable, and submitted to command executor again when channel becomes writable.
+ * Root invoke hook is suspended before task is published for resuming, and resumed in the thread which runs task again.
+ * Backend connection is closed after all query data written.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class QueryDataWriteTask implements Runnable {
+    
+    private static final AttributeKey<QueryDataWriteTask> SUSPENDED_TASK = AttributeKey.valueOf(QueryDataWriteTask.class, "SUSPENDED_TASK");
+    
+    private final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
+    
+    private final BackendConnection backendConnection;
+    
+    private final ChannelHandlerContext context;
+    
+    private final QueryCommandExecutor queryCommandExecutor;
+    
+    private final int headerPackagesCount;
+    
+    private final RootInvokeHook rootInvokeHook;
+    
+    private final int connectionSize;
+    
+    private int queryDataCount;
+    
+    private boolean suspended;
+    
+    /**
+     * Resume suspended task of channel.
+     *
+     * @param channel channel
+     */
+    public static void resume(final Channel channel) {
+        QueryDataWriteTask task = channel.attr(SUSPENDED_TASK).getAndSet(null);
+        if (null != task) {
+            CommandExecutorSelector.getExecutor(task.databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(),
+                    task.backendConnection.getTransactionType(), channel.id()).execute(task);
+        }
+    }
+    
+    @Override
+    public void run() {
+        boolean isFinished = true;
+        if (suspended) {
+            suspended = false;
+            rootInvokeHook.resume();
+        }
+        try {
+            isFinished = writeQueryData();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.error("Exception occur: ", ex);
+            context.write(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
+        } finally {
+            if (isFinished) {
+                finish();
+            }
+        }
+    }
+    
+    private boolean writeQueryData() throws SQLException {
+        Channel channel = context.channel();
+        int flushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        while (queryCommandExecutor.isQuery() && channel.isActive()) {
+            if (!channel.isWritable()) {
+                context.flush();
+                if (suspend(channel)) {
+                    return false;
+                }
+                continue;
+            }
+            if (!queryCommandExecutor.next()) {
+                break;
+            }
+            context.write(queryCommandExecutor.getQueryData());
+            if (0 == ++queryDataCount % flushThreshold) {
+                context.flush();
+            }
+        }
+        CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
+        for (DatabasePacket each : commandExecuteEngine.getQueryDataEndPackets(queryCommandExecutor, headerPackagesCount, queryDataCount)) {
+            context.write(each);
+        }
+        return true;
+    }
+    
+    private boolean suspend(final Channel channel) {
+        suspended = true;
+        rootInvokeHook.suspend();
+        Attribute<QueryDataWriteTask> suspendedTask = channel.attr(SUSPENDED_TASK);
+        suspendedTask.set(this);
+        if ((channel.isActive() && !channel.isWritable()) || !suspendedTask.compareAndSet(this, null)) {
+            return true;
+        }
+        suspended = false;
+        rootInvokeHook.resume();
+        return false;
+    }
+    
+    private void finish() {
+        try {
+            backendConnection.close();
+        } catch (final SQLException ex) {
+            log.error("Exception occur: ", ex);
+            context.write(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
+        } finally {
+            context.flush();
+            rootInvokeHook.finish(connectionSize);
+        }
+    }
+}
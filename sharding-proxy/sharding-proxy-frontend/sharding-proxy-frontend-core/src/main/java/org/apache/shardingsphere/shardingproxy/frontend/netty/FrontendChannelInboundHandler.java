@@ -27,6 +27,7 @@ import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesCons
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.command.CommandExecutorTask;
+import org.apache.shardingsphere.shardingproxy.frontend.command.QueryDataWriteTask;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelThreadExecutorGroup;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.CommandExecutorSelector;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
@@ -83,13 +84,14 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
         context.fireChannelInactive();
         databaseProtocolFrontendEngine.release(backendConnection);
         backendConnection.close(true);
+        QueryDataWriteTask.resume(context.channel());
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
     }
     
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
-            backendConnection.getResourceSynchronizer().doNotify();
+            QueryDataWriteTask.resume(context.channel());
         }
     }
 }
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelId;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.core.execute.hook.RootInvokeHook;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelThreadExecutorGroup;
+import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class QueryDataWriteTaskTest {
+    
+    @Mock
+    private DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
+    
+    @Mock
+    private CommandExecuteEngine commandExecuteEngine;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    @Mock
+    private RootInvokeHook rootInvokeHook;
+    
+    @Mock
+    private DatabasePacket queryData;
+    
+    @Mock
+    private DatabasePacket endPacket;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(context.channel()).thenReturn(channel);
+        when(channel.isActive()).thenReturn(true);
+        when(databaseProtocolFrontendEngine.getCommandExecuteEngine()).thenReturn(commandExecuteEngine);
+        when(commandExecuteEngine.getQueryDataEndPackets(queryCommandExecutor, 2, 3)).thenReturn(Collections.singletonList(endPacket));
+        when(queryCommandExecutor.isQuery()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true, true, true, false);
+        when(queryCommandExecutor.getQueryData()).thenReturn(queryData);
+    }
+    
+    @Test
+    public void assertRunWithWritableChannel() throws SQLException {
+        when(channel.isWritable()).thenReturn(true);
+        new QueryDataWriteTask(databaseProtocolFrontendEngine, backendConnection, context, queryCommandExecutor, 2, rootInvokeHook, 1).run();
+        verify(context, times(3)).write(queryData);
+        verify(context).write(endPacket);
+        verify(backendConnection).close();
+        verify(rootInvokeHook).finish(1);
+    }
+    
+    @Test
+    public void assertRunWithUnwritableChannel() throws SQLException, ExecutionException, InterruptedException {
+        final DefaultAttributeMap attributeMap = new DefaultAttributeMap();
+        when(channel.attr(ArgumentMatchers.<AttributeKey<Object>>any())).thenAnswer(new Answer<Attribute<Object>>() {
+            
+            @Override
+            public Attribute<Object> answer(final InvocationOnMock invocation) {
+                return attributeMap.attr(invocation.<AttributeKey<Object>>getArgument(0));
+            }
+        });
+        ChannelId channelId = mock(ChannelId.class);
+        when(channel.id()).thenReturn(channelId);
+        when(databaseProtocolFrontendEngine.getFrontendContext()).thenReturn(new FrontendContext(true, false));
+        when(channel.isWritable()).thenReturn(true, false);
+        final Map<String, Thread> hookThreads = new ConcurrentHashMap<>();
+        doAnswer(recordHookThread(hookThreads, "suspend")).when(rootInvokeHook).suspend();
+        doAnswer(recordHookThread(hookThreads, "resume")).when(rootInvokeHook).resume();
+        doAnswer(recordHookThread(hookThreads, "finish")).when(rootInvokeHook).finish(1);
+        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        try {
+            new QueryDataWriteTask(databaseProtocolFrontendEngine, backendConnection, context, queryCommandExecutor, 2, rootInvokeHook, 1).run();
+            verify(context, times(1)).write(queryData);
+            verify(backendConnection, never()).close();
+            verify(rootInvokeHook).suspend();
+            verify(rootInvokeHook, never()).resume();
+            verify(rootInvokeHook, never()).finish(anyInt());
+            when(channel.isWritable()).thenReturn(true);
+            QueryDataWriteTask.resume(channel);
+            ChannelThreadExecutorGroup.getInstance().get(channelId).submit(new Runnable() {
+                
+                @Override
+                public void run() {
+                }
+            }).get();
+        } finally {
+            ChannelThreadExecutorGroup.getInstance().unregister(channelId);
+        }
+        verify(context, times(3)).write(queryData);
+        verify(context).write(endPacket);
+        verify(backendConnection).close();
+        InOrder inOrder = inOrder(rootInvokeHook);
+        inOrder.verify(rootInvokeHook).suspend();
+        inOrder.verify(rootInvokeHook).resume();
+        inOrder.verify(rootInvokeHook).finish(1);
+        assertThat(hookThreads.get("suspend"), is(Thread.currentThread()));
+        assertThat(hookThreads.get("resume"), not(Thread.currentThread()));
+        assertThat(hookThreads.get("finish"), is(hookThreads.get("resume")));
+    }
+    
+    private Answer<Void> recordHookThread(final Map<String, Thread> hookThreads, final String action) {
+        return new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                hookThreads.put(action, Thread.currentThread());
+                return null;
+            }
+        };
+    }
+}
@@ -64,7 +64,7 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     public MySQLComStmtExecuteExecutor(final MySQLComStmtExecutePacket comStmtExecutePacket, final BackendConnection backendConnection) {
         databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(
-                backendConnection.getLogicSchema(), comStmtExecutePacket.getSql(), comStmtExecutePacket.getParameters(), backendConnection);
+                backendConnection.getLogicSchema(), comStmtExecutePacket.getSql(), comStmtExecutePacket.getSqlStatement(), comStmtExecutePacket.getParameters(), backendConnection);
     }
     
     @Override
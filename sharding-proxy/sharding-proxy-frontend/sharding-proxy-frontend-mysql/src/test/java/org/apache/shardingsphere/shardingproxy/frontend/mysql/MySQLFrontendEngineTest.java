@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.rule.ProxyUser;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.ConnectionIdGenerator;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLHandshakePacket;
@@ -37,6 +38,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.lang.reflect.Field;
 import java.util.Collections;
 
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
@@ -67,6 +69,17 @@ public final class MySQLFrontendEngineTest {
     public void assertHandshake() {
         mysqlFrontendEngine.getAuthEngine().handshake(context, mock(BackendConnection.class));
         verify(context).writeAndFlush(isA(MySQLHandshakePacket.class));
+        assertNotNull(MySQLBinaryStatementRegistry.getInstance().get(1));
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertRelease() {
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        when(backendConnection.getConnectionId()).thenReturn(1);
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        mysqlFrontendEngine.release(backendConnection);
+        MySQLBinaryStatementRegistry.getInstance().get(1);
     }
     
     @Test
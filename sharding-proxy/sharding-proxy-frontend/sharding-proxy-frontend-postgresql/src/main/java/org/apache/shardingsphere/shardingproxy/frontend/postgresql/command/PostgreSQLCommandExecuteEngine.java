@@ -17,10 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command;
 
-import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
-import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
@@ -38,6 +35,8 @@ import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.gener
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.payload.PostgreSQLPacketPayload;
 
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
 
 /**
  * Command execute engine for PostgreSQL.
@@ -67,29 +66,7 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     }
     
     @Override
-    public void writeQueryData(final ChannelHandlerContext context,
-                               final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
-        if (queryCommandExecutor.isQuery() && !context.channel().isActive()) {
-            context.write(new PostgreSQLCommandCompletePacket());
-            context.write(new PostgreSQLReadyForQueryPacket());
-            return;
-        }
-        int count = 0;
-        int proxyFrontendFlushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
-            }
-            DatabasePacket resultValue = queryCommandExecutor.getQueryData();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == count) {
-                context.flush();
-                count = 0;
-            }
-        }
-        context.write(new PostgreSQLCommandCompletePacket());
-        context.write(new PostgreSQLReadyForQueryPacket());
+    public Collection<DatabasePacket> getQueryDataEndPackets(final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount, final int queryDataCount) {
+        return Arrays.<DatabasePacket>asList(new PostgreSQLCommandCompletePacket(), new PostgreSQLReadyForQueryPacket());
     }
 }
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.engine;
 
-import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
@@ -27,6 +26,7 @@ import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
 import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 
 import java.sql.SQLException;
+import java.util.Collection;
 
 /**
  * Command execute engine.
@@ -73,13 +73,12 @@ public interface CommandExecuteEngine {
     DatabasePacket getErrorPacket(Exception cause);
     
     /**
-     * Write query data.
+     * Get packets to be written after query data.
      *
-     * @param context channel handler context
-     * @param backendConnection backend connection
      * @param queryCommandExecutor query command executor
      * @param headerPackagesCount count of header packages
-     * @throws SQLException SQL exception
+     * @param queryDataCount count of written query data
+     * @return packets to be written after query data
      */
-    void writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, int headerPackagesCount) throws SQLException;
+    Collection<DatabasePacket> getQueryDataEndPackets(QueryCommandExecutor queryCommandExecutor, int headerPackagesCount, int queryDataCount);
 }
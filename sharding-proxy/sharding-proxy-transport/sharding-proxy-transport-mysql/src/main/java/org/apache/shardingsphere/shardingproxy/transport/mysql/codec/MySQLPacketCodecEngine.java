@@ -19,6 +19,7 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
@@ -28,10 +29,21 @@ import java.util.List;
 /**
  * Database packet codec for MySQL.
  * 
+ * <p>
+ * Payload is written into output directly after reserved header, and length of payload is written back into header.
+ * Payload which is not less than 16MB is split into several packets, the sequence IDs of following packets are shifted for the split packets.
+ * </p>
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/sending-more-than-16mbyte.html">Sending more than 16Mbyte</a>
+ * 
  * @author zhangliang 
  */
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
+    private static final AttributeKey<Integer> SEQUENCE_ID_OFFSET = AttributeKey.valueOf(MySQLPacketCodecEngine.class, "SEQUENCE_ID_OFFSET");
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
         return readableBytes > MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
@@ -46,15 +58,52 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
             return;
         }
         out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+        if (context.channel().hasAttr(SEQUENCE_ID_OFFSET)) {
+            context.channel().attr(SEQUENCE_ID_OFFSET).set(null);
+        }
     }
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        int headerIndex = out.writerIndex();
+        out.writerIndex(headerIndex + HEADER_LENGTH);
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        int sequenceIdOffset = getSequenceIdOffset(context);
+        int sequenceId = message.getSequenceId() + sequenceIdOffset;
+        if (payloadLength < MySQLPacket.MAX_PAYLOAD_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+            out.setByte(headerIndex + MySQLPacket.PAYLOAD_LENGTH, sequenceId);
+            return;
+        }
+        int splitPacketCount = split(out, headerIndex, payloadLength, sequenceId);
+        context.channel().attr(SEQUENCE_ID_OFFSET).set(sequenceIdOffset + splitPacketCount - 1);
+    }
+    
+    private int getSequenceIdOffset(final ChannelHandlerContext context) {
+        if (!context.channel().hasAttr(SEQUENCE_ID_OFFSET)) {
+            return 0;
+        }
+        Integer result = context.channel().attr(SEQUENCE_ID_OFFSET).get();
+        return null == result ? 0 : result;
+    }
+    
+    private int split(final ByteBuf out, final int headerIndex, final int payloadLength, final int sequenceId) {
+        ByteBuf payload = out.copy(headerIndex + HEADER_LENGTH, payloadLength);
+        try {
+            out.writerIndex(headerIndex);
+            int result = 0;
+            int chunkLength;
+            do {
+                chunkLength = Math.min(payload.readableBytes(), MySQLPacket.MAX_PAYLOAD_LENGTH);
+                out.writeMediumLE(chunkLength);
+                out.writeByte(sequenceId + result);
+                out.writeBytes(payload, chunkLength);
+                result++;
+            } while (MySQLPacket.MAX_PAYLOAD_LENGTH == chunkLength);
+            return result;
+        } finally {
+            payload.release();
         }
     }
     
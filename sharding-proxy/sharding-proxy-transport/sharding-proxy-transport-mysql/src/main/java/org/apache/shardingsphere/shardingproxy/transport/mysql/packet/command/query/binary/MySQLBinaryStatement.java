@@ -20,12 +20,18 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.q
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 
 import java.util.List;
 
 /**
  * Binary prepared statement for MySQL.
  *
+ * <p>
+ * Only SQL statement parsed at COM_STMT_PREPARE is kept, so that COM_STMT_EXECUTE skips parsing.
+ * Optimizing, routing and rewriting still run on every execute, because they depend on parameters and current sharding rule.
+ * </p>
+ *
  * @author zhangyonglun
  */
 @RequiredArgsConstructor
@@ -37,5 +43,7 @@ public final class MySQLBinaryStatement {
     
     private final int parametersCount;
     
+    private final SQLStatement sqlStatement;
+    
     private List<MySQLBinaryStatementParameterType> parameterTypes;
 }
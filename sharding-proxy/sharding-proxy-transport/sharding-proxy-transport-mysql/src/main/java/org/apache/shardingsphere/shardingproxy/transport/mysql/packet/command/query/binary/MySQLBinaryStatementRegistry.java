@@ -17,12 +17,12 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary;
 
+import com.google.common.base.Preconditions;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * MySQL binary prepared statement registry.
@@ -36,11 +36,7 @@ public final class MySQLBinaryStatementRegistry {
     
     private static final MySQLBinaryStatementRegistry INSTANCE = new MySQLBinaryStatementRegistry();
     
-    private final ConcurrentMap<String, Integer> statementIdAssigner = new ConcurrentHashMap<>(65535, 1);
-    
-    private final ConcurrentMap<Integer, MySQLBinaryStatement> binaryStatements = new ConcurrentHashMap<>(65535, 1);
-    
-    private final AtomicInteger sequence = new AtomicInteger();
+    private final ConcurrentMap<Integer, MySQLConnectionScopeBinaryStatementRegistry> registries = new ConcurrentHashMap<>();
     
     /**
      * Get prepared statement registry instance.
@@ -52,43 +48,33 @@ public final class MySQLBinaryStatementRegistry {
     }
     
     /**
-     * Register SQL.
+     * Register.
      *
-     * @param sql SQL
-     * @param parametersCount parameters count
-     * @return statement ID
+     * @param connectionId connection id
      */
-    public synchronized int register(final String sql, final int parametersCount) {
-        Integer result = statementIdAssigner.get(sql);
-        if (null != result) {
-            return result;
-        }
-        result = sequence.incrementAndGet();
-        statementIdAssigner.putIfAbsent(sql, result);
-        binaryStatements.putIfAbsent(result, new MySQLBinaryStatement(sql, parametersCount));
-        return result;
+    public void register(final int connectionId) {
+        registries.put(connectionId, new MySQLConnectionScopeBinaryStatementRegistry());
     }
     
     /**
-     * Get binary prepared statement.
+     * Unregister.
      *
-     * @param statementId statement ID
-     * @return binary prepared statement
+     * @param connectionId connection id
      */
-    public MySQLBinaryStatement getBinaryStatement(final int statementId) {
-        return binaryStatements.get(statementId);
+    public void unregister(final int connectionId) {
+        registries.remove(connectionId);
     }
     
     /**
-     * Remove expired cache statement.
+     * Get connection scope binary statement registry.
      *
-     * @param statementId statement ID
+     * @param connectionId connection id
+     * @return connection scope binary statement registry
+     * @throws IllegalStateException connection is not registered
      */
-    public synchronized void remove(final int statementId) {
-        MySQLBinaryStatement binaryStatement = getBinaryStatement(statementId);
-        if (null != binaryStatement) {
-            statementIdAssigner.remove(binaryStatement.getSql());
-            binaryStatements.remove(statementId);
-        }
+    public MySQLConnectionScopeBinaryStatementRegistry get(final int connectionId) {
+        MySQLConnectionScopeBinaryStatementRegistry result = registries.get(connectionId);
+        Preconditions.checkState(null != result, "Can not find binary statement registry of connection `%s`.", connectionId);
+        return result;
     }
 }
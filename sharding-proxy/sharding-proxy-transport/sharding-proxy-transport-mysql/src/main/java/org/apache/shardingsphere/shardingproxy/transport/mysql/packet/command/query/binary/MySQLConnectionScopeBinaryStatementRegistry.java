@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary;
+
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection scope binary statement registry for MySQL.
+ *
+ * <p>
+ * Statement IDs are assigned per connection as MySQL server does, and statements are removed by COM_STMT_CLOSE or when connection closed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class MySQLConnectionScopeBinaryStatementRegistry {
+    
+    private final ConcurrentMap<Integer, MySQLBinaryStatement> binaryStatements = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger sequence = new AtomicInteger();
+    
+    /**
+     * Register SQL.
+     *
+     * @param sql SQL
+     * @param parametersCount parameters count
+     * @param sqlStatement parsed SQL statement
+     * @return statement ID
+     */
+    public int register(final String sql, final int parametersCount, final SQLStatement sqlStatement) {
+        int result = sequence.incrementAndGet();
+        binaryStatements.put(result, new MySQLBinaryStatement(sql, parametersCount, sqlStatement));
+        return result;
+    }
+    
+    /**
+     * Get binary prepared statement.
+     *
+     * @param statementId statement ID
+     * @return binary prepared statement
+     */
+    public MySQLBinaryStatement getBinaryStatement(final int statementId) {
+        return binaryStatements.get(statementId);
+    }
+    
+    /**
+     * Remove closed statement.
+     *
+     * @param statementId statement ID
+     */
+    public void remove(final int statementId) {
+        binaryStatements.remove(statementId);
+    }
+}
@@ -37,15 +37,18 @@ public final class MySQLComStmtClosePacket extends MySQLCommandPacket {
     
     private final int statementId;
     
-    public MySQLComStmtClosePacket(final MySQLPacketPayload payload) {
+    private final int connectionId;
+    
+    public MySQLComStmtClosePacket(final MySQLPacketPayload payload, final int connectionId) {
         super(MySQLCommandPacketType.COM_STMT_CLOSE);
         statementId = payload.readInt4();
+        this.connectionId = connectionId;
     }
     
     /**
      * Remove cached statement.
      */
     public void removeCachedStatement() {
-        MySQLBinaryStatementRegistry.getInstance().remove(statementId);
+        MySQLBinaryStatementRegistry.getInstance().get(connectionId).remove(statementId);
     }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.q
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.ToString;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLColumnType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLNewParametersBoundFlag;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacket;
@@ -62,13 +63,17 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     @Getter
     private final String sql;
     
+    @Getter
+    private final SQLStatement sqlStatement;
+    
     @Getter
     private final List<Object> parameters;
     
-    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload) throws SQLException {
+    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload, final int connectionId) throws SQLException {
         super(MySQLCommandPacketType.COM_STMT_EXECUTE);
         statementId = payload.readInt4();
-        binaryStatement = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(statementId);
+        binaryStatement = MySQLBinaryStatementRegistry.getInstance().get(connectionId).getBinaryStatement(statementId);
+        Preconditions.checkArgument(null != binaryStatement, "Can not find binary statement `%s` of connection `%s`.", statementId, connectionId);
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parametersCount = binaryStatement.getParametersCount();
@@ -81,6 +86,7 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
             binaryStatement.setParameterTypes(getParameterTypes(payload, parametersCount));
         }
         sql = binaryStatement.getSql();
+        sqlStatement = binaryStatement.getSqlStatement();
         parameters = getParameters(payload, parametersCount);
     }
     
@@ -18,14 +18,16 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.LinkedList;
@@ -35,8 +37,9 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -60,6 +63,7 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertDecode() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
         when(byteBuf.readMediumLE()).thenReturn(50);
         when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
@@ -79,18 +83,63 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
-        MySQLPacket actualMessage = mock(MySQLPacket.class);
-        when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.<MySQLPacketPayload>any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, mockMessage(1, 50), out);
+        assertThat(out.readableBytes(), is(54));
+        assertThat(out.readMediumLE(), is(50));
+        assertThat(out.readByte(), is((byte) 1));
+    }
+    
+    @Test
+    public void assertEncodeWithMaxPayloadLength() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, mockMessage(1, MySQLPacket.MAX_PAYLOAD_LENGTH), out);
+        assertThat(out.readableBytes(), is(MySQLPacket.MAX_PAYLOAD_LENGTH + 8));
+        assertThat(out.readUnsignedMediumLE(), is(MySQLPacket.MAX_PAYLOAD_LENGTH));
+        assertThat(out.readByte(), is((byte) 1));
+        out.skipBytes(MySQLPacket.MAX_PAYLOAD_LENGTH);
+        assertThat(out.readMediumLE(), is(0));
+        assertThat(out.readByte(), is((byte) 2));
+    }
+    
+    @Test
+    public void assertEncodeWithLargePayloadAndFollowingPacket() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        ByteBuf out = Unpooled.buffer();
+        codecEngine.encode(context, mockMessage(1, MySQLPacket.MAX_PAYLOAD_LENGTH + 10), out);
+        codecEngine.encode(context, mockMessage(2, 5), out);
+        assertThat(out.readUnsignedMediumLE(), is(MySQLPacket.MAX_PAYLOAD_LENGTH));
+        assertThat(out.readByte(), is((byte) 1));
+        assertThat(out.readByte(), is((byte) 0));
+        out.skipBytes(MySQLPacket.MAX_PAYLOAD_LENGTH - 1);
+        assertThat(out.readMediumLE(), is(10));
+        assertThat(out.readByte(), is((byte) 2));
+        assertThat(out.readByte(), is((byte) (MySQLPacket.MAX_PAYLOAD_LENGTH % 256)));
+        out.skipBytes(9);
+        assertThat(out.readMediumLE(), is(5));
+        assertThat(out.readByte(), is((byte) 3));
+        out.skipBytes(5);
+        assertFalse(out.isReadable());
+    }
+    
+    private MySQLPacket mockMessage(final int sequenceId, final int payloadLength) {
+        MySQLPacket result = mock(MySQLPacket.class);
+        when(result.getSequenceId()).thenReturn(sequenceId);
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                MySQLPacketPayload payload = invocation.getArgument(0);
+                for (int i = 0; i < payloadLength; i++) {
+                    payload.writeInt1(i);
+                }
+                return null;
+            }
+        }).when(result).write(any(MySQLPacketPayload.class));
+        return result;
     }
     
     @Test
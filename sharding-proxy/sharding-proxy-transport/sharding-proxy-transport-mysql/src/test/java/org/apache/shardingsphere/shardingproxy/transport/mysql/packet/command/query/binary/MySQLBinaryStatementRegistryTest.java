@@ -17,12 +17,13 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary;
 
-import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
@@ -31,33 +32,52 @@ public final class MySQLBinaryStatementRegistryTest {
     private final String sql = "SELECT * FROM tbl WHERE id=?";
     
     @Before
+    public void setUp() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+    }
+    
     @After
-    public void reset() {
-        BinaryStatementRegistryUtil.reset();
+    public void tearDown() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
+        MySQLBinaryStatementRegistry.getInstance().unregister(2);
     }
     
     @Test
-    public void assertRegisterIfAbsent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
+    public void assertRegister() {
+        SelectStatement sqlStatement = new SelectStatement();
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1, sqlStatement), is(1));
+        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(1);
         assertThat(actual.getSql(), is(sql));
         assertThat(actual.getParametersCount(), is(1));
+        assertThat(actual.getSqlStatement(), is((Object) sqlStatement));
     }
     
     @Test
-    public void assertRegisterIfPresent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
-        assertThat(actual.getSql(), is(sql));
-        assertThat(actual.getParametersCount(), is(1));
+    public void assertRegisterSameSQLTwice() {
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1, new SelectStatement()), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1, new SelectStatement()), is(2));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(2).getSql(), is(sql));
+    }
+    
+    @Test
+    public void assertRegisterWithDifferentConnections() {
+        MySQLBinaryStatementRegistry.getInstance().register(2);
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1, new SelectStatement()), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(2).register("SELECT * FROM tbl", 0, new SelectStatement()), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(1), not(MySQLBinaryStatementRegistry.getInstance().get(2).getBinaryStatement(1)));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(2).getBinaryStatement(1).getSql(), is("SELECT * FROM tbl"));
     }
     
     @Test
     public void assertRemoveIfPresent() {
-        MySQLBinaryStatementRegistry.getInstance().register(sql, 1);
-        MySQLBinaryStatementRegistry.getInstance().remove(1);
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
-        assertNull(actual);
+        MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1, new SelectStatement());
+        MySQLBinaryStatementRegistry.getInstance().get(1).remove(1);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(1));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertUnregister() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
+        MySQLBinaryStatementRegistry.getInstance().get(1);
     }
 }